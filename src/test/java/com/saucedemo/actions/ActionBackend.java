@@ -0,0 +1,90 @@
+package com.saucedemo.actions;
+
+import com.saucedemo.actions.model.ModelLoginActions;
+import com.saucedemo.actions.model.ShopModel;
+import com.saucedemo.pages.LoginPage;
+import com.saucedemo.resilience.SiteGuard;
+import com.saucedemo.session.NetworkConditions;
+import com.saucedemo.session.SessionManager;
+
+import java.util.Locale;
+
+import static io.github.boykaframework.manager.ParallelSession.getSession;
+
+/**
+ * What the action interfaces drive
+ * Selected per run with -Dactions.backend=browser|model; tests written against {@link LoginActions} and friends
+ * run on either without changes
+ */
+public enum ActionBackend {
+
+    /** A real browser through Boyka and Selenium (default) */
+    BROWSER {
+        @Override
+        public LoginActions open(String configKey) {
+            // Retries connectivity failures with backoff; skips fast while the site is down
+            SiteGuard.createSession(configKey);
+            LoginPage page = new LoginPage();
+            Waits.forPage(page.READY);
+            return new LoginPageActions(page);
+        }
+
+        @Override
+        public void emulateNetwork(String profile) {
+            NetworkConditions.apply(profile);
+            // The page open so far came over the machine's network; load it again on the emulated one
+            getSession().getDriver().navigate().refresh();
+        }
+
+        @Override
+        public void close() {
+            SessionManager.clearSession();
+        }
+    },
+
+    /** An in-JVM model of the site's rules ({@link ShopModel}); no browser, no network */
+    MODEL {
+        @Override
+        public LoginActions open(String configKey) {
+            return new ModelLoginActions(new ShopModel());
+        }
+
+        @Override
+        public void emulateNetwork(String profile) {
+            // The model has no network to slow down
+        }
+
+        @Override
+        public void close() {
+            // Nothing outlives the test: the model is dropped with its actions
+        }
+    };
+
+    /**
+     * Start a test on the login page
+     * @param configKey the web config key, e.g. "test_web"
+     * @return actions for the login page
+     */
+    public abstract LoginActions open(String configKey);
+
+    /**
+     * Run the rest of the current thread's test under a network profile, see {@link NetworkConditions}
+     * The browser reloads the current page on the new network, so call it before the test's first action.
+     * @param profile the profile name, e.g. "fast-3g", or "none"
+     */
+    public abstract void emulateNetwork(String profile);
+
+    /**
+     * End the current thread's test, releasing whatever {@link #open} took
+     */
+    public abstract void close();
+
+    /**
+     * Resolve the backend for this run
+     * @return the backend from the actions.backend system property, BROWSER if unset
+     */
+    public static ActionBackend current() {
+        String value = System.getProperty("actions.backend", BROWSER.name());
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,21 @@
+package com.saucedemo.actions;
+
+/**
+ * Cart page actions, whatever the backend
+ */
+public interface CartActions {
+
+    CartActions verifyCartItemPresent();
+
+    boolean hasItems();
+
+    /**
+     * Every cart row's name, quantity and price in one read
+     * @return the cart's contents, without totals
+     */
+    CartContents readCart();
+
+    CheckoutActions proceedToCheckout();
+
+    InventoryActions continueShopping();
+}
@@ -0,0 +1,159 @@
+package com.saucedemo.actions;
+
+import com.saucedemo.pages.Product;
+import org.openqa.selenium.JavascriptExecutor;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import static io.github.boykaframework.manager.ParallelSession.getSession;
+
+/**
+ * Every row of the cart list and, on the checkout overview, the order totals, as read in one go
+ * Totals are null on the cart page, which does not show them.
+ */
+public final class CartContents {
+
+    // One script for the whole list: rows and totals come back in a single WebDriver round trip
+    private static final String READ_SCRIPT = String.join("\n",
+        "function amount(text) { var m = /\\$\\s*([0-9]+(\\.[0-9]+)?)/.exec(text || ''); return m ? m[1] : null; }",
+        "function label(css) { var e = document.querySelector(css); return e ? amount(e.textContent) : null; }",
+        "var rows = Array.prototype.map.call(document.querySelectorAll('.cart_item'), function (item) {",
+        "  function text(css) { var e = item.querySelector(css); return e ? e.textContent.trim() : null; }",
+        "  return { name: text('.inventory_item_name'), quantity: text('.cart_quantity'),",
+        "           price: amount(text('.inventory_item_price')) };",
+        "});",
+        "return { rows: rows, subtotal: label('.summary_subtotal_label'), tax: label('.summary_tax_label'),",
+        "         total: label('.summary_total_label') };");
+
+    private final List<Row> rows;
+    private final BigDecimal subtotal;
+    private final BigDecimal tax;
+    private final BigDecimal total;
+
+    public CartContents(List<Row> rows, BigDecimal subtotal, BigDecimal tax, BigDecimal total) {
+        this.rows = List.copyOf(rows);
+        this.subtotal = subtotal;
+        this.tax = tax;
+        this.total = total;
+    }
+
+    /**
+     * One line of the cart list
+     */
+    public static final class Row {
+        private final String name;
+        private final int quantity;
+        private final BigDecimal price;
+
+        public Row(String name, int quantity, BigDecimal price) {
+            this.name = name;
+            this.quantity = quantity;
+            this.price = price;
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public int getQuantity() {
+            return quantity;
+        }
+
+        public BigDecimal getPrice() {
+            return price;
+        }
+
+        @Override
+        public String toString() {
+            return quantity + " x " + name + " @ " + price;
+        }
+    }
+
+    public List<Row> getRows() {
+        return rows;
+    }
+
+    /**
+     * Item total shown on the overview, null on the cart page
+     */
+    public BigDecimal getSubtotal() {
+        return subtotal;
+    }
+
+    /**
+     * Tax shown on the overview, null on the cart page
+     */
+    public BigDecimal getTax() {
+        return tax;
+    }
+
+    /**
+     * Order total shown on the overview, null on the cart page
+     */
+    public BigDecimal getTotal() {
+        return total;
+    }
+
+    /**
+     * Names of the rows, in list order
+     */
+    public List<String> names() {
+        List<String> names = new ArrayList<>();
+        rows.forEach(row -> names.add(row.getName()));
+        return names;
+    }
+
+    /**
+     * Whether the rows are exactly these products, in any order, one of each, at catalog prices
+     * A row whose price could not be read never matches.
+     * @param products the expected products
+     * @return true if they match
+     */
+    public boolean matches(List<Product> products) {
+        if (rows.size() != products.size()) {
+            return false;
+        }
+        List<String> remaining = new ArrayList<>(names());
+        for (Product product : products) {
+            Row row = rows.stream().filter(r -> product.getDisplayName().equals(r.getName())).findFirst().orElse(null);
+            if (row == null || row.getQuantity() != 1 || row.getPrice() == null
+                || row.getPrice().compareTo(product.getPrice()) != 0 || !remaining.remove(product.getDisplayName())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return rows + (total == null ? "" : " subtotal " + subtotal + ", tax " + tax + ", total " + total);
+    }
+
+    // Helper methods
+
+    /**
+     * Read the page shown in this thread's session
+     */
+    @SuppressWarnings("unchecked")
+    static CartContents read() {
+        Object result = ((JavascriptExecutor) getSession().getDriver()).executeScript(READ_SCRIPT);
+        Map<String, Object> page = result instanceof Map ? (Map<String, Object>) result : Collections.emptyMap();
+        List<Row> rows = new ArrayList<>();
+        for (Object item : (List<Object>) page.getOrDefault("rows", List.of())) {
+            Map<String, Object> row = (Map<String, Object>) item;
+            String quantity = (String) row.get("quantity");
+            rows.add(new Row((String) row.get("name"),
+                quantity == null || quantity.isBlank() ? 1 : Integer.parseInt(quantity.trim()),
+                amount(row.get("price"))));
+        }
+        return new CartContents(rows, amount(page.get("subtotal")), amount(page.get("tax")), amount(page.get("total")));
+    }
+
+    private static BigDecimal amount(Object text) {
+        return text == null ? null : new BigDecimal(text.toString());
+    }
+}
@@ -1,18 +1,17 @@
 package com.saucedemo.actions;
 
 import com.saucedemo.pages.CartPage;
+import com.saucedemo.trace.ActionStep;
 import io.github.boykaframework.actions.elements.ClickableActions;
 import io.github.boykaframework.exception.FrameworkError;
-import org.openqa.selenium.JavascriptExecutor;
 
 import static io.github.boykaframework.actions.elements.ElementActions.onElement;
-import static io.github.boykaframework.manager.ParallelSession.getSession;
 
 /**
  * Actions for CartPage
  * Contains all methods/actions for the shopping cart page
  */
-public class CartPageActions {
+public class CartPageActions implements CartActions {
     
     private final CartPage page;
     
@@ -25,11 +24,13 @@ public class CartPageActions {
      * @return CartPageActions instance for method chaining
      */
     public CartPageActions verifyCartItemPresent() {
-        if (!waitForCssPresent(".cart_item", 3000)) {
-            // Fall back to framework assertion
-            onElement(page.CART_ITEM).verifyIsDisplayed().isTrue();
-        }
-        return this;
+        return ActionStep.call(page, "verifyCartItemPresent", page.CART_ITEM, () -> {
+            if (!Waits.forCssPresent(".cart_item", 3000)) {
+                // Fall back to framework assertion
+                onElement(page.CART_ITEM).verifyIsDisplayed().isTrue();
+            }
+            return this;
+        });
     }
     
     /**
@@ -37,12 +38,22 @@ public class CartPageActions {
      * @return true if cart item is displayed
      */
     public boolean hasItems() {
-        try {
-            onElement(page.CART_ITEM).verifyIsDisplayed().isTrue();
-            return true;
-        } catch (AssertionError | FrameworkError e) {
-            return false;
-        }
+        return ActionStep.call(page, "hasItems", page.CART_ITEM, () -> {
+            try {
+                onElement(page.CART_ITEM).verifyIsDisplayed().isTrue();
+                return true;
+            } catch (AssertionError | FrameworkError e) {
+                return false;
+            }
+        });
+    }
+    
+    /**
+     * Read every cart row (name, quantity, price) in one round trip
+     * @return the cart's contents; totals are null on this page
+     */
+    public CartContents readCart() {
+        return ActionStep.call(page, "readCart", page.CART_LIST, CartContents::read);
     }
     
     /**
@@ -50,8 +61,12 @@ public class CartPageActions {
      * @return CheckoutPageActions instance
      */
     public CheckoutPageActions proceedToCheckout() {
-        ClickableActions.withMouse(page.CHECKOUT_BUTTON).click();
-        return new CheckoutPageActions(new com.saucedemo.pages.CheckoutPage());
+        return ActionStep.call(page, "proceedToCheckout", page.CHECKOUT_BUTTON, () -> {
+            ClickableActions.withMouse(page.CHECKOUT_BUTTON).click();
+            com.saucedemo.pages.CheckoutPage checkout = new com.saucedemo.pages.CheckoutPage();
+            Waits.forPage(checkout.READY);
+            return new CheckoutPageActions(checkout);
+        });
     }
     
     /**
@@ -59,26 +74,11 @@ public class CartPageActions {
      * @return InventoryPageActions instance
      */
     public InventoryPageActions continueShopping() {
-        ClickableActions.withMouse(page.CONTINUE_SHOPPING_BUTTON).click();
-        return new InventoryPageActions(new com.saucedemo.pages.InventoryPage());
-    }
-    
-    // Helper methods
-    
-    private boolean waitForCssPresent(String selector, long timeoutMs) {
-        try {
-            JavascriptExecutor js = (JavascriptExecutor) getSession().getDriver();
-            long start = System.currentTimeMillis();
-            while (System.currentTimeMillis() - start < timeoutMs) {
-                Long count = (Long) js.executeScript("return document.querySelectorAll(arguments[0]).length;", selector);
-                if (count != null && count > 0) return true;
-                sleep(100);
-            }
-        } catch (Exception ignored) {}
-        return false;
-    }
-    
-    private void sleep(long millis) {
-        try { Thread.sleep(millis); } catch (InterruptedException ignored) { }
+        return ActionStep.call(page, "continueShopping", page.CONTINUE_SHOPPING_BUTTON, () -> {
+            ClickableActions.withMouse(page.CONTINUE_SHOPPING_BUTTON).click();
+            com.saucedemo.pages.InventoryPage inventory = new com.saucedemo.pages.InventoryPage();
+            Waits.forPage(inventory.READY);
+            return new InventoryPageActions(inventory);
+        });
     }
 }
@@ -0,0 +1,36 @@
+package com.saucedemo.actions;
+
+/**
+ * Checkout information and overview page actions, whatever the backend
+ */
+public interface CheckoutActions {
+
+    CheckoutActions enterFirstName(String firstName);
+
+    CheckoutActions enterLastName(String lastName);
+
+    CheckoutActions enterZipCode(String zipCode);
+
+    CheckoutActions fillCheckoutInformation(String firstName, String lastName, String zipCode);
+
+    CheckoutActions clickContinue();
+
+    /**
+     * Every row and the item total, tax and total of the checkout overview in one read
+     * @return the order as the overview shows it
+     */
+    CartContents readOverview();
+
+    ConfirmationActions clickFinish();
+
+    CartActions clickCancel();
+
+    /**
+     * Fill the form, continue and finish
+     * @param firstName the first name
+     * @param lastName the last name
+     * @param zipCode the zip code
+     * @return actions for the confirmation page
+     */
+    ConfirmationActions completeCheckout(String firstName, String lastName, String zipCode);
+}
@@ -1,6 +1,7 @@
 package com.saucedemo.actions;
 
 import com.saucedemo.pages.CheckoutPage;
+import com.saucedemo.trace.ActionStep;
 import io.github.boykaframework.actions.elements.ClickableActions;
 import io.github.boykaframework.actions.elements.TextBoxActions;
 
@@ -8,7 +9,7 @@ import io.github.boykaframework.actions.elements.TextBoxActions;
  * Actions for CheckoutPage
  * Contains all methods/actions for the checkout information and overview pages
  */
-public class CheckoutPageActions {
+public class CheckoutPageActions implements CheckoutActions {
     
     private final CheckoutPage page;
     
@@ -22,8 +23,10 @@ public class CheckoutPageActions {
      * @return CheckoutPageActions instance for method chaining
      */
     public CheckoutPageActions enterFirstName(String firstName) {
-        TextBoxActions.onTextBox(page.FIRST_NAME_FIELD).enterText(firstName);
-        return this;
+        return ActionStep.call(page, "enterFirstName", page.FIRST_NAME_FIELD, () -> {
+            TextBoxActions.onTextBox(page.FIRST_NAME_FIELD).enterText(firstName);
+            return this;
+        });
     }
     
     /**
@@ -32,8 +35,10 @@ public class CheckoutPageActions {
      * @return CheckoutPageActions instance for method chaining
      */
     public CheckoutPageActions enterLastName(String lastName) {
-        TextBoxActions.onTextBox(page.LAST_NAME_FIELD).enterText(lastName);
-        return this;
+        return ActionStep.call(page, "enterLastName", page.LAST_NAME_FIELD, () -> {
+            TextBoxActions.onTextBox(page.LAST_NAME_FIELD).enterText(lastName);
+            return this;
+        });
     }
     
     /**
@@ -42,8 +47,10 @@ public class CheckoutPageActions {
      * @return CheckoutPageActions instance for method chaining
      */
     public CheckoutPageActions enterZipCode(String zipCode) {
-        TextBoxActions.onTextBox(page.ZIP_CODE_FIELD).enterText(zipCode);
-        return this;
+        return ActionStep.call(page, "enterZipCode", page.ZIP_CODE_FIELD, () -> {
+            TextBoxActions.onTextBox(page.ZIP_CODE_FIELD).enterText(zipCode);
+            return this;
+        });
     }
     
     /**
@@ -54,19 +61,35 @@ public class CheckoutPageActions {
      * @return CheckoutPageActions instance for method chaining
      */
     public CheckoutPageActions fillCheckoutInformation(String firstName, String lastName, String zipCode) {
-        enterFirstName(firstName);
-        enterLastName(lastName);
-        enterZipCode(zipCode);
-        return this;
+        return ActionStep.call(page, "fillCheckoutInformation", null, () -> {
+            enterFirstName(firstName);
+            enterLastName(lastName);
+            enterZipCode(zipCode);
+            return this;
+        });
     }
     
     /**
-     * Click continue button to go to overview page
+     * Click continue button to go to overview page, waiting for the totals or a validation error
      * @return CheckoutPageActions instance (now on overview page)
      */
     public CheckoutPageActions clickContinue() {
-        ClickableActions.withMouse(page.CONTINUE_BUTTON).click();
-        return this;
+        return ActionStep.call(page, "clickContinue", page.CONTINUE_BUTTON, () -> {
+            ClickableActions.withMouse(page.CONTINUE_BUTTON).click();
+            Waits.forPage(page.OVERVIEW_READY.orCss(LoginPageActions.ERROR_SELECTOR));
+            return this;
+        });
+    }
+    
+    /**
+     * Read the overview's rows and its item total, tax and total in one round trip
+     * @return the order as the overview shows it
+     */
+    public CartContents readOverview() {
+        return ActionStep.call(page, "readOverview", page.SUMMARY_INFO, () -> {
+            Waits.forCssPresent(".summary_total_label", 3000);
+            return CartContents.read();
+        });
     }
     
     /**
@@ -74,8 +97,12 @@ public class CheckoutPageActions {
      * @return ConfirmationPageActions instance
      */
     public ConfirmationPageActions clickFinish() {
-        ClickableActions.withMouse(page.FINISH_BUTTON).click();
-        return new ConfirmationPageActions(new com.saucedemo.pages.ConfirmationPage());
+        return ActionStep.call(page, "clickFinish", page.FINISH_BUTTON, () -> {
+            ClickableActions.withMouse(page.FINISH_BUTTON).click();
+            com.saucedemo.pages.ConfirmationPage confirmation = new com.saucedemo.pages.ConfirmationPage();
+            Waits.forPage(confirmation.READY);
+            return new ConfirmationPageActions(confirmation);
+        });
     }
     
     /**
@@ -83,8 +110,12 @@ public class CheckoutPageActions {
      * @return CartPageActions instance
      */
     public CartPageActions clickCancel() {
-        ClickableActions.withMouse(page.CANCEL_BUTTON).click();
-        return new CartPageActions(new com.saucedemo.pages.CartPage());
+        return ActionStep.call(page, "clickCancel", page.CANCEL_BUTTON, () -> {
+            ClickableActions.withMouse(page.CANCEL_BUTTON).click();
+            com.saucedemo.pages.CartPage cart = new com.saucedemo.pages.CartPage();
+            Waits.forPage(cart.READY);
+            return new CartPageActions(cart);
+        });
     }
     
     /**
@@ -95,8 +126,10 @@ public class CheckoutPageActions {
      * @return ConfirmationPageActions instance
      */
     public ConfirmationPageActions completeCheckout(String firstName, String lastName, String zipCode) {
-        fillCheckoutInformation(firstName, lastName, zipCode);
-        clickContinue();
-        return clickFinish();
+        return ActionStep.call(page, "completeCheckout", null, () -> {
+            fillCheckoutInformation(firstName, lastName, zipCode);
+            clickContinue();
+            return clickFinish();
+        });
     }
 }
@@ -0,0 +1,17 @@
+package com.saucedemo.actions;
+
+/**
+ * Order confirmation page actions, whatever the backend
+ */
+public interface ConfirmationActions {
+
+    ConfirmationActions verifyOrderComplete();
+
+    String getConfirmationMessage();
+
+    String getConfirmationText();
+
+    ConfirmationActions verifyConfirmationMessage(String expectedText);
+
+    boolean isConfirmationDisplayed();
+}
@@ -1,6 +1,7 @@
 package com.saucedemo.actions;
 
 import com.saucedemo.pages.ConfirmationPage;
+import com.saucedemo.trace.ActionStep;
 import io.github.boykaframework.exception.FrameworkError;
 
 import static io.github.boykaframework.actions.elements.ElementActions.onElement;
@@ -9,7 +10,7 @@ import static io.github.boykaframework.actions.elements.ElementActions.onElement
  * Actions for ConfirmationPage
  * Contains all methods/actions for the order confirmation page
  */
-public class ConfirmationPageActions {
+public class ConfirmationPageActions implements ConfirmationActions {
     
     private final ConfirmationPage page;
     
@@ -22,8 +23,12 @@ public class ConfirmationPageActions {
      * @return ConfirmationPageActions instance for method chaining
      */
     public ConfirmationPageActions verifyOrderComplete() {
-        onElement(page.CONFIRMATION_MESSAGE).verifyIsDisplayed().isTrue();
-        return this;
+        return ActionStep.call(page, "verifyOrderComplete", page.CONFIRMATION_MESSAGE, () -> {
+            // Header, text and back button render together; check them in one batch
+            Waits.forAllCssPresent(3000, ".complete-header", ".complete-text", "#back-to-products");
+            onElement(page.CONFIRMATION_MESSAGE).verifyIsDisplayed().isTrue();
+            return this;
+        });
     }
     
     /**
@@ -31,7 +36,9 @@ public class ConfirmationPageActions {
      * @return the confirmation message text
      */
     public String getConfirmationMessage() {
-        return onElement(page.CONFIRMATION_MESSAGE).getText();
+        return ActionStep.call(page, "getConfirmationMessage", page.CONFIRMATION_MESSAGE, () -> {
+            return onElement(page.CONFIRMATION_MESSAGE).getText();
+        });
     }
     
     /**
@@ -39,7 +46,9 @@ public class ConfirmationPageActions {
      * @return the confirmation description text
      */
     public String getConfirmationText() {
-        return onElement(page.CONFIRMATION_TEXT).getText();
+        return ActionStep.call(page, "getConfirmationText", page.CONFIRMATION_TEXT, () -> {
+            return onElement(page.CONFIRMATION_TEXT).getText();
+        });
     }
     
     /**
@@ -48,9 +57,11 @@ public class ConfirmationPageActions {
      * @return ConfirmationPageActions instance for method chaining
      */
     public ConfirmationPageActions verifyConfirmationMessage(String expectedText) {
-        onElement(page.CONFIRMATION_MESSAGE).verifyIsDisplayed().isTrue();
-        onElement(page.CONFIRMATION_MESSAGE).verifyText().contains(expectedText);
-        return this;
+        return ActionStep.call(page, "verifyConfirmationMessage", page.CONFIRMATION_MESSAGE, () -> {
+            onElement(page.CONFIRMATION_MESSAGE).verifyIsDisplayed().isTrue();
+            onElement(page.CONFIRMATION_MESSAGE).verifyText().contains(expectedText);
+            return this;
+        });
     }
     
     /**
@@ -58,11 +69,13 @@ public class ConfirmationPageActions {
      * @return true if confirmation message is visible
      */
     public boolean isConfirmationDisplayed() {
-        try {
-            onElement(page.CONFIRMATION_MESSAGE).verifyIsDisplayed().isTrue();
-            return true;
-        } catch (AssertionError | FrameworkError e) {
-            return false;
-        }
+        return ActionStep.call(page, "isConfirmationDisplayed", page.CONFIRMATION_MESSAGE, () -> {
+            try {
+                onElement(page.CONFIRMATION_MESSAGE).verifyIsDisplayed().isTrue();
+                return true;
+            } catch (AssertionError | FrameworkError e) {
+                return false;
+            }
+        });
     }
 }
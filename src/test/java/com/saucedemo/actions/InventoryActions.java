@@ -0,0 +1,49 @@
+package com.saucedemo.actions;
+
+import com.saucedemo.pages.Product;
+
+import java.util.Collection;
+
+/**
+ * Inventory page actions, whatever the backend
+ */
+public interface InventoryActions {
+
+    InventoryActions verifyPageLoaded();
+
+    boolean isInventoryDisplayed();
+
+    InventoryActions addBackpackToCart();
+
+    InventoryActions removeBackpackFromCart();
+
+    /**
+     * Put several products in the cart at once; ones already there are left alone
+     * @param products the products to add
+     * @return this, for chaining
+     */
+    InventoryActions addToCart(Collection<Product> products);
+
+    /**
+     * Take several products out of the cart at once; ones not there are left alone
+     * @param products the products to remove
+     * @return this, for chaining
+     */
+    InventoryActions removeFromCart(Collection<Product> products);
+
+    boolean isRemoveButtonVisible();
+
+    boolean isAddButtonVisible();
+
+    /**
+     * Get cart badge count
+     * @return cart badge text or empty string if not present
+     */
+    String getCartBadgeCount();
+
+    boolean isCartBadgeDisplayed();
+
+    void verifyCartBadge(String expectedCount);
+
+    CartActions goToCart();
+}
@@ -1,9 +1,18 @@
 package com.saucedemo.actions;
 
 import com.saucedemo.pages.InventoryPage;
+import com.saucedemo.pages.Product;
+import com.saucedemo.slo.Slo;
+import com.saucedemo.trace.ActionStep;
 import io.github.boykaframework.actions.elements.ClickableActions;
 import io.github.boykaframework.exception.FrameworkError;
 import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.TimeoutException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
 
 import static io.github.boykaframework.actions.elements.ElementActions.onElement;
 import static io.github.boykaframework.manager.ParallelSession.getSession;
@@ -12,7 +21,24 @@ import static io.github.boykaframework.manager.ParallelSession.getSession;
  * Actions for InventoryPage
  * Contains all methods/actions for the inventory/products page
  */
-public class InventoryPageActions {
+public class InventoryPageActions implements InventoryActions {
+
+    // Clicks every product button not yet in the wanted state and reports whether all are now.
+    // Each button is clicked at most once per batch (tagged with the batch token), so polling can't toggle it back.
+    private static final String BATCH_SCRIPT = String.join("\n",
+        "var slugs = arguments[0], add = arguments[1], token = arguments[2];",
+        "function wanted(slug) { return document.getElementById((add ? 'remove-' : 'add-to-cart-') + slug); }",
+        "slugs.forEach(function (slug) {",
+        "  var button = document.getElementById((add ? 'add-to-cart-' : 'remove-') + slug);",
+        "  if (!wanted(slug) && button && button.getAttribute('data-batch') !== token) {",
+        "    button.setAttribute('data-batch', token);",
+        "    button.click();",
+        "  }",
+        "});",
+        "return slugs.every(function (slug) { return wanted(slug) !== null; });");
+    private static final long BUTTON_SWITCH_MS = 4000;
+    private static final String PENDING_SCRIPT =
+        "return arguments[0].filter(function (id) { return document.getElementById(id) === null; });";
     
     private final InventoryPage page;
     
@@ -25,10 +51,12 @@ public class InventoryPageActions {
      * @return InventoryPageActions instance for method chaining
      */
     public InventoryPageActions verifyPageLoaded() {
-        onElement(page.INVENTORY_CONTAINER).verifyIsDisplayed().isTrue();
-        waitForIdPresent("add-to-cart-sauce-labs-backpack", 2000);
-        onElement(page.ADD_TO_CART_BACKPACK).verifyIsDisplayed().isTrue();
-        return this;
+        return ActionStep.call(page, "verifyPageLoaded", page.INVENTORY_CONTAINER, () -> {
+            onElement(page.INVENTORY_CONTAINER).verifyIsDisplayed().isTrue();
+            Waits.forIdPresent("add-to-cart-sauce-labs-backpack", 2000);
+            onElement(page.ADD_TO_CART_BACKPACK).verifyIsDisplayed().isTrue();
+            return this;
+        });
     }
     
     /**
@@ -36,57 +64,84 @@ public class InventoryPageActions {
      * @return true if inventory container is displayed
      */
     public boolean isInventoryDisplayed() {
-        try {
-            onElement(page.INVENTORY_CONTAINER).verifyIsDisplayed().isTrue();
-            return true;
-        } catch (AssertionError | FrameworkError e) {
-            return false;
-        }
+        return ActionStep.call(page, "isInventoryDisplayed", page.INVENTORY_CONTAINER, () -> {
+            try {
+                onElement(page.INVENTORY_CONTAINER).verifyIsDisplayed().isTrue();
+                return true;
+            } catch (AssertionError | FrameworkError e) {
+                return false;
+            }
+        });
     }
     
     /**
-     * Add backpack to cart with retry logic
+     * Add backpack to cart
+     * A button that does not switch in time fails as a timeout, which the retry analyzer re-runs;
+     * clicking again here could toggle a late first click back.
      * @return InventoryPageActions instance for method chaining
      */
     public InventoryPageActions addBackpackToCart() {
-        onElement(page.ADD_TO_CART_BACKPACK).verifyIsDisplayed().isTrue();
-        ClickableActions.withMouse(page.ADD_TO_CART_BACKPACK).click();
-        
-        // Lightweight JS polling for button id swap
-        if (!waitForIdPresent("remove-sauce-labs-backpack", 2500)) {
-            // Retry once if not flipped quickly
-            ClickableActions.withMouse(page.ADD_TO_CART_BACKPACK).click();
-            waitForIdPresent("remove-sauce-labs-backpack", 4000);
-        }
+        return ActionStep.call(page, "addBackpackToCart", page.ADD_TO_CART_BACKPACK, () -> {
+            onElement(page.ADD_TO_CART_BACKPACK).verifyIsDisplayed().isTrue();
+            Slo.within("inventory.addToCart", () -> {
+                ClickableActions.withMouse(page.ADD_TO_CART_BACKPACK).click();
+
+                // Lightweight JS polling for button id swap
+                awaitButton(Product.BACKPACK.removeButtonId());
+            });
         
-        // Final assertion
-        onElement(page.REMOVE_FROM_CART_BACKPACK).verifyIsDisplayed().isTrue();
-        return this;
+            // Final assertion
+            onElement(page.REMOVE_FROM_CART_BACKPACK).verifyIsDisplayed().isTrue();
+            return this;
+        });
     }
     
     /**
-     * Remove backpack from cart
+     * Remove backpack from cart, adding it first if it is not in the cart
      * @return InventoryPageActions instance for method chaining
      */
     public InventoryPageActions removeBackpackFromCart() {
-        if (!isRemoveButtonVisible()) {
-            // Ensure item is added first
-            addBackpackToCart();
-        }
+        return ActionStep.call(page, "removeBackpackFromCart", page.REMOVE_FROM_CART_BACKPACK, () -> {
+            if (!isRemoveButtonVisible()) {
+                // Ensure item is added first
+                addBackpackToCart();
+            }
         
-        ClickableActions.withMouse(page.REMOVE_FROM_CART_BACKPACK).click();
+            ClickableActions.withMouse(page.REMOVE_FROM_CART_BACKPACK).click();
         
-        // Wait for id to switch back
-        if (!waitForIdPresent("add-to-cart-sauce-labs-backpack", 3000)) {
-            if (isRemoveButtonVisible()) {
-                // Still remove, retry click once
-                ClickableActions.withMouse(page.REMOVE_FROM_CART_BACKPACK).click();
-                waitForIdPresent("add-to-cart-sauce-labs-backpack", 4000);
-            }
-        }
+            // Wait for id to switch back
+            awaitButton(Product.BACKPACK.addButtonId());
         
-        onElement(page.ADD_TO_CART_BACKPACK).verifyIsDisplayed().isTrue();
-        return this;
+            onElement(page.ADD_TO_CART_BACKPACK).verifyIsDisplayed().isTrue();
+            return this;
+        });
+    }
+    
+    /**
+     * Add several products to the cart in one batched script
+     * Products already in the cart are left alone. Usually a single WebDriver round trip,
+     * polled for up to 4 s while the inventory is still rendering.
+     * @param products the products to add
+     * @return InventoryPageActions instance for method chaining
+     */
+    public InventoryPageActions addToCart(Collection<Product> products) {
+        return ActionStep.call(page, "addToCart", page.INVENTORY_LIST, () -> {
+            batch(products, true);
+            return this;
+        });
+    }
+
+    /**
+     * Remove several products from the cart in one batched script
+     * Products not in the cart are left alone.
+     * @param products the products to remove
+     * @return InventoryPageActions instance for method chaining
+     */
+    public InventoryPageActions removeFromCart(Collection<Product> products) {
+        return ActionStep.call(page, "removeFromCart", page.INVENTORY_LIST, () -> {
+            batch(products, false);
+            return this;
+        });
     }
     
     /**
@@ -94,12 +149,14 @@ public class InventoryPageActions {
      * @return true if remove button is displayed
      */
     public boolean isRemoveButtonVisible() {
-        try {
-            onElement(page.REMOVE_FROM_CART_BACKPACK).isDisplayed();
-            return true;
-        } catch (AssertionError | FrameworkError e) {
-            return false;
-        }
+        return ActionStep.call(page, "isRemoveButtonVisible", page.REMOVE_FROM_CART_BACKPACK, () -> {
+            try {
+                onElement(page.REMOVE_FROM_CART_BACKPACK).isDisplayed();
+                return true;
+            } catch (AssertionError | FrameworkError e) {
+                return false;
+            }
+        });
     }
     
     /**
@@ -107,12 +164,14 @@ public class InventoryPageActions {
      * @return true if add button is displayed
      */
     public boolean isAddButtonVisible() {
-        try {
-            onElement(page.ADD_TO_CART_BACKPACK).isDisplayed();
-            return true;
-        } catch (AssertionError | FrameworkError e) {
-            return false;
-        }
+        return ActionStep.call(page, "isAddButtonVisible", page.ADD_TO_CART_BACKPACK, () -> {
+            try {
+                onElement(page.ADD_TO_CART_BACKPACK).isDisplayed();
+                return true;
+            } catch (AssertionError | FrameworkError e) {
+                return false;
+            }
+        });
     }
     
     /**
@@ -120,14 +179,16 @@ public class InventoryPageActions {
      * @return cart badge text or empty string if not present
      */
     public String getCartBadgeCount() {
-        try {
-            if (isCartBadgeDisplayed()) {
-                return onElement(page.CART_BADGE).getText();
+        return ActionStep.call(page, "getCartBadgeCount", page.CART_BADGE, () -> {
+            try {
+                if (isCartBadgeDisplayed()) {
+                    return onElement(page.CART_BADGE).getText();
+                }
+            } catch (Exception e) {
+                // Return empty if badge not found
             }
-        } catch (Exception e) {
-            // Return empty if badge not found
-        }
-        return "";
+            return "";
+        });
     }
     
     /**
@@ -135,16 +196,18 @@ public class InventoryPageActions {
      * @return true if cart badge is visible
      */
     public boolean isCartBadgeDisplayed() {
-        try {
-            // Use non-blocking check with JavaScript for better performance
-            JavascriptExecutor js = (JavascriptExecutor) getSession().getDriver();
-            Object element = js.executeScript(
-                "return document.querySelector('.shopping_cart_badge') !== null;"
-            );
-            return Boolean.TRUE.equals(element);
-        } catch (Exception e) {
-            return false;
-        }
+        return ActionStep.call(page, "isCartBadgeDisplayed", page.CART_BADGE, () -> {
+            try {
+                // Use non-blocking check with JavaScript for better performance
+                JavascriptExecutor js = (JavascriptExecutor) getSession().getDriver();
+                Object element = js.executeScript(
+                    "return document.querySelector('.shopping_cart_badge') !== null;"
+                );
+                return Boolean.TRUE.equals(element);
+            } catch (Exception e) {
+                return false;
+            }
+        });
     }
     
     /**
@@ -152,8 +215,10 @@ public class InventoryPageActions {
      * @param expectedCount the expected count
      */
     public void verifyCartBadge(String expectedCount) {
-        onElement(page.CART_BADGE).verifyIsDisplayed().isTrue();
-        onElement(page.CART_BADGE).verifyText().isEqualTo(expectedCount);
+        ActionStep.run(page, "verifyCartBadge", page.CART_BADGE, () -> {
+            onElement(page.CART_BADGE).verifyIsDisplayed().isTrue();
+            onElement(page.CART_BADGE).verifyText().isEqualTo(expectedCount);
+        });
     }
     
     /**
@@ -161,39 +226,37 @@ public class InventoryPageActions {
      * @return CartPageActions instance
      */
     public CartPageActions goToCart() {
-        ClickableActions.withMouse(page.CART_LINK).click();
-        waitForUrlContains("cart", 4000);
-        return new CartPageActions(new com.saucedemo.pages.CartPage());
+        return ActionStep.call(page, "goToCart", page.CART_LINK, () -> {
+            ClickableActions.withMouse(page.CART_LINK).click();
+            com.saucedemo.pages.CartPage cart = new com.saucedemo.pages.CartPage();
+            Waits.forPage(cart.READY);
+            return new CartPageActions(cart);
+        });
     }
-    
+
     // Helper methods
-    
-    private boolean waitForIdPresent(String id, long timeoutMs) {
-        try {
-            JavascriptExecutor js = (JavascriptExecutor) getSession().getDriver();
-            long start = System.currentTimeMillis();
-            while (System.currentTimeMillis() - start < timeoutMs) {
-                Object exists = js.executeScript("return document.getElementById(arguments[0]) !== null;", id);
-                if (Boolean.TRUE.equals(exists)) return true;
-                sleep(100);
-            }
-        } catch (Exception ignored) { }
-        return false;
-    }
-    
-    private boolean waitForUrlContains(String fragment, long timeoutMs) {
-        try {
-            long start = System.currentTimeMillis();
-            while (System.currentTimeMillis() - start < timeoutMs) {
-                String url = getSession().getDriver().getCurrentUrl();
-                if (url.contains(fragment)) return true;
-                sleep(100);
-            }
-        } catch (Exception ignored) {}
-        return false;
+
+    private static void awaitButton(String id) {
+        if (!Waits.forIdPresent(id, BUTTON_SWITCH_MS)) {
+            throw new TimeoutException("Cart button #" + id + " did not appear within " + BUTTON_SWITCH_MS + " ms");
+        }
     }
-    
-    private void sleep(long millis) {
-        try { Thread.sleep(millis); } catch (InterruptedException ignored) { }
+
+    private void batch(Collection<Product> products, boolean add) {
+        if (products.isEmpty()) {
+            return;
+        }
+        List<String> slugs = new ArrayList<>();
+        List<String> wantedIds = new ArrayList<>();
+        for (Product product : products) {
+            slugs.add(product.getSlug());
+            wantedIds.add(add ? product.removeButtonId() : product.addButtonId());
+        }
+        String token = UUID.randomUUID().toString();
+        if (!Waits.forScript(add ? "batchAdd" : "batchRemove", 4000, BATCH_SCRIPT, slugs, add, token)) {
+            JavascriptExecutor js = (JavascriptExecutor) getSession().getDriver();
+            throw new AssertionError(String.format("Cart buttons did not switch to %s: %s",
+                add ? "Remove" : "Add to cart", js.executeScript(PENDING_SCRIPT, wantedIds)));
+        }
     }
 }
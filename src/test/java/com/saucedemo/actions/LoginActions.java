@@ -0,0 +1,36 @@
+package com.saucedemo.actions;
+
+/**
+ * Login page actions, whatever the backend
+ * Implemented by {@link LoginPageActions} (browser) and the in-JVM model; pick one with {@link ActionBackend}
+ */
+public interface LoginActions {
+
+    LoginActions enterUsername(String username);
+
+    LoginActions enterPassword(String password);
+
+    InventoryActions clickLoginButton();
+
+    /**
+     * Log in and wait for the inventory
+     * @param username the username
+     * @param password the password
+     * @return actions for the inventory page
+     */
+    InventoryActions login(String username, String password);
+
+    /**
+     * Submit credentials expecting to stay on the login page
+     * @param username the username
+     * @param password the password
+     * @return this
+     */
+    LoginActions attemptLogin(String username, String password);
+
+    boolean isErrorMessageDisplayed();
+
+    String getErrorMessageText();
+
+    void verifyErrorMessage(String expectedText);
+}
@@ -1,6 +1,9 @@
 package com.saucedemo.actions;
 
 import com.saucedemo.pages.LoginPage;
+import com.saucedemo.slo.Slo;
+import com.saucedemo.trace.ActionStep;
+import com.saucedemo.trace.TestInvocation;
 import io.github.boykaframework.actions.elements.ClickableActions;
 import io.github.boykaframework.actions.elements.TextBoxActions;
 
@@ -10,7 +13,10 @@ import static io.github.boykaframework.actions.elements.ElementActions.onElement
  * Actions for LoginPage
  * Contains all methods/actions for the login page
  */
-public class LoginPageActions {
+public class LoginPageActions implements LoginActions {
+
+    // Login and checkout errors alike; the page stays put instead of navigating
+    static final String ERROR_SELECTOR = "[data-test='error']";
     
     private final LoginPage page;
     
@@ -24,8 +30,11 @@ public class LoginPageActions {
      * @return LoginPageActions instance for method chaining
      */
     public LoginPageActions enterUsername(String username) {
-        TextBoxActions.onTextBox(page.USERNAME_FIELD).enterText(username);
-        return this;
+        TestInvocation.recordUser(username);
+        return ActionStep.call(page, "enterUsername", page.USERNAME_FIELD, () -> {
+            TextBoxActions.onTextBox(page.USERNAME_FIELD).enterText(username);
+            return this;
+        });
     }
     
     /**
@@ -34,17 +43,23 @@ public class LoginPageActions {
      * @return LoginPageActions instance for method chaining
      */
     public LoginPageActions enterPassword(String password) {
-        TextBoxActions.onTextBox(page.PASSWORD_FIELD).enterText(password);
-        return this;
+        return ActionStep.call(page, "enterPassword", page.PASSWORD_FIELD, () -> {
+            TextBoxActions.onTextBox(page.PASSWORD_FIELD).enterText(password);
+            return this;
+        });
     }
     
     /**
-     * Click the login button
+     * Click the login button and wait until the inventory is rendered or a login error shows
      * @return InventoryPageActions instance
      */
     public InventoryPageActions clickLoginButton() {
-        ClickableActions.withMouse(page.LOGIN_BUTTON).click();
-        return new InventoryPageActions(new com.saucedemo.pages.InventoryPage());
+        return ActionStep.call(page, "clickLoginButton", page.LOGIN_BUTTON, () -> {
+            ClickableActions.withMouse(page.LOGIN_BUTTON).click();
+            com.saucedemo.pages.InventoryPage inventory = new com.saucedemo.pages.InventoryPage();
+            Waits.forPage(inventory.READY.orCss(ERROR_SELECTOR));
+            return new InventoryPageActions(inventory);
+        });
     }
     
     /**
@@ -54,9 +69,11 @@ public class LoginPageActions {
      * @return InventoryPageActions instance
      */
     public InventoryPageActions login(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
-        return clickLoginButton();
+        return ActionStep.call(page, "login", null, () -> {
+            enterUsername(username);
+            enterPassword(password);
+            return Slo.within("login.inventoryVisible", this::clickLoginButton);
+        });
     }
     
     /**
@@ -66,10 +83,12 @@ public class LoginPageActions {
      * @return LoginPageActions instance
      */
     public LoginPageActions attemptLogin(String username, String password) {
-        enterUsername(username);
-        enterPassword(password);
-        ClickableActions.withMouse(page.LOGIN_BUTTON).click();
-        return this;
+        return ActionStep.call(page, "attemptLogin", page.LOGIN_BUTTON, () -> {
+            enterUsername(username);
+            enterPassword(password);
+            ClickableActions.withMouse(page.LOGIN_BUTTON).click();
+            return this;
+        });
     }
     
     /**
@@ -77,12 +96,14 @@ public class LoginPageActions {
      * @return true if error message is displayed
      */
     public boolean isErrorMessageDisplayed() {
-        try {
-            onElement(page.ERROR_MESSAGE).verifyIsDisplayed().isTrue();
-            return true;
-        } catch (AssertionError e) {
-            return false;
-        }
+        return ActionStep.call(page, "isErrorMessageDisplayed", page.ERROR_MESSAGE, () -> {
+            try {
+                onElement(page.ERROR_MESSAGE).verifyIsDisplayed().isTrue();
+                return true;
+            } catch (AssertionError e) {
+                return false;
+            }
+        });
     }
     
     /**
@@ -90,7 +111,8 @@ public class LoginPageActions {
      * @return the error message text
      */
     public String getErrorMessageText() {
-        return onElement(page.ERROR_MESSAGE).getText();
+        return ActionStep.call(page, "getErrorMessageText", page.ERROR_MESSAGE,
+            () -> onElement(page.ERROR_MESSAGE).getText());
     }
     
     /**
@@ -98,7 +120,9 @@ public class LoginPageActions {
      * @param expectedText the expected text
      */
     public void verifyErrorMessage(String expectedText) {
-        onElement(page.ERROR_MESSAGE).verifyIsDisplayed().isTrue();
-        onElement(page.ERROR_MESSAGE).verifyText().contains(expectedText);
+        ActionStep.run(page, "verifyErrorMessage", page.ERROR_MESSAGE, () -> {
+            onElement(page.ERROR_MESSAGE).verifyIsDisplayed().isTrue();
+            onElement(page.ERROR_MESSAGE).verifyText().contains(expectedText);
+        });
     }
 }
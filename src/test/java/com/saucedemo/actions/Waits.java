@@ -0,0 +1,206 @@
+package com.saucedemo.actions;
+
+import com.saucedemo.concurrent.ConcurrencySignals;
+import com.saucedemo.concurrent.StepScope;
+import com.saucedemo.pages.ReadinessProbe;
+import com.saucedemo.session.WebConfig;
+import com.saucedemo.trace.FlightRecorder;
+import com.saucedemo.trace.TestInvocation;
+import com.saucedemo.trace.WaitEvent;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.WebDriverException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BooleanSupplier;
+import java.util.function.Supplier;
+
+import static io.github.boykaframework.manager.ParallelSession.getSession;
+
+/**
+ * Lightweight polling waits shared by actions and tests
+ * Each poll is a single cheap WebDriver call; every iteration is emitted as a {@link WaitEvent}.
+ * A poll that throws a WebDriverException (e.g. the page navigated mid-script) counts as not ready yet and
+ * polling goes on until the deadline; only a lost session ends the wait early.
+ * Polls stop as soon as the thread is interrupted, so a cancelled {@link StepScope} ends them promptly.
+ * Only waits whose timeout fails the action ({@link #forPage}, {@link #forScript}) feed the adaptive
+ * concurrency signal, and only a deadline that really expired counts as a timeout there; the other waits
+ * are often short probes expected to miss.
+ */
+public final class Waits {
+
+    private static final long POLL_INTERVAL_MS = 100;
+    // Returns the page's URL once the probe matches, so the action trace learns where the test is for free
+    private static final String READY_SCRIPT = "return document.querySelector(arguments[0]) !== null ? location.href : null;";
+    private static volatile Long pageReadyTimeoutMs;
+
+    private Waits() {
+    }
+
+    /**
+     * Wait until an element with the given id exists in the DOM
+     * @param id the element id
+     * @param timeoutMs how long to wait
+     * @return true if the element appeared in time
+     */
+    public static boolean forIdPresent(String id, long timeoutMs) {
+        return poll("idPresent", id, timeoutMs, false, () -> Boolean.TRUE.equals(
+            js().executeScript("return document.getElementById(arguments[0]) !== null;", id)));
+    }
+
+    /**
+     * Wait until a page's readiness probe matches, e.g. after a click that navigates
+     * Waits up to -Dpage.ready.timeout.ms, by default the config's page_load_timeout
+     * @param probe the destination page's probe
+     * @throws TimeoutException naming the probe, if the page did not become usable in time
+     */
+    public static void forPage(ReadinessProbe probe) {
+        JavascriptExecutor js = js();
+        long timeoutMs = pageReadyTimeoutMs();
+        if (!poll("pageReady", probe.getName(), timeoutMs, true, () -> {
+            if (js.executeScript(READY_SCRIPT, probe.getSelector()) instanceof String url) {
+                FlightRecorder.current().pageReached(url);
+                return true;
+            }
+            return false;
+        })) {
+            throw new TimeoutException("Page not ready within " + timeoutMs + " ms: " + probe);
+        }
+    }
+
+    /**
+     * Wait until at least one element matches a CSS selector
+     * @param selector the CSS selector
+     * @param timeoutMs how long to wait
+     * @return true if a match appeared in time
+     */
+    public static boolean forCssPresent(String selector, long timeoutMs) {
+        return forCssPresent(js(), selector, timeoutMs);
+    }
+
+    /**
+     * Wait for several CSS selectors at once, each polled on its own virtual thread
+     * Stops at the timeout, cancelling the polls that have not matched yet
+     * @param timeoutMs how long to wait for all of them
+     * @param selectors the CSS selectors
+     * @return true if every selector matched in time
+     */
+    public static boolean forAllCssPresent(long timeoutMs, String... selectors) {
+        // Driver sessions are per thread, so hand the sub-steps this thread's driver
+        JavascriptExecutor js = js();
+        try (StepScope scope = StepScope.open("waits", Duration.ofMillis(timeoutMs))) {
+            List<Supplier<Boolean>> checks = new ArrayList<>();
+            for (String selector : selectors) {
+                checks.add(scope.fork(selector, () -> forCssPresent(js, selector, timeoutMs)));
+            }
+            scope.join();
+            return checks.stream().allMatch(Supplier::get);
+        } catch (TimeoutException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Wait until the current URL contains a fragment
+     * @param fragment the text to look for
+     * @param timeoutMs how long to wait
+     * @return true if the URL matched in time
+     */
+    public static boolean forUrlContains(String fragment, long timeoutMs) {
+        return poll("urlContains", fragment, timeoutMs, false,
+            () -> getSession().getDriver().getCurrentUrl().contains(fragment));
+    }
+
+    /**
+     * Wait until a script returns true, for conditions that need more than one element or act as they check
+     * @param condition short name of the condition, for wait events
+     * @param timeoutMs how long to wait
+     * @param script the script, run once per poll
+     * @param args the script's arguments
+     * @return true if the script returned true in time
+     */
+    public static boolean forScript(String condition, long timeoutMs, String script, Object... args) {
+        JavascriptExecutor js = js();
+        return poll(condition, String.valueOf(args.length > 0 ? args[0] : ""), timeoutMs, true,
+            () -> Boolean.TRUE.equals(js.executeScript(script, args)));
+    }
+
+    /**
+     * Pause the current thread
+     * @param millis how long to sleep
+     */
+    public static void sleep(long millis) {
+        try { Thread.sleep(millis); } catch (InterruptedException e) { Thread.currentThread().interrupt(); }
+    }
+
+    // Helper methods
+
+    private static boolean forCssPresent(JavascriptExecutor js, String selector, long timeoutMs) {
+        return poll("cssPresent", selector, timeoutMs, false, () -> {
+            Object count = js.executeScript("return document.querySelectorAll(arguments[0]).length;", selector);
+            return count instanceof Number && ((Number) count).longValue() > 0;
+        });
+    }
+
+    private static boolean poll(String condition, String target, long timeoutMs, boolean signal, BooleanSupplier check) {
+        try {
+            long start = System.currentTimeMillis();
+            int iteration = 0;
+            while (System.currentTimeMillis() - start < timeoutMs && !Thread.currentThread().isInterrupted()) {
+                iteration++;
+                WaitEvent event = new WaitEvent();
+                event.begin();
+                boolean satisfied;
+                try {
+                    satisfied = check.getAsBoolean();
+                } catch (NoSuchSessionException e) {
+                    // The browser is gone; no later poll can succeed
+                    throw e;
+                } catch (WebDriverException e) {
+                    // e.g. "execution context was destroyed" while the page navigates: not ready yet
+                    satisfied = false;
+                }
+                event.end();
+                if (event.shouldCommit()) {
+                    event.condition = condition;
+                    event.target = target;
+                    event.iteration = iteration;
+                    event.satisfied = satisfied;
+                    event.invocationId = TestInvocation.currentId();
+                    event.commit();
+                }
+                if (satisfied) {
+                    if (signal) {
+                        ConcurrencySignals.recordWait(true);
+                    }
+                    return true;
+                }
+                sleep(POLL_INTERVAL_MS);
+            }
+        } catch (Exception e) {
+            // A broken check says nothing about load
+            return false;
+        }
+        // Cancelled forks end early; only an expired deadline is a timeout
+        if (signal && !Thread.currentThread().isInterrupted()) {
+            ConcurrencySignals.recordWait(false);
+        }
+        return false;
+    }
+
+    private static long pageReadyTimeoutMs() {
+        if (pageReadyTimeoutMs == null) {
+            long configured = WebConfig.section("ui", "timeout").get("page_load_timeout") instanceof Number seconds
+                ? seconds.longValue() * 1000 : 30000;
+            pageReadyTimeoutMs = Long.getLong("page.ready.timeout.ms", configured);
+        }
+        return pageReadyTimeoutMs;
+    }
+
+    private static JavascriptExecutor js() {
+        return (JavascriptExecutor) getSession().getDriver();
+    }
+}
@@ -0,0 +1,49 @@
+package com.saucedemo.actions.model;
+
+import com.saucedemo.actions.CartActions;
+import com.saucedemo.actions.CartContents;
+
+/**
+ * Cart page actions against the {@link ShopModel}
+ */
+public class ModelCartActions implements CartActions {
+
+    private final ShopModel shop;
+
+    public ModelCartActions(ShopModel shop) {
+        this.shop = shop;
+    }
+
+    @Override
+    public ModelCartActions verifyCartItemPresent() {
+        if (!hasItems()) {
+            throw new AssertionError("No cart item is shown");
+        }
+        return this;
+    }
+
+    @Override
+    public boolean hasItems() {
+        return shop.page() == ShopModel.Page.CART && !shop.cart().isEmpty();
+    }
+
+    @Override
+    public CartContents readCart() {
+        shop.require(ShopModel.Page.CART, "Cart list");
+        return shop.contents(false);
+    }
+
+    @Override
+    public ModelCheckoutActions proceedToCheckout() {
+        shop.require(ShopModel.Page.CART, "Checkout button");
+        shop.show(ShopModel.Page.CHECKOUT_STEP_ONE);
+        return new ModelCheckoutActions(shop);
+    }
+
+    @Override
+    public ModelInventoryActions continueShopping() {
+        shop.require(ShopModel.Page.CART, "Continue shopping button");
+        shop.show(ShopModel.Page.INVENTORY);
+        return new ModelInventoryActions(shop);
+    }
+}
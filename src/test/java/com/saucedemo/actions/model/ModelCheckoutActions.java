@@ -0,0 +1,74 @@
+package com.saucedemo.actions.model;
+
+import com.saucedemo.actions.CartContents;
+import com.saucedemo.actions.CheckoutActions;
+
+/**
+ * Checkout information and overview page actions against the {@link ShopModel}
+ */
+public class ModelCheckoutActions implements CheckoutActions {
+
+    private final ShopModel shop;
+
+    public ModelCheckoutActions(ShopModel shop) {
+        this.shop = shop;
+    }
+
+    @Override
+    public ModelCheckoutActions enterFirstName(String firstName) {
+        shop.typeFirstName(firstName);
+        return this;
+    }
+
+    @Override
+    public ModelCheckoutActions enterLastName(String lastName) {
+        shop.typeLastName(lastName);
+        return this;
+    }
+
+    @Override
+    public ModelCheckoutActions enterZipCode(String zipCode) {
+        shop.typePostalCode(zipCode);
+        return this;
+    }
+
+    @Override
+    public ModelCheckoutActions fillCheckoutInformation(String firstName, String lastName, String zipCode) {
+        enterFirstName(firstName);
+        enterLastName(lastName);
+        enterZipCode(zipCode);
+        return this;
+    }
+
+    @Override
+    public ModelCheckoutActions clickContinue() {
+        shop.submitCheckout();
+        return this;
+    }
+
+    @Override
+    public CartContents readOverview() {
+        shop.require(ShopModel.Page.CHECKOUT_STEP_TWO, "Order summary");
+        return shop.contents(true);
+    }
+
+    @Override
+    public ModelConfirmationActions clickFinish() {
+        shop.finish();
+        return new ModelConfirmationActions(shop);
+    }
+
+    @Override
+    public ModelCartActions clickCancel() {
+        shop.require(ShopModel.Page.CHECKOUT_STEP_ONE, "Cancel button");
+        shop.show(ShopModel.Page.CART);
+        return new ModelCartActions(shop);
+    }
+
+    @Override
+    public ModelConfirmationActions completeCheckout(String firstName, String lastName, String zipCode) {
+        fillCheckoutInformation(firstName, lastName, zipCode);
+        clickContinue();
+        return clickFinish();
+    }
+}
@@ -0,0 +1,47 @@
+package com.saucedemo.actions.model;
+
+import com.saucedemo.actions.ConfirmationActions;
+
+/**
+ * Order confirmation page actions against the {@link ShopModel}
+ */
+public class ModelConfirmationActions implements ConfirmationActions {
+
+    private final ShopModel shop;
+
+    public ModelConfirmationActions(ShopModel shop) {
+        this.shop = shop;
+    }
+
+    @Override
+    public ModelConfirmationActions verifyOrderComplete() {
+        shop.require(ShopModel.Page.CHECKOUT_COMPLETE, "Confirmation header");
+        return this;
+    }
+
+    @Override
+    public String getConfirmationMessage() {
+        verifyOrderComplete();
+        return ShopModel.CONFIRMATION_HEADER;
+    }
+
+    @Override
+    public String getConfirmationText() {
+        verifyOrderComplete();
+        return ShopModel.CONFIRMATION_TEXT;
+    }
+
+    @Override
+    public ModelConfirmationActions verifyConfirmationMessage(String expectedText) {
+        String actual = getConfirmationMessage();
+        if (!actual.contains(expectedText)) {
+            throw new AssertionError(String.format("Expected confirmation containing '%s' but got '%s'", expectedText, actual));
+        }
+        return this;
+    }
+
+    @Override
+    public boolean isConfirmationDisplayed() {
+        return shop.page() == ShopModel.Page.CHECKOUT_COMPLETE;
+    }
+}
@@ -0,0 +1,124 @@
+package com.saucedemo.actions.model;
+
+import com.saucedemo.actions.InventoryActions;
+import com.saucedemo.pages.Product;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Inventory page actions against the {@link ShopModel}
+ */
+public class ModelInventoryActions implements InventoryActions {
+
+    private final ShopModel shop;
+
+    public ModelInventoryActions(ShopModel shop) {
+        this.shop = shop;
+    }
+
+    @Override
+    public ModelInventoryActions verifyPageLoaded() {
+        shop.require(ShopModel.Page.INVENTORY, "Inventory container");
+        return this;
+    }
+
+    @Override
+    public boolean isInventoryDisplayed() {
+        return shop.page() == ShopModel.Page.INVENTORY;
+    }
+
+    @Override
+    public ModelInventoryActions addBackpackToCart() {
+        if (!isAddButtonVisible()) {
+            throw new AssertionError("Add to cart button for the backpack is not shown");
+        }
+        shop.toggleProduct(ShopModel.BACKPACK);
+        if (!isRemoveButtonVisible()) {
+            throw new AssertionError("Backpack button did not switch to Remove");
+        }
+        return this;
+    }
+
+    @Override
+    public ModelInventoryActions removeBackpackFromCart() {
+        if (!isRemoveButtonVisible()) {
+            addBackpackToCart();
+        }
+        shop.toggleProduct(ShopModel.BACKPACK);
+        if (!isAddButtonVisible()) {
+            throw new AssertionError("Backpack button did not switch back to Add to cart");
+        }
+        return this;
+    }
+
+    @Override
+    public ModelInventoryActions addToCart(Collection<Product> products) {
+        return batch(products, true);
+    }
+
+    @Override
+    public ModelInventoryActions removeFromCart(Collection<Product> products) {
+        return batch(products, false);
+    }
+
+    @Override
+    public boolean isRemoveButtonVisible() {
+        return isInventoryDisplayed() && shop.cart().contains(ShopModel.BACKPACK);
+    }
+
+    @Override
+    public boolean isAddButtonVisible() {
+        return isInventoryDisplayed() && !shop.cart().contains(ShopModel.BACKPACK);
+    }
+
+    @Override
+    public String getCartBadgeCount() {
+        return isCartBadgeDisplayed() ? String.valueOf(shop.cart().size()) : "";
+    }
+
+    @Override
+    public boolean isCartBadgeDisplayed() {
+        return shop.page() != ShopModel.Page.LOGIN && !shop.cart().isEmpty();
+    }
+
+    @Override
+    public void verifyCartBadge(String expectedCount) {
+        if (!isCartBadgeDisplayed()) {
+            throw new AssertionError("Cart badge is not shown");
+        }
+        if (!getCartBadgeCount().equals(expectedCount)) {
+            throw new AssertionError(String.format("Expected cart badge '%s' but got '%s'", expectedCount, getCartBadgeCount()));
+        }
+    }
+
+    @Override
+    public ModelCartActions goToCart() {
+        if (shop.page() == ShopModel.Page.LOGIN) {
+            throw new AssertionError("Cart link is not shown on the login page");
+        }
+        shop.show(ShopModel.Page.CART);
+        return new ModelCartActions(shop);
+    }
+
+    // Helper methods
+
+    private ModelInventoryActions batch(Collection<Product> products, boolean add) {
+        shop.require(ShopModel.Page.INVENTORY, "Inventory list");
+        List<String> pending = new ArrayList<>();
+        for (Product product : products) {
+            if (shop.cart().contains(product.getId()) != add) {
+                shop.toggleProduct(product.getId());
+            }
+            if (shop.cart().contains(product.getId()) != add) {
+                pending.add(add ? product.removeButtonId() : product.addButtonId());
+            }
+        }
+        if (!pending.isEmpty()) {
+            throw new AssertionError(String.format("Cart buttons did not switch to %s: %s",
+                add ? "Remove" : "Add to cart", pending));
+        }
+        return this;
+    }
+}
@@ -0,0 +1,74 @@
+package com.saucedemo.actions.model;
+
+import com.saucedemo.actions.LoginActions;
+import com.saucedemo.trace.TestInvocation;
+
+/**
+ * Login page actions against the {@link ShopModel}
+ */
+public class ModelLoginActions implements LoginActions {
+
+    private final ShopModel shop;
+
+    public ModelLoginActions(ShopModel shop) {
+        this.shop = shop;
+    }
+
+    @Override
+    public ModelLoginActions enterUsername(String username) {
+        TestInvocation.recordUser(username);
+        shop.typeUsername(username);
+        return this;
+    }
+
+    @Override
+    public ModelLoginActions enterPassword(String password) {
+        shop.typePassword(password);
+        return this;
+    }
+
+    @Override
+    public ModelInventoryActions clickLoginButton() {
+        shop.submitLogin();
+        return new ModelInventoryActions(shop);
+    }
+
+    @Override
+    public ModelInventoryActions login(String username, String password) {
+        enterUsername(username);
+        enterPassword(password);
+        ModelInventoryActions inventory = clickLoginButton();
+        // The browser backend waits for the first product; here it is there at once or never
+        shop.require(ShopModel.Page.INVENTORY, "Inventory list");
+        return inventory;
+    }
+
+    @Override
+    public ModelLoginActions attemptLogin(String username, String password) {
+        enterUsername(username);
+        enterPassword(password);
+        shop.submitLogin();
+        return this;
+    }
+
+    @Override
+    public boolean isErrorMessageDisplayed() {
+        return shop.page() == ShopModel.Page.LOGIN && shop.error() != null;
+    }
+
+    @Override
+    public String getErrorMessageText() {
+        if (!isErrorMessageDisplayed()) {
+            throw new AssertionError("No error message is shown");
+        }
+        return shop.error();
+    }
+
+    @Override
+    public void verifyErrorMessage(String expectedText) {
+        String actual = getErrorMessageText();
+        if (!actual.contains(expectedText)) {
+            throw new AssertionError(String.format("Expected error containing '%s' but got '%s'", expectedText, actual));
+        }
+    }
+}
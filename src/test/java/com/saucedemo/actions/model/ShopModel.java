@@ -0,0 +1,193 @@
+package com.saucedemo.actions.model;
+
+import com.saucedemo.actions.CartContents;
+import com.saucedemo.pages.Product;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * In-JVM model of the SauceDemo site for one test: the page shown, the form fields, the logged-in user and the cart
+ * Rules follow the stand-in's app.js (src/test/resources/standin), which mirrors the real site:
+ * the same users, error texts, problem_user and error_user bugs. Timing quirks such as
+ * performance_glitch_user's slow render are not modelled; that is what the browser suite is for.
+ */
+public class ShopModel {
+
+    static final String PASSWORD = "secret_sauce";
+    static final Set<String> USERS = Set.of("standard_user", "locked_out_user", "problem_user",
+        "performance_glitch_user", "error_user", "visual_user");
+    static final int BACKPACK = Product.BACKPACK.getId();
+    static final BigDecimal TAX_RATE = new BigDecimal("0.08");
+    static final String CONFIRMATION_HEADER = "Thank you for your order!";
+    static final String CONFIRMATION_TEXT = "Your order has been dispatched, and will arrive just as fast as the pony can get there!";
+
+    /**
+     * Pages of the site, by the stand-in's data-page names
+     */
+    enum Page { LOGIN, INVENTORY, CART, CHECKOUT_STEP_ONE, CHECKOUT_STEP_TWO, CHECKOUT_COMPLETE }
+
+    private Page page = Page.LOGIN;
+    private String user;
+    private final List<Integer> cart = new ArrayList<>();
+    private String error;
+    private String username = "";
+    private String password = "";
+    private String firstName = "";
+    private String lastName = "";
+    private String postalCode = "";
+
+    Page page() {
+        return page;
+    }
+
+    String error() {
+        return error;
+    }
+
+    List<Integer> cart() {
+        return List.copyOf(cart);
+    }
+
+    /**
+     * Fail like a locator lookup would when the element's page is not the one shown
+     * @param expected the page the element lives on
+     * @param element what the test tried to reach
+     */
+    void require(Page expected, String element) {
+        if (page != expected) {
+            String shown = error == null ? "" : " with error '" + error + "'";
+            throw new AssertionError(element + " is on the " + expected + " page, but the " + page + " page is shown" + shown);
+        }
+    }
+
+    void typeUsername(String value) {
+        require(Page.LOGIN, "Username field");
+        username = value;
+    }
+
+    void typePassword(String value) {
+        require(Page.LOGIN, "Password field");
+        password = value;
+    }
+
+    void submitLogin() {
+        require(Page.LOGIN, "Login button");
+        if (username.isEmpty()) {
+            error = "Epic sadface: Username is required";
+        } else if (password.isEmpty()) {
+            error = "Epic sadface: Password is required";
+        } else if (!USERS.contains(username) || !PASSWORD.equals(password)) {
+            error = "Epic sadface: Username and password do not match any user in this service";
+        } else if ("locked_out_user".equals(username)) {
+            error = "Epic sadface: Sorry, this user has been locked out.";
+        } else {
+            user = username;
+            cart.clear();
+            show(Page.INVENTORY);
+        }
+    }
+
+    void toggleProduct(int id) {
+        require(Page.INVENTORY, "Product button");
+        int index = cart.indexOf(id);
+        if (index < 0) {
+            cart.add(id);
+        } else if (!"problem_user".equals(user)) {
+            // problem_user cannot take items back out of the cart
+            cart.remove(index);
+        }
+    }
+
+    /**
+     * The cart list as the cart or overview page shows it, with totals on the overview only
+     * @param withTotals whether the page shows the order summary
+     * @return rows in the order items were added, and the totals
+     */
+    CartContents contents(boolean withTotals) {
+        List<CartContents.Row> rows = new ArrayList<>();
+        BigDecimal subtotal = BigDecimal.ZERO;
+        for (int id : cart) {
+            Product product = Product.byId(id);
+            rows.add(new CartContents.Row(product.getDisplayName(), 1, product.getPrice()));
+            subtotal = subtotal.add(product.getPrice());
+        }
+        if (!withTotals) {
+            return new CartContents(rows, null, null, null);
+        }
+        BigDecimal tax = subtotal.multiply(TAX_RATE).setScale(2, RoundingMode.HALF_UP);
+        return new CartContents(rows, subtotal, tax, subtotal.add(tax));
+    }
+
+    void removeFromCartPage(int id) {
+        require(Page.CART, "Remove button");
+        cart.remove(Integer.valueOf(id));
+    }
+
+    void typeFirstName(String value) {
+        require(Page.CHECKOUT_STEP_ONE, "First name field");
+        firstName = value;
+    }
+
+    void typeLastName(String value) {
+        require(Page.CHECKOUT_STEP_ONE, "Last name field");
+        if ("problem_user".equals(user)) {
+            // Same bug as the real site: each key typed in the last name replaces the first name
+            if (!value.isEmpty()) {
+                firstName = value.substring(value.length() - 1);
+            }
+            lastName = "";
+        } else {
+            lastName = value;
+        }
+    }
+
+    void typePostalCode(String value) {
+        require(Page.CHECKOUT_STEP_ONE, "Postal code field");
+        postalCode = value;
+    }
+
+    void submitCheckout() {
+        require(Page.CHECKOUT_STEP_ONE, "Continue button");
+        if (firstName.isEmpty()) {
+            error = "Error: First Name is required";
+        } else if (lastName.isEmpty()) {
+            error = "Error: Last Name is required";
+        } else if (postalCode.isEmpty()) {
+            error = "Error: Postal Code is required";
+        } else {
+            show(Page.CHECKOUT_STEP_TWO);
+        }
+    }
+
+    void finish() {
+        require(Page.CHECKOUT_STEP_TWO, "Finish button");
+        if ("error_user".equals(user)) {
+            error = "Error: something went wrong finishing your order";
+            return;
+        }
+        cart.clear();
+        show(Page.CHECKOUT_COMPLETE);
+    }
+
+    /**
+     * Navigate, clearing the page's transient state like a page load does
+     * @param next the page to show
+     */
+    void show(Page next) {
+        page = next;
+        error = null;
+        if (next == Page.CHECKOUT_STEP_ONE) {
+            firstName = "";
+            lastName = "";
+            postalCode = "";
+        }
+        if (next == Page.LOGIN) {
+            username = "";
+            password = "";
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.saucedemo.benchmark;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * One way of running the suite: serial or parallel methods, headed or headless Chrome
+ * Headless is a separate web config (bench_web / bench_headless_web), since Boyka reads it from boyka-config.json
+ */
+public final class BenchmarkMode {
+
+    private final boolean parallel;
+    private final boolean headless;
+    private final int threads;
+
+    private BenchmarkMode(boolean parallel, boolean headless, int threads) {
+        this.parallel = parallel;
+        this.headless = headless;
+        this.threads = threads;
+    }
+
+    /**
+     * Modes to run: -Dbenchmark.modes (e.g. "serial-headless,parallel-headless") or every available one
+     * Headed modes need a display, so they are left out on a Linux box without one
+     * @param threads thread count for the parallel modes
+     * @return the modes, in a stable order
+     */
+    public static List<BenchmarkMode> selected(int threads) {
+        List<BenchmarkMode> all = new ArrayList<>();
+        for (boolean parallel : new boolean[] {false, true}) {
+            for (boolean headless : new boolean[] {false, true}) {
+                all.add(new BenchmarkMode(parallel, headless, parallel ? threads : 1));
+            }
+        }
+        String wanted = System.getProperty("benchmark.modes", "");
+        if (!wanted.isBlank()) {
+            Set<String> names = Arrays.stream(wanted.split(","))
+                .map(name -> name.trim().toLowerCase(Locale.ROOT))
+                .collect(Collectors.toSet());
+            return all.stream().filter(mode -> names.contains(mode.getName())).toList();
+        }
+        return all.stream().filter(mode -> mode.headless || hasDisplay()).toList();
+    }
+
+    /** e.g. "parallel-headless" */
+    public String getName() {
+        return (parallel ? "parallel" : "serial") + (headless ? "-headless" : "-headed");
+    }
+
+    public boolean isParallel() {
+        return parallel;
+    }
+
+    public boolean isHeadless() {
+        return headless;
+    }
+
+    public int getThreads() {
+        return threads;
+    }
+
+    public String getConfigKey() {
+        return headless ? "bench_headless_web" : "bench_web";
+    }
+
+    /**
+     * TestNG suite for this mode
+     * @param testClass the test class to run
+     * @return suite XML
+     */
+    public String suiteXml(String testClass) {
+        return "<!DOCTYPE suite SYSTEM \"https://testng.org/testng-1.0.dtd\" >\n"
+            + "<suite name=\"Benchmark " + getName() + "\" verbose=\"0\" configfailurepolicy=\"continue\""
+            + (parallel ? " parallel=\"methods\" thread-count=\"" + threads + "\"" : "") + ">\n"
+            + "    <parameter name=\"configKey\" value=\"" + getConfigKey() + "\"/>\n"
+            + "    <listeners>\n"
+            + "        <listener class-name=\"com.saucedemo.listeners.StandInListener\"/>\n"
+            + "        <listener class-name=\"com.saucedemo.listeners.ResultStreamListener\"/>\n"
+            + "    </listeners>\n"
+            + "    <test name=\"" + getName() + "\">\n"
+            + "        <classes>\n"
+            + "            <class name=\"" + testClass + "\"/>\n"
+            + "        </classes>\n"
+            + "    </test>\n"
+            + "</suite>\n";
+    }
+
+    @Override
+    public String toString() {
+        return getName() + (parallel ? " (" + threads + " threads)" : "");
+    }
+
+    // Helper methods
+
+    private static boolean hasDisplay() {
+        String os = System.getProperty("os.name", "").toLowerCase(Locale.ROOT);
+        if (os.contains("win") || os.contains("mac")) {
+            return true;
+        }
+        return System.getenv("DISPLAY") != null || System.getenv("WAYLAND_DISPLAY") != null;
+    }
+}
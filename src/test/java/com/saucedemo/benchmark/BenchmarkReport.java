@@ -0,0 +1,236 @@
+package com.saucedemo.benchmark;
+
+import com.saucedemo.history.CommitSha;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.ToLongFunction;
+
+/**
+ * JSON and HTML comparison of the modes measured by {@link SuiteBenchmark}
+ * Every figure is the mean and sample standard deviation over the measured iterations.
+ */
+final class BenchmarkReport {
+
+    private final String testClass;
+    private final int warmup;
+    private final int iterations;
+    private final Map<BenchmarkMode, List<SuiteBenchmark.Iteration>> results;
+
+    BenchmarkReport(String testClass, int warmup, int iterations, Map<BenchmarkMode, List<SuiteBenchmark.Iteration>> results) {
+        this.testClass = testClass;
+        this.warmup = warmup;
+        this.iterations = iterations;
+        this.results = results;
+    }
+
+    /**
+     * Write benchmark.json and benchmark.html
+     * @param dir output folder
+     */
+    void write(Path dir) {
+        Map<String, Object> json = toJson();
+        try {
+            Files.createDirectories(dir);
+            Files.writeString(dir.resolve("benchmark.json"), new Json().toJson(json), StandardCharsets.UTF_8);
+            Files.writeString(dir.resolve("benchmark.html"), toHtml(), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write benchmark report to " + dir, e);
+        }
+    }
+
+    /**
+     * One line per mode for the console
+     */
+    String summary() {
+        StringBuilder out = new StringBuilder();
+        out.append(String.format("%-20s %18s %18s %14s %12s%n", "mode", "wall ms", "cpu ms", "peak rss MB", "tests/min"));
+        results.forEach((mode, runs) -> out.append(String.format("%-20s %18s %18s %14s %12.1f%n", mode.getName(),
+            Stats.of(runs, run -> run.wallMillis), Stats.of(runs, run -> run.cpuMillis),
+            rssMb(runs), throughput(runs))));
+        return out.toString();
+    }
+
+    // Helper methods
+
+    private Map<String, Object> toJson() {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("testClass", testClass);
+        root.put("time", Instant.now().toString());
+        root.put("commit", CommitSha.resolve());
+        root.put("java", System.getProperty("java.version"));
+        root.put("os", System.getProperty("os.name") + " " + System.getProperty("os.version"));
+        root.put("cpus", Runtime.getRuntime().availableProcessors());
+        root.put("warmupIterations", warmup);
+        root.put("measuredIterations", iterations);
+        List<Map<String, Object>> modes = new ArrayList<>();
+        results.forEach((mode, runs) -> {
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("mode", mode.getName());
+            entry.put("parallel", mode.isParallel());
+            entry.put("threads", mode.getThreads());
+            entry.put("headless", mode.isHeadless());
+            entry.put("configKey", mode.getConfigKey());
+            entry.put("wallMs", Stats.of(runs, run -> run.wallMillis).toJson());
+            entry.put("cpuMs", Stats.of(runs, run -> run.cpuMillis).toJson());
+            entry.put("peakRssMb", runs.stream().allMatch(run -> run.peakRssBytes >= 0)
+                ? Stats.of(runs, run -> run.peakRssBytes / (1024 * 1024)).toJson() : null);
+            entry.put("testsPerMinute", Math.round(throughput(runs) * 10) / 10.0);
+            List<Map<String, Object>> iterationRows = new ArrayList<>();
+            for (SuiteBenchmark.Iteration run : runs) {
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("wallMs", run.wallMillis);
+                row.put("cpuMs", run.cpuMillis);
+                row.put("peakRssMb", run.peakRssBytes < 0 ? null : run.peakRssBytes / (1024 * 1024));
+                row.put("exitCode", run.exitCode);
+                row.put("passed", run.passed);
+                row.put("failed", run.failed);
+                row.put("skipped", run.skipped);
+                iterationRows.add(row);
+            }
+            entry.put("iterations", iterationRows);
+            Map<String, Object> tests = new LinkedHashMap<>();
+            for (String test : tests(runs)) {
+                tests.put(test, Stats.of(runs.stream().filter(run -> run.testMillis.containsKey(test)).toList(),
+                    run -> run.testMillis.get(test)).toJson());
+            }
+            entry.put("tests", tests);
+            modes.add(entry);
+        });
+        root.put("modes", modes);
+        return root;
+    }
+
+    private String toHtml() {
+        double fastest = results.values().stream()
+            .mapToDouble(runs -> Stats.of(runs, run -> run.wallMillis).mean)
+            .filter(mean -> mean > 0).min().orElse(1);
+        StringBuilder html = new StringBuilder();
+        html.append("<!DOCTYPE html>\n<html lang=\"en\"><head><meta charset=\"utf-8\"><title>Suite benchmark</title>\n")
+            .append("<style>body{font-family:sans-serif;margin:2em}table{border-collapse:collapse;margin-bottom:2em}")
+            .append("td,th{border:1px solid #ccc;padding:4px 8px;text-align:right}td:first-child,th:first-child{text-align:left}")
+            .append(".bar{background:#4a90d9;height:10px;display:inline-block;margin-left:6px}</style></head><body>\n")
+            .append("<h1>Suite benchmark: ").append(escape(testClass)).append("</h1>\n")
+            .append("<p>").append(warmup).append(" warmup + ").append(iterations).append(" measured iteration(s) per mode, ")
+            .append(Runtime.getRuntime().availableProcessors()).append(" CPUs, Java ").append(escape(System.getProperty("java.version")))
+            .append(", commit ").append(escape(CommitSha.resolve())).append(". Mean &plusmn; standard deviation.</p>\n")
+            .append("<h2>Modes</h2>\n<table><tr><th>Mode</th><th>Wall ms</th><th>vs fastest</th><th>CPU ms</th>")
+            .append("<th>Peak RSS MB</th><th>Tests/min</th><th>Failed</th></tr>\n");
+        results.forEach((mode, runs) -> {
+            Stats wall = Stats.of(runs, run -> run.wallMillis);
+            double ratio = wall.mean / fastest;
+            html.append("<tr><td>").append(escape(mode.toString())).append("</td><td>").append(wall)
+                .append("</td><td>").append(String.format("%.2fx", ratio))
+                .append("<span class=\"bar\" style=\"width:").append(Math.round(60 * ratio)).append("px\"></span>")
+                .append("</td><td>").append(Stats.of(runs, run -> run.cpuMillis))
+                .append("</td><td>").append(rssMb(runs))
+                .append("</td><td>").append(String.format("%.1f", throughput(runs)))
+                .append("</td><td>").append(runs.stream().mapToInt(run -> run.failed).sum())
+                .append("</td></tr>\n");
+        });
+        html.append("</table>\n<h2>Tests (ms)</h2>\n<table><tr><th>Test</th>");
+        results.keySet().forEach(mode -> html.append("<th>").append(escape(mode.getName())).append("</th>"));
+        html.append("</tr>\n");
+        TreeSet<String> allTests = new TreeSet<>();
+        results.values().forEach(runs -> allTests.addAll(tests(runs)));
+        for (String test : allTests) {
+            html.append("<tr><td>").append(escape(test)).append("</td>");
+            results.values().forEach(runs -> {
+                List<SuiteBenchmark.Iteration> with = runs.stream().filter(run -> run.testMillis.containsKey(test)).toList();
+                html.append("<td>").append(with.isEmpty() ? "-" : Stats.of(with, run -> run.testMillis.get(test))).append("</td>");
+            });
+            html.append("</tr>\n");
+        }
+        html.append("</table>\n</body></html>\n");
+        return html.toString();
+    }
+
+    private static TreeSet<String> tests(List<SuiteBenchmark.Iteration> runs) {
+        TreeSet<String> tests = new TreeSet<>();
+        runs.forEach(run -> tests.addAll(run.testMillis.keySet()));
+        return tests;
+    }
+
+    private static double throughput(List<SuiteBenchmark.Iteration> runs) {
+        double wall = Stats.of(runs, run -> run.wallMillis).mean;
+        double tests = runs.stream().mapToInt(run -> run.passed + run.failed + run.skipped).average().orElse(0);
+        return wall <= 0 ? 0 : tests * 60_000 / wall;
+    }
+
+    private static String rssMb(List<SuiteBenchmark.Iteration> runs) {
+        if (runs.stream().anyMatch(run -> run.peakRssBytes < 0)) {
+            return "n/a";
+        }
+        return Stats.of(runs, run -> run.peakRssBytes / (1024 * 1024)).toString();
+    }
+
+    private static String escape(String text) {
+        return text.replace("&", "&amp;").replace("<", "&lt;").replace(">", "&gt;");
+    }
+
+    /**
+     * Mean, sample standard deviation and range of one figure over iterations
+     */
+    static final class Stats {
+        final int n;
+        final double mean;
+        final double sd;
+        final long min;
+        final long max;
+
+        private Stats(int n, double mean, double sd, long min, long max) {
+            this.n = n;
+            this.mean = mean;
+            this.sd = sd;
+            this.min = min;
+            this.max = max;
+        }
+
+        static Stats of(List<SuiteBenchmark.Iteration> runs, ToLongFunction<SuiteBenchmark.Iteration> figure) {
+            long[] values = runs.stream().mapToLong(figure).toArray();
+            if (values.length == 0) {
+                return new Stats(0, 0, 0, 0, 0);
+            }
+            double mean = 0;
+            long min = Long.MAX_VALUE;
+            long max = Long.MIN_VALUE;
+            for (long value : values) {
+                mean += value;
+                min = Math.min(min, value);
+                max = Math.max(max, value);
+            }
+            mean /= values.length;
+            double squares = 0;
+            for (long value : values) {
+                squares += (value - mean) * (value - mean);
+            }
+            double sd = values.length > 1 ? Math.sqrt(squares / (values.length - 1)) : 0;
+            return new Stats(values.length, mean, sd, min, max);
+        }
+
+        Map<String, Object> toJson() {
+            Map<String, Object> json = new LinkedHashMap<>();
+            json.put("n", n);
+            json.put("mean", Math.round(mean * 10) / 10.0);
+            json.put("sd", Math.round(sd * 10) / 10.0);
+            json.put("min", min);
+            json.put("max", max);
+            return json;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%.0f +/- %.0f", mean, sd);
+        }
+    }
+}
@@ -0,0 +1,106 @@
+package com.saucedemo.benchmark;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * Samples CPU time and resident memory of a process and everything it starts (chromedriver, Chrome)
+ * CPU is the last value seen per process, so processes that exit between samples keep what they had used.
+ * RSS comes from /proc and is only available on Linux; elsewhere peak RSS stays -1.
+ */
+final class ProcessTreeSampler implements AutoCloseable {
+
+    private static final long INTERVAL_MS = Long.getLong("benchmark.sample.ms", 200);
+
+    private final ProcessHandle root;
+    private final Map<Long, Long> cpuNanos = new ConcurrentHashMap<>();
+    private final Thread sampler;
+    private volatile long peakRssBytes = -1;
+    private volatile boolean running = true;
+
+    ProcessTreeSampler(ProcessHandle root) {
+        this.root = root;
+        this.sampler = new Thread(this::loop, "benchmark-sampler");
+        sampler.setDaemon(true);
+        sampler.start();
+    }
+
+    /**
+     * CPU time used by the tree so far
+     */
+    long cpuMillis() {
+        return cpuNanos.values().stream().mapToLong(Long::longValue).sum() / 1_000_000;
+    }
+
+    /**
+     * Highest sum of resident set sizes over the tree, or -1 if unknown
+     */
+    long peakRssBytes() {
+        return peakRssBytes;
+    }
+
+    @Override
+    public void close() {
+        running = false;
+        sampler.interrupt();
+        try {
+            sampler.join(1000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Helper methods
+
+    private void loop() {
+        while (running) {
+            sample();
+            try {
+                Thread.sleep(INTERVAL_MS);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    private void sample() {
+        List<ProcessHandle> tree;
+        try (Stream<ProcessHandle> descendants = root.descendants()) {
+            tree = Stream.concat(Stream.of(root), descendants).toList();
+        }
+        long rss = 0;
+        boolean rssKnown = false;
+        for (ProcessHandle process : tree) {
+            process.info().totalCpuDuration().map(Duration::toNanos)
+                .ifPresent(nanos -> cpuNanos.merge(process.pid(), nanos, Math::max));
+            long processRss = rss(process.pid());
+            if (processRss >= 0) {
+                rss += processRss;
+                rssKnown = true;
+            }
+        }
+        if (rssKnown && rss > peakRssBytes) {
+            peakRssBytes = rss;
+        }
+    }
+
+    private static long rss(long pid) {
+        Path status = Paths.get("/proc", String.valueOf(pid), "status");
+        try (Stream<String> lines = Files.lines(status)) {
+            return lines.filter(line -> line.startsWith("VmRSS:"))
+                .findFirst()
+                // "VmRSS:     123456 kB"
+                .map(line -> Long.parseLong(line.replaceAll("[^0-9]", "")) * 1024)
+                .orElse(-1L);
+        } catch (IOException | RuntimeException e) {
+            return -1;
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.saucedemo.benchmark;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Runs a test class end to end against the local stand-in in every {@link BenchmarkMode} and compares them
+ * Each iteration is a fresh JVM running TestNG, so JIT, session and stand-in start-up are part of what is measured.
+ * Warmup iterations are run and thrown away; measured ones record wall time, CPU time and peak RSS of the whole
+ * process tree, and every test invocation's duration (from the NDJSON result stream).
+ * Usage: SuiteBenchmark [test class], default com.saucedemo.tests.SauceDemoTestsRefactored.
+ * Writes -Dbenchmark.dir (default target/benchmark)/benchmark.json and benchmark.html.
+ */
+public final class SuiteBenchmark {
+
+    private static final Logger LOG = LogManager.getLogger(SuiteBenchmark.class);
+    private static final Path DIR = Paths.get(System.getProperty("benchmark.dir", "target/benchmark"));
+    private static final int WARMUP = Integer.getInteger("benchmark.warmup", 1);
+    private static final int ITERATIONS = Math.max(1, Integer.getInteger("benchmark.iterations", 3));
+    private static final int THREADS = Integer.getInteger("benchmark.threads", 4);
+    private static final long TIMEOUT_MINUTES = Long.getLong("benchmark.timeout.min", 30);
+
+    private SuiteBenchmark() {
+    }
+
+    /**
+     * Outcome of one suite run in one mode
+     */
+    static final class Iteration {
+        long wallMillis;
+        long cpuMillis;
+        long peakRssBytes;
+        int exitCode;
+        int passed;
+        int failed;
+        int skipped;
+        final Map<String, Long> testMillis = new LinkedHashMap<>();
+    }
+
+    public static void main(String[] args) {
+        String testClass = args.length > 0 ? args[0] : "com.saucedemo.tests.SauceDemoTestsRefactored";
+        List<BenchmarkMode> modes = BenchmarkMode.selected(THREADS);
+        if (modes.isEmpty()) {
+            System.err.println("No benchmark mode selected; check -Dbenchmark.modes");
+            System.exit(2);
+        }
+        LOG.info("[benchmark] {} in {} mode(s), {} warmup + {} measured iteration(s) each", testClass, modes.size(), WARMUP, ITERATIONS);
+        Map<BenchmarkMode, List<Iteration>> results = new LinkedHashMap<>();
+        for (BenchmarkMode mode : modes) {
+            List<Iteration> measured = new ArrayList<>();
+            for (int i = 0; i < WARMUP + ITERATIONS; i++) {
+                boolean warmup = i < WARMUP;
+                String label = warmup ? "warmup-" + (i + 1) : "run-" + (i - WARMUP + 1);
+                Iteration iteration = run(mode, testClass, DIR.resolve(mode.getName()).resolve(label));
+                LOG.info("[benchmark] {} {}: {} ms wall, {} ms cpu, {} passed / {} failed / {} skipped",
+                    mode.getName(), label, iteration.wallMillis, iteration.cpuMillis,
+                    iteration.passed, iteration.failed, iteration.skipped);
+                if (!warmup) {
+                    measured.add(iteration);
+                }
+            }
+            results.put(mode, measured);
+        }
+        BenchmarkReport report = new BenchmarkReport(testClass, WARMUP, ITERATIONS, results);
+        report.write(DIR);
+        System.out.println(report.summary());
+        System.out.println("Report: " + DIR.resolve("benchmark.html").toAbsolutePath());
+    }
+
+    // Helper methods
+
+    private static Iteration run(BenchmarkMode mode, String testClass, Path dir) {
+        try {
+            deleteTree(dir);
+            Files.createDirectories(dir);
+            Path suite = dir.resolve("suite.xml");
+            Files.writeString(suite, mode.suiteXml(testClass), StandardCharsets.UTF_8);
+            List<String> command = new ArrayList<>();
+            command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+            command.add("-cp");
+            command.add(System.getProperty("java.class.path"));
+            command.add("-Dresults.stream.dir=" + dir.resolve("results").toAbsolutePath());
+            command.add("-Dshard.id=run");
+            // Keep benchmark runs out of the run history and pass cache, and let latency breaches only report
+            command.add("-Dhistory.enabled=false");
+            command.add("-Dincremental=false");
+            command.add("-Dslo.mode=report");
+            command.add("-Dheadless=" + mode.isHeadless());
+            command.add("org.testng.TestNG");
+            command.add("-d");
+            command.add(dir.resolve("testng").toAbsolutePath().toString());
+            command.add(suite.toAbsolutePath().toString());
+
+            Iteration iteration = new Iteration();
+            long start = System.nanoTime();
+            Process process = new ProcessBuilder(command)
+                .redirectErrorStream(true)
+                .redirectOutput(dir.resolve("console.log").toFile())
+                .start();
+            try (ProcessTreeSampler sampler = new ProcessTreeSampler(process.toHandle())) {
+                if (!process.waitFor(TIMEOUT_MINUTES, TimeUnit.MINUTES)) {
+                    process.descendants().forEach(ProcessHandle::destroyForcibly);
+                    process.destroyForcibly().waitFor();
+                    LOG.warn("[benchmark] {} did not finish within {} min, killed", dir, TIMEOUT_MINUTES);
+                }
+                iteration.wallMillis = (System.nanoTime() - start) / 1_000_000;
+                iteration.exitCode = process.exitValue();
+                iteration.cpuMillis = sampler.cpuMillis();
+                iteration.peakRssBytes = sampler.peakRssBytes();
+            }
+            readResults(dir.resolve("results").resolve("run.ndjson"), iteration);
+            return iteration;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Benchmark run in " + dir + " failed", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted", e);
+        }
+    }
+
+    private static void readResults(Path stream, Iteration iteration) throws IOException {
+        if (!Files.exists(stream)) {
+            return;
+        }
+        Json json = new Json();
+        for (String line : Files.readAllLines(stream, StandardCharsets.UTF_8)) {
+            if (line.isBlank()) {
+                continue;
+            }
+            Map<String, Object> event = json.toType(line, Json.MAP_TYPE);
+            if (!"finish".equals(event.get("type"))) {
+                continue;
+            }
+            switch (String.valueOf(event.get("status"))) {
+                case "PASSED" -> iteration.passed++;
+                case "FAILED" -> iteration.failed++;
+                case "SKIPPED" -> iteration.skipped++;
+                default -> {
+                    // Retried attempts are not results of their own
+                    continue;
+                }
+            }
+            Object row = event.get("dataRow");
+            String test = event.get("test") + (row == null || "[]".equals(row) ? "" : row.toString());
+            iteration.testMillis.merge(test, ((Number) event.get("durationMs")).longValue(), Long::sum);
+        }
+    }
+
+    private static void deleteTree(Path dir) throws IOException {
+        if (!Files.exists(dir)) {
+            return;
+        }
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path path : files.sorted((a, b) -> b.compareTo(a)).toList()) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,169 @@
+package com.saucedemo.concurrent;
+
+import com.sun.management.OperatingSystemMXBean;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Resizes a test method executor while it runs, AIMD style
+ * Every -Dadaptive.interval.s (default 5) it drains the {@link ConcurrencySignals} and reads host CPU and memory.
+ * Overloaded (CPU, memory, p95 step latency or timeout rate over its limit): cut the limit by -Dadaptive.decrease
+ * (default 0.5), then hold one tick so the cut can show. Healthy with tests queued: one more concurrent test.
+ * The limit stays within -Dadaptive.min (1) and the suite's thread count. Every tick is kept for the report.
+ */
+public class AdaptiveConcurrencyController {
+
+    private static final Logger LOG = LogManager.getLogger(AdaptiveConcurrencyController.class);
+    private static final long INTERVAL_MS = Long.getLong("adaptive.interval.s", 5) * 1000;
+    private static final double CPU_MAX = Double.parseDouble(System.getProperty("adaptive.cpu.max", "0.85"));
+    private static final double FREE_MEMORY_MIN = Double.parseDouble(System.getProperty("adaptive.memory.free.min", "0.10"));
+    private static final double LATENCY_FACTOR = Double.parseDouble(System.getProperty("adaptive.latency.factor", "2.0"));
+    private static final double TIMEOUT_RATE_MAX = Double.parseDouble(System.getProperty("adaptive.timeouts.max", "0.02"));
+    private static final double DECREASE = Double.parseDouble(System.getProperty("adaptive.decrease", "0.5"));
+    private static final int MIN_STEPS = Integer.getInteger("adaptive.latency.minSteps", 20);
+    private static final List<Map<String, Object>> TIMELINE = new ArrayList<>();
+
+    private final String name;
+    private final ThreadPoolExecutor executor;
+    private final int min;
+    private final int max;
+    private final long startNanos = System.nanoTime();
+    private final OperatingSystemMXBean os = ManagementFactory.getPlatformMXBean(OperatingSystemMXBean.class);
+    private final ScheduledExecutorService ticker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "adaptive-concurrency");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private int limit;
+    private long baselineP95Nanos = Long.MAX_VALUE;
+    private boolean coolingDown;
+
+    /**
+     * Take over an executor's pool size and start ticking
+     * @param name executor name, shown in the timeline
+     * @param executor TestNG's method executor
+     * @param max the suite's thread count, the most concurrent tests allowed
+     */
+    public AdaptiveConcurrencyController(String name, ThreadPoolExecutor executor, int max) {
+        this.name = name;
+        this.executor = executor;
+        this.max = Math.max(1, max);
+        this.min = Math.min(this.max, Math.max(1, Integer.getInteger("adaptive.min", 1)));
+        this.limit = Math.min(this.max, Math.max(min, Integer.getInteger("adaptive.start", 2)));
+        apply(limit);
+        record("START", limit, limit, List.of(), null, Double.NaN, Double.NaN);
+        ticker.scheduleWithFixedDelay(this::tick, INTERVAL_MS, INTERVAL_MS, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Every decision taken so far, across executors, oldest first
+     */
+    public static List<Map<String, Object>> timeline() {
+        synchronized (TIMELINE) {
+            return new ArrayList<>(TIMELINE);
+        }
+    }
+
+    // Helper methods
+
+    private void tick() {
+        if (executor.isShutdown()) {
+            ticker.shutdown();
+            return;
+        }
+        try {
+            ConcurrencySignals.Window window = ConcurrencySignals.drain();
+            double cpu = os.getCpuLoad();
+            double freeMemory = (double) os.getFreeMemorySize() / os.getTotalMemorySize();
+            if (window.getSteps() >= MIN_STEPS && window.getP95Nanos() > 0) {
+                baselineP95Nanos = Math.min(baselineP95Nanos, window.getP95Nanos());
+            }
+            List<String> overload = overload(window, cpu, freeMemory);
+            int before = limit;
+            String action;
+            if (!overload.isEmpty() && !coolingDown && limit > min) {
+                limit = Math.max(min, (int) Math.floor(limit * DECREASE));
+                coolingDown = true;
+                action = "DECREASE";
+            } else if (overload.isEmpty() && !coolingDown && !executor.getQueue().isEmpty() && limit < max) {
+                limit++;
+                action = "INCREASE";
+            } else {
+                coolingDown = false;
+                action = "HOLD";
+            }
+            apply(limit);
+            record(action, before, limit, overload, window, cpu, freeMemory);
+            if (limit != before) {
+                LOG.info("[adaptive] {} {} -> {} concurrent test(s){}", name, before, limit,
+                    overload.isEmpty() ? "" : " (" + String.join(", ", overload) + ")");
+            }
+        } catch (RuntimeException e) {
+            LOG.warn("[adaptive] tick failed", e);
+        }
+    }
+
+    private List<String> overload(ConcurrencySignals.Window window, double cpu, double freeMemory) {
+        List<String> reasons = new ArrayList<>();
+        if (cpu > CPU_MAX) {
+            reasons.add(String.format("cpu %.0f%% > %.0f%%", cpu * 100, CPU_MAX * 100));
+        }
+        if (freeMemory < FREE_MEMORY_MIN) {
+            reasons.add(String.format("free memory %.0f%% < %.0f%%", freeMemory * 100, FREE_MEMORY_MIN * 100));
+        }
+        if (window.getSteps() >= MIN_STEPS && baselineP95Nanos != Long.MAX_VALUE
+            && window.getP95Nanos() > baselineP95Nanos * LATENCY_FACTOR) {
+            reasons.add(String.format("p95 step %d ms > %.1fx baseline %d ms", window.getP95Nanos() / 1_000_000,
+                LATENCY_FACTOR, baselineP95Nanos / 1_000_000));
+        }
+        if (window.getTimeoutRate() > TIMEOUT_RATE_MAX) {
+            reasons.add(String.format("timeouts %.1f%% > %.1f%%", window.getTimeoutRate() * 100, TIMEOUT_RATE_MAX * 100));
+        }
+        return reasons;
+    }
+
+    private void apply(int size) {
+        // Core and maximum move together; whichever bound is crossed first must move first
+        if (size > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(size);
+            executor.setCorePoolSize(size);
+        } else {
+            executor.setCorePoolSize(size);
+            executor.setMaximumPoolSize(size);
+        }
+    }
+
+    private void record(String action, int from, int to, List<String> reasons, ConcurrencySignals.Window window,
+                        double cpu, double freeMemory) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("executor", name);
+        entry.put("atMs", (System.nanoTime() - startNanos) / 1_000_000);
+        entry.put("action", action);
+        entry.put("from", from);
+        entry.put("to", to);
+        entry.put("reasons", reasons);
+        entry.put("cpu", Double.isNaN(cpu) || cpu < 0 ? null : Math.round(cpu * 1000) / 1000.0);
+        entry.put("freeMemory", Double.isNaN(freeMemory) ? null : Math.round(freeMemory * 1000) / 1000.0);
+        entry.put("active", executor.getActiveCount());
+        entry.put("queued", executor.getQueue().size());
+        if (window != null) {
+            entry.put("steps", window.getSteps());
+            entry.put("p95StepMs", window.getP95Nanos() / 1_000_000);
+            entry.put("baselineP95StepMs", baselineP95Nanos == Long.MAX_VALUE ? null : baselineP95Nanos / 1_000_000);
+            entry.put("timeoutRate", Math.round(window.getTimeoutRate() * 1000) / 1000.0);
+        }
+        synchronized (TIMELINE) {
+            TIMELINE.add(entry);
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.saucedemo.concurrent;
+
+import org.testng.IDynamicGraph;
+import org.testng.ISuite;
+import org.testng.ITestNGMethod;
+import org.testng.thread.IExecutorFactory;
+import org.testng.thread.ITestNGThreadPoolExecutor;
+import org.testng.thread.IThreadWorkerFactory;
+
+import java.util.Comparator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link VirtualThreadExecutorFactory} whose method executors are sized at runtime by an {@link AdaptiveConcurrencyController}
+ * Ready test methods wait in the executor's shared queue and a worker takes the next one whenever it is under the limit;
+ * the suite's thread count becomes the ceiling rather than the concurrency
+ */
+public class AdaptiveExecutorFactory implements IExecutorFactory {
+
+    private final VirtualThreadExecutorFactory delegate = new VirtualThreadExecutorFactory();
+
+    @Override
+    public ITestNGThreadPoolExecutor newSuiteExecutor(String name, IDynamicGraph<ISuite> graph,
+                                                      IThreadWorkerFactory<ISuite> factory, int corePoolSize,
+                                                      int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                                      BlockingQueue<Runnable> workQueue, Comparator<ISuite> comparator) {
+        return delegate.newSuiteExecutor(name, graph, factory, corePoolSize, maximumPoolSize, keepAliveTime, unit,
+            workQueue, comparator);
+    }
+
+    @Override
+    public ITestNGThreadPoolExecutor newTestMethodExecutor(String name, IDynamicGraph<ITestNGMethod> graph,
+                                                           IThreadWorkerFactory<ITestNGMethod> factory, int corePoolSize,
+                                                           int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                                           BlockingQueue<Runnable> workQueue,
+                                                           Comparator<ITestNGMethod> comparator) {
+        ITestNGThreadPoolExecutor executor = delegate.newTestMethodExecutor(name, graph, factory, corePoolSize,
+            maximumPoolSize, keepAliveTime, unit, workQueue, comparator);
+        new AdaptiveConcurrencyController(name, (ThreadPoolExecutor) executor, maximumPoolSize);
+        return executor;
+    }
+}
@@ -0,0 +1,151 @@
+package com.saucedemo.concurrent;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Load signals collected while tests run, drained by the {@link AdaptiveConcurrencyController} once per tick
+ * Step latencies come from ActionStep, wait outcomes from Waits, timeout failures from the listener.
+ * Only collected with -Dadaptive=true, so other runs pay nothing.
+ */
+public final class ConcurrencySignals {
+
+    private static final boolean ENABLED = Boolean.getBoolean("adaptive");
+    // A lock rather than synchronized, so virtual threads recording a step don't pin their carrier
+    private static final ReentrantLock LOCK = new ReentrantLock();
+
+    private static long[] stepNanos = new long[256];
+    private static int steps;
+    private static int waits;
+    private static int waitTimeouts;
+    private static int tests;
+    private static int testTimeouts;
+
+    private ConcurrencySignals() {
+    }
+
+    /**
+     * What happened since the previous drain
+     */
+    public static final class Window {
+        private final long p95Nanos;
+        private final int steps;
+        private final int waits;
+        private final int timeouts;
+        private final int outcomes;
+
+        private Window(long p95Nanos, int steps, int waits, int timeouts, int outcomes) {
+            this.p95Nanos = p95Nanos;
+            this.steps = steps;
+            this.waits = waits;
+            this.timeouts = timeouts;
+            this.outcomes = outcomes;
+        }
+
+        /** 95th percentile step duration, 0 without steps */
+        public long getP95Nanos() {
+            return p95Nanos;
+        }
+
+        public int getSteps() {
+            return steps;
+        }
+
+        public int getWaits() {
+            return waits;
+        }
+
+        /** Share of waits and tests that ran out of time, 0 when there were none */
+        public double getTimeoutRate() {
+            return outcomes == 0 ? 0 : (double) timeouts / outcomes;
+        }
+    }
+
+    /**
+     * Record one successful action step
+     * @param nanos its duration
+     */
+    public static void recordStep(long nanos) {
+        if (!ENABLED) {
+            return;
+        }
+        LOCK.lock();
+        try {
+            if (steps == stepNanos.length) {
+                stepNanos = Arrays.copyOf(stepNanos, steps * 2);
+            }
+            stepNanos[steps++] = nanos;
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Record the end of a polling wait
+     * @param satisfied false if it gave up at its timeout
+     */
+    public static void recordWait(boolean satisfied) {
+        if (!ENABLED) {
+            return;
+        }
+        LOCK.lock();
+        try {
+            waits++;
+            if (!satisfied) {
+                waitTimeouts++;
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Record a finished test
+     * @param timedOut true if it failed with a timeout
+     */
+    public static void recordTest(boolean timedOut) {
+        if (!ENABLED) {
+            return;
+        }
+        LOCK.lock();
+        try {
+            tests++;
+            if (timedOut) {
+                testTimeouts++;
+            }
+        } finally {
+            LOCK.unlock();
+        }
+    }
+
+    /**
+     * Take everything recorded since the last drain
+     * @return the window
+     */
+    public static Window drain() {
+        long[] window;
+        int windowWaits;
+        int timeouts;
+        int outcomes;
+        LOCK.lock();
+        try {
+            window = Arrays.copyOf(stepNanos, steps);
+            windowWaits = waits;
+            timeouts = waitTimeouts + testTimeouts;
+            outcomes = waits + tests;
+            steps = 0;
+            waits = 0;
+            waitTimeouts = 0;
+            tests = 0;
+            testTimeouts = 0;
+        } finally {
+            LOCK.unlock();
+        }
+        long p95 = 0;
+        if (window.length > 0) {
+            Arrays.sort(window);
+            p95 = window[(int) Math.ceil(window.length * 0.95) - 1];
+        }
+        return new Window(p95, window.length, windowWaits, timeouts, outcomes);
+    }
+}
@@ -0,0 +1,109 @@
+package com.saucedemo.concurrent;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ITestContext;
+import org.testng.ITestNGMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Turns every row of a data-driven test into a scenario of its own, for {@link VirtualThreadSuiteRunner} only
+ * TestNG runs a data provider's rows one after another on the method's worker, or with parallel=true on a
+ * platform-thread pool of its own that no executor factory reaches. Here each row becomes a clone of the method
+ * limited to that row (TestNG's invocation numbers), so rows are scheduled by the suite's method executor like
+ * any other test method: on virtual threads, within -Dexecutor.threads.
+ * Methods whose provider needs arguments, or is not a static no-arg method, keep their rows together.
+ */
+public class ScenarioExpander implements IMethodInterceptor {
+
+    private static final Logger LOG = LogManager.getLogger(ScenarioExpander.class);
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        List<IMethodInstance> scenarios = new ArrayList<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            int rows = method.getInvocationNumbers().isEmpty() ? rows(method) : -1;
+            if (rows <= 1) {
+                scenarios.add(instance);
+                continue;
+            }
+            for (int row = 0; row < rows; row++) {
+                ITestNGMethod scenario = method.clone();
+                // clone() leaves the copy on a placeholder test class, which has no configuration methods
+                scenario.setTestClass(method.getTestClass());
+                scenario.setInvocationNumbers(List.of(row));
+                scenarios.add(new Scenario(scenario, instance.getInstance()));
+            }
+            LOG.debug("[scenarios] {} expanded to {} scenarios", method.getQualifiedName(), rows);
+        }
+        return scenarios;
+    }
+
+    // Helper methods
+
+    // Number of rows the method's provider yields, or -1 when it cannot be read up front
+    private static int rows(ITestNGMethod method) {
+        Method test = method.getConstructorOrMethod().getMethod();
+        Test annotation = test == null ? null : test.getAnnotation(Test.class);
+        if (annotation == null || annotation.dataProvider().isEmpty()) {
+            return -1;
+        }
+        Class<?> owner = annotation.dataProviderClass() == Object.class ? test.getDeclaringClass() : annotation.dataProviderClass();
+        for (Method candidate : owner.getMethods()) {
+            DataProvider provider = candidate.getAnnotation(DataProvider.class);
+            String name = provider == null ? null : provider.name().isEmpty() ? candidate.getName() : provider.name();
+            if (annotation.dataProvider().equals(name)) {
+                return count(candidate);
+            }
+        }
+        return -1;
+    }
+
+    private static int count(Method provider) {
+        if (!Modifier.isStatic(provider.getModifiers()) || provider.getParameterCount() > 0) {
+            return -1;
+        }
+        try {
+            Object data = provider.invoke(null);
+            if (data instanceof Object[][] rows) {
+                return rows.length;
+            }
+            if (data instanceof Iterator<?> rows) {
+                int count = 0;
+                for (; rows.hasNext(); rows.next()) {
+                    count++;
+                }
+                return count;
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            LOG.warn("[scenarios] could not count the rows of {}: {}", provider.getName(), e.toString());
+        }
+        return -1;
+    }
+
+    /**
+     * One row of a data-driven method, on the test class instance TestNG created
+     */
+    private record Scenario(ITestNGMethod method, Object instance) implements IMethodInstance {
+
+        @Override
+        public ITestNGMethod getMethod() {
+            return method;
+        }
+
+        @Override
+        public Object getInstance() {
+            return instance;
+        }
+    }
+}
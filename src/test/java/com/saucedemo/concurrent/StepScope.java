@@ -0,0 +1,166 @@
+package com.saucedemo.concurrent;
+
+import com.saucedemo.trace.CommandLedger;
+import com.saucedemo.trace.TestInvocation;
+import org.openqa.selenium.TimeoutException;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Structured fork/join of sub-steps on virtual threads, bounded by a deadline
+ * The first failure or the deadline cancels (interrupts) the sub-steps still running, and no sub-step
+ * outlives the scope: close() waits for every forked thread to finish. Sub-steps run as the calling
+ * test invocation and action, so their JFR events, traces and WebDriver commands are attributed to them.
+ *
+ * StructuredTaskScope is still a preview API on Java 21, so this keeps the same shape on stable APIs:
+ * <pre>
+ * try (StepScope scope = StepScope.open("checks", Duration.ofSeconds(5))) {
+ *     Supplier&lt;Boolean&gt; header = scope.fork("header", () -&gt; ...);
+ *     Supplier&lt;Boolean&gt; text = scope.fork("text", () -&gt; ...);
+ *     scope.join();
+ *     ...
+ * }
+ * </pre>
+ */
+public final class StepScope implements AutoCloseable {
+
+    private final String name;
+    private final long deadlineNanos;
+    private final ExecutorService executor;
+    private final CompletionService<Object> completion;
+    private final List<Future<Object>> forks = new ArrayList<>();
+    private final List<String> forkNames = new ArrayList<>();
+    private final TestInvocation invocation = TestInvocation.current();
+    private final List<CommandLedger.Frame> frames = CommandLedger.currentFrames();
+    private final Thread owner = Thread.currentThread();
+
+    private StepScope(String name, Duration timeout) {
+        this.name = name;
+        this.deadlineNanos = System.nanoTime() + timeout.toNanos();
+        this.executor = VirtualThreads.perTask(name + "-");
+        this.completion = new ExecutorCompletionService<>(executor);
+    }
+
+    /**
+     * Open a scope whose sub-steps must all finish within the timeout
+     * @param name scope name, used for thread names and errors
+     * @param timeout time allowed from now until join() returns
+     * @return the scope, to be used in try-with-resources
+     */
+    public static StepScope open(String name, Duration timeout) {
+        return new StepScope(name, timeout);
+    }
+
+    /**
+     * Start a sub-step on its own virtual thread
+     * @param stepName name used in errors
+     * @param step the work
+     * @return handle to the result, readable after join()
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Supplier<T> fork(String stepName, Callable<T> step) {
+        checkOwner();
+        Future<Object> future = completion.submit(() -> {
+            TestInvocation.bind(invocation);
+            CommandLedger.bind(frames);
+            try {
+                return step.call();
+            } finally {
+                TestInvocation.bind(null);
+                CommandLedger.bind(null);
+            }
+        });
+        forks.add(future);
+        forkNames.add(stepName);
+        return () -> {
+            if (!future.isDone()) {
+                throw new IllegalStateException(stepName + " read before join()");
+            }
+            return (T) future.resultNow();
+        };
+    }
+
+    /**
+     * Wait for every sub-step; the first failure or the deadline cancels the rest
+     * @throws TimeoutException if the deadline passes first
+     * @throws RuntimeException or Error rethrown from the first failed sub-step
+     */
+    public void join() {
+        checkOwner();
+        try {
+            for (int done = 0; done < forks.size(); done++) {
+                long remaining = deadlineNanos - System.nanoTime();
+                Future<Object> next = completion.poll(Math.max(0, remaining), TimeUnit.NANOSECONDS);
+                if (next == null) {
+                    cancelAll();
+                    throw new TimeoutException(String.format("%s: deadline passed, cancelled %s", name, pending()));
+                }
+                next.get();
+            }
+        } catch (ExecutionException e) {
+            cancelAll();
+            throw rethrow(e.getCause());
+        } catch (CancellationException e) {
+            cancelAll();
+            throw e;
+        } catch (InterruptedException e) {
+            cancelAll();
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(name + " interrupted", e);
+        }
+    }
+
+    /**
+     * Cancel anything still running and wait for the forked threads to end
+     */
+    @Override
+    public void close() {
+        cancelAll();
+        executor.close();
+    }
+
+    // Helper methods
+
+    private void cancelAll() {
+        for (Future<Object> fork : forks) {
+            fork.cancel(true);
+        }
+    }
+
+    private List<String> pending() {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < forks.size(); i++) {
+            if (forks.get(i).isCancelled()) {
+                names.add(forkNames.get(i));
+            }
+        }
+        return names;
+    }
+
+    private void checkOwner() {
+        if (Thread.currentThread() != owner) {
+            throw new IllegalStateException(name + " is owned by " + owner.getName());
+        }
+    }
+
+    private static RuntimeException rethrow(Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IllegalStateException(cause);
+    }
+}
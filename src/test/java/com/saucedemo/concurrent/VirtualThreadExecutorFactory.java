@@ -0,0 +1,45 @@
+package com.saucedemo.concurrent;
+
+import org.testng.IDynamicGraph;
+import org.testng.ISuite;
+import org.testng.ITestNGMethod;
+import org.testng.internal.thread.DefaultThreadPoolExecutorFactory;
+import org.testng.internal.thread.graph.GraphThreadPoolExecutor;
+import org.testng.thread.IExecutorFactory;
+import org.testng.thread.ITestNGThreadPoolExecutor;
+import org.testng.thread.IThreadWorkerFactory;
+
+import java.util.Comparator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * TestNG executor factory that runs parallel test methods on virtual threads
+ * Keeps TestNG's own dependency-graph scheduling and only swaps the worker threads,
+ * so the suite's thread-count becomes a concurrency limit rather than a pool of platform threads
+ */
+public class VirtualThreadExecutorFactory implements IExecutorFactory {
+
+    private final IExecutorFactory suites = new DefaultThreadPoolExecutorFactory();
+
+    @Override
+    public ITestNGThreadPoolExecutor newSuiteExecutor(String name, IDynamicGraph<ISuite> graph,
+                                                      IThreadWorkerFactory<ISuite> factory, int corePoolSize,
+                                                      int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                                      BlockingQueue<Runnable> workQueue, Comparator<ISuite> comparator) {
+        return suites.newSuiteExecutor(name, graph, factory, corePoolSize, maximumPoolSize, keepAliveTime, unit,
+            workQueue, comparator);
+    }
+
+    @Override
+    public ITestNGThreadPoolExecutor newTestMethodExecutor(String name, IDynamicGraph<ITestNGMethod> graph,
+                                                           IThreadWorkerFactory<ITestNGMethod> factory, int corePoolSize,
+                                                           int maximumPoolSize, long keepAliveTime, TimeUnit unit,
+                                                           BlockingQueue<Runnable> workQueue,
+                                                           Comparator<ITestNGMethod> comparator) {
+        GraphThreadPoolExecutor<ITestNGMethod> executor = new GraphThreadPoolExecutor<>(name, graph, factory,
+            corePoolSize, maximumPoolSize, keepAliveTime, unit, workQueue, comparator);
+        executor.setThreadFactory(VirtualThreads.factory("scenario-"));
+        return executor;
+    }
+}
@@ -0,0 +1,34 @@
+package com.saucedemo.concurrent;
+
+import org.testng.TestNG;
+import org.testng.xml.XmlSuite;
+
+import java.util.Arrays;
+
+/**
+ * Runs TestNG suites with test methods on virtual threads: mvn verify -Pvirtual-threads
+ * Surefire cannot pass TestNG a thread pool factory, so this profile launches TestNG directly.
+ * Concurrency comes from -Dexecutor.threads (default 64) and is applied as parallel="methods". Every row of a
+ * data-driven method is a scenario of its own ({@link ScenarioExpander}), so scenarios, not methods, share that limit.
+ * With -Dadaptive=true that is only the ceiling; {@link AdaptiveConcurrencyController} sets the limit as the run goes,
+ * and the scenarios wait in the controlled method queue. Adaptive mode needs this runner: a plain mvn test has no
+ * method executor to control.
+ */
+public final class VirtualThreadSuiteRunner {
+
+    private VirtualThreadSuiteRunner() {
+    }
+
+    public static void main(String[] args) {
+        TestNG testng = new TestNG();
+        testng.setTestSuites(Arrays.asList(args.length > 0 ? args : new String[] {"testng.xml"}));
+        testng.setExecutorFactory(Boolean.getBoolean("adaptive") ? new AdaptiveExecutorFactory() : new VirtualThreadExecutorFactory());
+        testng.setParallel(XmlSuite.ParallelMode.METHODS);
+        int threads = Integer.getInteger("executor.threads", 64);
+        testng.setThreadCount(threads);
+        testng.addListener(new ScenarioExpander());
+        testng.setOutputDirectory(System.getProperty("testng.output", "target/surefire-reports"));
+        testng.run();
+        System.exit(testng.getStatus());
+    }
+}
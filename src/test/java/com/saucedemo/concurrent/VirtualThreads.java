@@ -0,0 +1,34 @@
+package com.saucedemo.concurrent;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * Virtual thread factories for the suite's own concurrency
+ * A thread blocked in Thread.sleep or on a WebDriver HTTP call unmounts from its carrier,
+ * so hundreds of waiting scenarios cost a few carrier threads instead of a sized platform pool.
+ */
+public final class VirtualThreads {
+
+    private VirtualThreads() {
+    }
+
+    /**
+     * Thread factory for named virtual threads
+     * @param prefix name prefix, threads are called prefix0, prefix1, ...
+     * @return ThreadFactory
+     */
+    public static ThreadFactory factory(String prefix) {
+        return Thread.ofVirtual().name(prefix, 0).factory();
+    }
+
+    /**
+     * Executor that starts a new virtual thread per task
+     * @param prefix name prefix for the threads
+     * @return ExecutorService, to be closed by the caller
+     */
+    public static ExecutorService perTask(String prefix) {
+        return Executors.newThreadPerTaskExecutor(factory(prefix));
+    }
+}
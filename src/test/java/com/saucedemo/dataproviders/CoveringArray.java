@@ -0,0 +1,202 @@
+package com.saucedemo.dataproviders;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Combinatorial data rows that cover every t-way combination of values instead of the full cross product
+ * Built greedily and deterministically: each row starts from the first uncovered combination and fills the
+ * remaining dimensions with the value that covers the most new combinations (ties go to the earlier value),
+ * trying each dimension as the starting point and keeping the row that covers most.
+ * The result is small, not provably minimal. Default strength is -Ddataprovider.strength (2, pairwise).
+ */
+public class CoveringArray {
+
+    private final List<Object[]> dimensions = new ArrayList<>();
+
+    /**
+     * Add a dimension; its values fill one column of every row, in the order dimensions are added
+     * @param name what the dimension varies, e.g. "username"
+     * @param values the values to combine
+     * @return this CoveringArray
+     */
+    public CoveringArray dimension(String name, Object... values) {
+        if (values.length == 0) {
+            throw new IllegalArgumentException("Dimension " + name + " has no values");
+        }
+        dimensions.add(values.clone());
+        return this;
+    }
+
+    /**
+     * Rows covering all combinations at the default strength
+     * @return data provider rows
+     */
+    public Object[][] rows() {
+        return rows(Integer.getInteger("dataprovider.strength", 2));
+    }
+
+    /**
+     * Rows covering every combination of values of any {@code strength} dimensions
+     * A strength of at least the number of dimensions gives the full cross product.
+     * @param strength t, e.g. 2 for pairwise
+     * @return data provider rows
+     * @throws IllegalStateException if no dimension was declared
+     */
+    public Object[][] rows(int strength) {
+        if (strength < 1) {
+            throw new IllegalArgumentException("Strength must be at least 1, was " + strength);
+        }
+        if (dimensions.isEmpty()) {
+            throw new IllegalStateException("No dimensions declared");
+        }
+        int t = Math.min(strength, dimensions.size());
+        Set<List<Integer>> uncovered = new LinkedHashSet<>();
+        for (int[] columns : subsets(dimensions.size(), t)) {
+            addCombinations(columns, new int[t], 0, uncovered);
+        }
+        List<Object[]> rows = new ArrayList<>();
+        while (!uncovered.isEmpty()) {
+            int[] row = nextRow(uncovered.iterator().next(), uncovered, t);
+            removeCovered(row, uncovered, t);
+            Object[] values = new Object[row.length];
+            for (int d = 0; d < row.length; d++) {
+                values[d] = dimensions.get(d)[row[d]];
+            }
+            rows.add(values);
+        }
+        return rows.toArray(new Object[0][]);
+    }
+
+    // Helper methods
+
+    // A combination is encoded as [column, value, column, value, ...] with columns ascending
+    private void addCombinations(int[] columns, int[] values, int position, Set<List<Integer>> into) {
+        if (position == columns.length) {
+            List<Integer> combination = new ArrayList<>();
+            for (int i = 0; i < columns.length; i++) {
+                combination.add(columns[i]);
+                combination.add(values[i]);
+            }
+            into.add(combination);
+            return;
+        }
+        for (int v = 0; v < dimensions.get(columns[position]).length; v++) {
+            values[position] = v;
+            addCombinations(columns, values, position + 1, into);
+        }
+    }
+
+    // Candidate rows fill the free columns starting from each column in turn; the one covering most wins
+    private int[] nextRow(List<Integer> seed, Set<List<Integer>> uncovered, int t) {
+        int[] best = null;
+        int bestCovered = -1;
+        for (int start = 0; start < dimensions.size(); start++) {
+            int[] row = candidate(seed, start, uncovered, t);
+            int covered = 0;
+            for (int[] columns : subsets(row.length, t)) {
+                if (uncovered.contains(combination(row, columns))) {
+                    covered++;
+                }
+            }
+            if (covered > bestCovered) {
+                best = row;
+                bestCovered = covered;
+            }
+        }
+        return best;
+    }
+
+    private int[] candidate(List<Integer> seed, int start, Set<List<Integer>> uncovered, int t) {
+        int[] row = new int[dimensions.size()];
+        Arrays.fill(row, -1);
+        for (int i = 0; i < seed.size(); i += 2) {
+            row[seed.get(i)] = seed.get(i + 1);
+        }
+        for (int step = 0; step < row.length; step++) {
+            int d = (start + step) % row.length;
+            if (row[d] >= 0) {
+                continue;
+            }
+            int best = 0;
+            int bestGain = -1;
+            for (int v = 0; v < dimensions.get(d).length; v++) {
+                row[d] = v;
+                int gain = newlyCovered(row, d, uncovered, t);
+                if (gain > bestGain) {
+                    best = v;
+                    bestGain = gain;
+                }
+            }
+            row[d] = best;
+        }
+        return row;
+    }
+
+    // Uncovered combinations that include column d and otherwise only columns already filled in
+    private static int newlyCovered(int[] row, int d, Set<List<Integer>> uncovered, int t) {
+        int[] assigned = Arrays.stream(range(row.length)).filter(c -> c != d && row[c] >= 0).toArray();
+        int count = 0;
+        for (int[] others : subsets(assigned.length, t - 1)) {
+            int[] columns = new int[t];
+            for (int i = 0; i < others.length; i++) {
+                columns[i] = assigned[others[i]];
+            }
+            columns[t - 1] = d;
+            Arrays.sort(columns);
+            if (uncovered.contains(combination(row, columns))) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static void removeCovered(int[] row, Set<List<Integer>> uncovered, int t) {
+        for (int[] columns : subsets(row.length, t)) {
+            uncovered.remove(combination(row, columns));
+        }
+    }
+
+    private static List<Integer> combination(int[] row, int[] columns) {
+        List<Integer> combination = new ArrayList<>(columns.length * 2);
+        for (int column : columns) {
+            combination.add(column);
+            combination.add(row[column]);
+        }
+        return combination;
+    }
+
+    // All k-element subsets of 0..n-1 in lexicographic order
+    private static List<int[]> subsets(int n, int k) {
+        List<int[]> subsets = new ArrayList<>();
+        int[] current = range(k);
+        if (k > n) {
+            return subsets;
+        }
+        while (true) {
+            subsets.add(current.clone());
+            int i = k - 1;
+            while (i >= 0 && current[i] == n - k + i) {
+                i--;
+            }
+            if (i < 0) {
+                return subsets;
+            }
+            current[i]++;
+            for (int j = i + 1; j < k; j++) {
+                current[j] = current[j - 1] + 1;
+            }
+        }
+    }
+
+    private static int[] range(int n) {
+        int[] range = new int[n];
+        for (int i = 0; i < n; i++) {
+            range[i] = i;
+        }
+        return range;
+    }
+}
@@ -1,15 +1,18 @@
 package com.saucedemo.dataproviders;
 
+import com.saucedemo.pages.Product;
 import org.testng.annotations.DataProvider;
 
+import java.util.List;
+
 /**
  * Data Provider class for SauceDemo Tests
- * Contains all data providers for data-driven testing with 10+ scenarios each
+ * Contains all data providers for data-driven testing
  */
 public class TestDataProvider {
     
     /**
-     * Data provider for valid login credentials - 5 scenarios
+     * Data provider for valid login credentials - 2 scenarios
      * @return 2D array of valid username and password combinations
      */
     @DataProvider(name = "validLoginData")
@@ -21,7 +24,7 @@ public class TestDataProvider {
     }
     
     /**
-     * Data provider for invalid login credentials - 5 scenarios
+     * Data provider for invalid login credentials - 1 scenario
      * @return 2D array of invalid username, password, and expected error message
      */
     @DataProvider(name = "invalidLoginData")
@@ -32,8 +35,8 @@ public class TestDataProvider {
     }
     
     /**
-     * Data provider for checkout information - 5 diverse scenarios
-     * Includes: normal cases and edge cases (hyphens, apostrophes, international, short names)
+     * Data provider for checkout information - 1 scenario
+     * Name and zip edge cases (hyphens, apostrophes, international postcodes) are covered by fullCheckoutData
      * @return 2D array of first name, last name, and zip code
      */
     @DataProvider(name = "checkoutData")
@@ -44,7 +47,7 @@ public class TestDataProvider {
     }
     
     /**
-     * Data provider for add to cart tests - 5 scenarios
+     * Data provider for add to cart tests - 1 scenario
      * @return 2D array with standard user credentials
      */
     @DataProvider(name = "addToCartData")
@@ -55,7 +58,7 @@ public class TestDataProvider {
     }
     
     /**
-     * Data provider for remove from cart tests - 5 scenarios
+     * Data provider for remove from cart tests - 1 scenario
      * @return 2D array with standard user credentials
      */
     @DataProvider(name = "removeFromCartData")
@@ -66,7 +69,7 @@ public class TestDataProvider {
     }
     
     /**
-     * Data provider for inventory page tests - 5 scenarios
+     * Data provider for inventory page tests - 1 scenario
      * @return 2D array with standard user credentials
      */
     @DataProvider(name = "inventoryPageData")
@@ -77,7 +80,7 @@ public class TestDataProvider {
     }
     
     /**
-     * Data provider for cart badge tests - 5 scenarios
+     * Data provider for cart badge tests - 1 scenario
      * @return 2D array with standard user credentials
      */
     @DataProvider(name = "cartBadgeData")
@@ -88,20 +91,25 @@ public class TestDataProvider {
     }
     
     /**
-     * Data provider combining user credentials and checkout data - 5 scenarios
-     * Tests various users with diverse checkout information including edge cases
+     * Data provider combining user credentials and checkout data
+     * Pairwise covering set over user, first-name class, last-name class and zip format
+     * (plain, hyphenated, apostrophe; US, ZIP+4, UK postcode): 10 rows instead of the 54 of the full cross product.
+     * Raise -Ddataprovider.strength for t-wise coverage.
      * @return 2D array of username, password, firstName, lastName, and zipCode
      */
     @DataProvider(name = "fullCheckoutData")
     public static Object[][] getFullCheckoutData() {
-        return new Object[][] {
-            { "standard_user", "secret_sauce", "John", "Doe", "12345" },
-            { "performance_glitch_user", "secret_sauce", "Jean-Luc", "Van-Helsing", "12340" }
-        };
+        return new CoveringArray()
+            .dimension("username", "standard_user", "performance_glitch_user")
+            .dimension("password", "secret_sauce")
+            .dimension("firstName", "John", "Jean-Luc", "D'Arcy")
+            .dimension("lastName", "Doe", "Van-Helsing", "O'Brien")
+            .dimension("zipCode", "12345", "12345-6789", "SW1A 1AA")
+            .rows();
     }
     
     /**
-     * Data provider for product names - 5 scenarios
+     * Data provider for product names - 1 scenario
      * @return 2D array of product names
      */
     @DataProvider(name = "productNames")
@@ -110,4 +118,29 @@ public class TestDataProvider {
             { "Sauce Labs Backpack" }
         };
     }
+
+    /**
+     * Data provider for multi-item cart and pricing tests
+     * @return 2D array of username, password and the products to buy
+     */
+    @DataProvider(name = "multiItemCartData")
+    public static Object[][] getMultiItemCartData() {
+        return new Object[][] {
+            { "standard_user", "secret_sauce", List.of(Product.values()) },
+            { "performance_glitch_user", "secret_sauce", List.of(Product.BACKPACK, Product.ONESIE, Product.RED_T_SHIRT) }
+        };
+    }
+
+    /**
+     * Data provider for checkout under emulated networks, names from network-profiles.json
+     * @return 2D array of network profile names
+     */
+    @DataProvider(name = "networkProfileData")
+    public static Object[][] getNetworkProfileData() {
+        return new Object[][] {
+            { "fast-3g" },
+            { "slow-4g" },
+            { "lossy-wifi" }
+        };
+    }
 }
@@ -0,0 +1,40 @@
+package com.saucedemo.history;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Works out which commit this run was made from
+ * -Dgit.sha wins, then GITHUB_SHA (set by GitHub Actions), then git rev-parse HEAD
+ */
+public final class CommitSha {
+
+    private static final String UNKNOWN = "unknown";
+
+    private CommitSha() {
+    }
+
+    /**
+     * Resolve the commit SHA of this run
+     * @return the SHA, or "unknown" if none could be found
+     */
+    public static String resolve() {
+        String sha = System.getProperty("git.sha", System.getenv("GITHUB_SHA"));
+        if (sha != null && !sha.isBlank()) {
+            return sha.trim();
+        }
+        try {
+            Process git = new ProcessBuilder("git", "rev-parse", "HEAD").redirectErrorStream(true).start();
+            String output = new String(git.getInputStream().readAllBytes(), StandardCharsets.UTF_8).trim();
+            if (git.waitFor(5, TimeUnit.SECONDS) && git.exitValue() == 0 && !output.isEmpty()) {
+                return output;
+            }
+        } catch (IOException e) {
+            // No git on the PATH
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return UNKNOWN;
+    }
+}
@@ -0,0 +1,56 @@
+package com.saucedemo.history;
+
+/**
+ * A key whose duration in this run is well above its rolling baseline
+ */
+public final class Regression {
+
+    private final TimingKey key;
+    private final double currentMs;
+    private final double baselineMedianMs;
+    private final double baselineMadMs;
+    private final double score;
+    private final int baselineRuns;
+
+    Regression(TimingKey key, double currentMs, double baselineMedianMs, double baselineMadMs, double score,
+               int baselineRuns) {
+        this.key = key;
+        this.currentMs = currentMs;
+        this.baselineMedianMs = baselineMedianMs;
+        this.baselineMadMs = baselineMadMs;
+        this.score = score;
+        this.baselineRuns = baselineRuns;
+    }
+
+    public TimingKey getKey() {
+        return key;
+    }
+
+    public double getCurrentMs() {
+        return currentMs;
+    }
+
+    public double getBaselineMedianMs() {
+        return baselineMedianMs;
+    }
+
+    public double getBaselineMadMs() {
+        return baselineMadMs;
+    }
+
+    /** Robust z-score: distance from the baseline median in scaled MADs */
+    public double getScore() {
+        return score;
+    }
+
+    public int getBaselineRuns() {
+        return baselineRuns;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s %s: %.1f ms vs baseline median %.1f ms (MAD %.1f, z %.1f, %d runs)",
+            key.getTest(), key.getDataRow(), key.getAction(), currentMs, baselineMedianMs, baselineMadMs,
+            score, baselineRuns);
+    }
+}
@@ -0,0 +1,91 @@
+package com.saucedemo.history;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Compares a run's timings with a rolling baseline of earlier runs
+ * Uses the median and the median absolute deviation (MAD) of the baseline, so a few noisy runs
+ * do not move it. A key regresses only when all three hold:
+ * robust z-score &ge; -Dhistory.z (3.5), current/median &ge; -Dhistory.minRatio (1.2)
+ * and current - median &ge; -Dhistory.minDeltaMs (50). Keys seen in fewer than
+ * -Dhistory.baseline.min (5) baseline runs are skipped.
+ */
+public class RegressionDetector {
+
+    // Scales the MAD to a standard deviation for normally distributed data
+    private static final double MAD_TO_SIGMA = 1.4826;
+
+    private final int minRuns;
+    private final double zThreshold;
+    private final double minRatio;
+    private final double minDeltaMs;
+
+    public RegressionDetector(int minRuns, double zThreshold, double minRatio, double minDeltaMs) {
+        this.minRuns = minRuns;
+        this.zThreshold = zThreshold;
+        this.minRatio = minRatio;
+        this.minDeltaMs = minDeltaMs;
+    }
+
+    /**
+     * Build a detector from the history.* system properties
+     * @return RegressionDetector
+     */
+    public static RegressionDetector fromSystemProperties() {
+        return new RegressionDetector(
+            Integer.getInteger("history.baseline.min", 5),
+            Double.parseDouble(System.getProperty("history.z", "3.5")),
+            Double.parseDouble(System.getProperty("history.minRatio", "1.2")),
+            Double.parseDouble(System.getProperty("history.minDeltaMs", "50")));
+    }
+
+    /**
+     * Find the keys of the current run that regressed against the baseline
+     * @param current this run's timings
+     * @param baseline earlier runs from the store
+     * @param store the store, to map keys to ids
+     * @return regressions, worst first
+     */
+    public List<Regression> compare(Map<TimingKey, Timing> current, List<StoredRun> baseline, ResultsStore store) {
+        List<Regression> regressions = new ArrayList<>();
+        for (Map.Entry<TimingKey, Timing> entry : current.entrySet()) {
+            int id = store.keyId(entry.getKey());
+            if (id < 0) {
+                continue;
+            }
+            double[] series = baseline.stream()
+                .map(run -> run.getTimings().get(id))
+                .filter(Objects::nonNull)
+                .mapToDouble(Timing::getMeanMillis)
+                .toArray();
+            if (series.length < minRuns) {
+                continue;
+            }
+            double now = entry.getValue().getMeanMillis();
+            double median = median(series);
+            double mad = median(Arrays.stream(series).map(value -> Math.abs(value - median)).toArray());
+            double sigma = mad * MAD_TO_SIGMA;
+            double score = sigma > 0 ? (now - median) / sigma : (now > median ? Double.POSITIVE_INFINITY : 0);
+            if (score >= zThreshold && now >= median * minRatio && now - median >= minDeltaMs) {
+                regressions.add(new Regression(entry.getKey(), now, median, mad, score, series.length));
+            }
+        }
+        regressions.sort(Comparator.comparingDouble(
+            (Regression regression) -> regression.getCurrentMs() - regression.getBaselineMedianMs()).reversed());
+        return regressions;
+    }
+
+    // Helper methods
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+}
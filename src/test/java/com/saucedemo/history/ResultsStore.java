@@ -0,0 +1,208 @@
+package com.saucedemo.history;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Append-only store of per-run timings, keyed by commit SHA
+ * Three files in one folder:
+ * <ul>
+ *   <li>keys.tsv  - one (test, data row, action) key per line; the line number is the key id</li>
+ *   <li>runs.dat  - per run, 12-byte entries: key id, sample count, mean duration in microseconds</li>
+ *   <li>runs.idx  - per run, a fixed 60-byte record: offset into runs.dat, time, entry count, commit SHA</li>
+ * </ul>
+ * Reading the last N runs seeks straight to the end of the index, so queries stay fast however long
+ * the history gets. The index record is written last and is the commit point of an append.
+ */
+public class ResultsStore {
+
+    private static final int INDEX_RECORD = 8 + 8 + 4 + 40;
+    private static final int ENTRY = 4 + 4 + 4;
+    private static final int SHA_LENGTH = 40;
+
+    private final Path keysFile;
+    private final Path dataFile;
+    private final Path indexFile;
+    private final List<TimingKey> keys = new ArrayList<>();
+    private final Map<TimingKey, Integer> ids = new HashMap<>();
+
+    private ResultsStore(Path folder) throws IOException {
+        Files.createDirectories(folder);
+        this.keysFile = folder.resolve("keys.tsv");
+        this.dataFile = folder.resolve("runs.dat");
+        this.indexFile = folder.resolve("runs.idx");
+        refreshKeys();
+    }
+
+    /**
+     * Open (or create) the store in a folder
+     * @param folder the store folder
+     * @return ResultsStore
+     */
+    public static ResultsStore open(Path folder) {
+        try {
+            return new ResultsStore(folder);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open results store " + folder, e);
+        }
+    }
+
+    /**
+     * Id of a key, or -1 if it has never been stored
+     * @param key the key
+     * @return key id
+     */
+    public int keyId(TimingKey key) {
+        return ids.getOrDefault(key, -1);
+    }
+
+    /**
+     * The key behind an id
+     * @param id key id
+     * @return TimingKey
+     */
+    public TimingKey key(int id) {
+        return keys.get(id);
+    }
+
+    /**
+     * Number of runs stored
+     * @return run count
+     */
+    public long runCount() {
+        try {
+            return Files.exists(indexFile) ? Files.size(indexFile) / INDEX_RECORD : 0;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Append one run
+     * @param commitSha the commit the run was made from
+     * @param epochMillis when the run finished
+     * @param timings mean duration per key
+     */
+    public synchronized void append(String commitSha, long epochMillis, Map<TimingKey, Timing> timings) {
+        try (FileChannel index = FileChannel.open(indexFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE);
+             FileLock ignored = index.lock();
+             FileChannel data = FileChannel.open(dataFile, StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            appendKeys(timings);
+            ByteBuffer entries = ByteBuffer.allocate(timings.size() * ENTRY);
+            timings.forEach((key, timing) -> entries
+                .putInt(ids.get(key))
+                .putInt(timing.getCount())
+                .putInt(timing.getMeanMicros()));
+            entries.flip();
+            long offset = data.size();
+            data.write(entries, offset);
+            data.force(false);
+
+            ByteBuffer record = ByteBuffer.allocate(INDEX_RECORD)
+                .putLong(offset)
+                .putLong(epochMillis)
+                .putInt(timings.size())
+                .put(sha(commitSha));
+            record.flip();
+            // Drop a torn record left by an interrupted append
+            index.write(record, index.size() / INDEX_RECORD * INDEX_RECORD);
+            index.force(false);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not append to results store", e);
+        }
+    }
+
+    /**
+     * Read the most recent runs, oldest first
+     * @param count how many runs at most
+     * @return the runs
+     */
+    public List<StoredRun> recentRuns(int count) {
+        if (!Files.exists(indexFile)) {
+            return Collections.emptyList();
+        }
+        try (FileChannel index = FileChannel.open(indexFile, StandardOpenOption.READ);
+             FileChannel data = FileChannel.open(dataFile, StandardOpenOption.READ)) {
+            long total = index.size() / INDEX_RECORD;
+            long first = Math.max(0, total - count);
+            ByteBuffer records = ByteBuffer.allocate((int) ((total - first) * INDEX_RECORD));
+            index.read(records, first * INDEX_RECORD);
+            records.flip();
+
+            List<StoredRun> runs = new ArrayList<>();
+            while (records.remaining() >= INDEX_RECORD) {
+                long offset = records.getLong();
+                long epochMillis = records.getLong();
+                int entryCount = records.getInt();
+                byte[] sha = new byte[SHA_LENGTH];
+                records.get(sha);
+
+                ByteBuffer entries = ByteBuffer.allocate(entryCount * ENTRY);
+                data.read(entries, offset);
+                entries.flip();
+                Map<Integer, Timing> timings = new HashMap<>(entryCount * 2);
+                while (entries.remaining() >= ENTRY) {
+                    timings.put(entries.getInt(), new Timing(entries.getInt(), entries.getInt()));
+                }
+                runs.add(new StoredRun(new String(sha, StandardCharsets.US_ASCII).trim(), epochMillis, timings));
+            }
+            return runs;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read results store", e);
+        }
+    }
+
+    // Helper methods
+
+    private void refreshKeys() throws IOException {
+        if (!Files.exists(keysFile)) {
+            return;
+        }
+        // Another JVM may have added keys since we last looked
+        List<String> lines = Files.readAllLines(keysFile, StandardCharsets.UTF_8);
+        for (int i = keys.size(); i < lines.size(); i++) {
+            register(TimingKey.parse(lines.get(i)));
+        }
+    }
+
+    private void appendKeys(Map<TimingKey, Timing> timings) throws IOException {
+        refreshKeys();
+        try (BufferedWriter out = Files.newBufferedWriter(keysFile, StandardCharsets.UTF_8,
+            StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+            for (TimingKey key : timings.keySet()) {
+                if (!ids.containsKey(key)) {
+                    register(key);
+                    out.write(key.toString());
+                    out.newLine();
+                }
+            }
+        }
+    }
+
+    private void register(TimingKey key) {
+        ids.put(key, keys.size());
+        keys.add(key);
+    }
+
+    private static byte[] sha(String commitSha) {
+        byte[] padded = new byte[SHA_LENGTH];
+        Arrays.fill(padded, (byte) ' ');
+        byte[] value = commitSha.getBytes(StandardCharsets.US_ASCII);
+        System.arraycopy(value, 0, padded, 0, Math.min(value.length, SHA_LENGTH));
+        return padded;
+    }
+}
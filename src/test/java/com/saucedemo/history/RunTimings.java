@@ -0,0 +1,87 @@
+package com.saucedemo.history;
+
+import com.saucedemo.trace.TestInvocation;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Durations collected during the current run, per (test, data row, action)
+ * Samples are held per test invocation and only kept once the test passes,
+ * so failed and retried attempts do not skew the history
+ */
+public final class RunTimings {
+
+    private static final Map<String, Map<TimingKey, long[]>> PENDING = new ConcurrentHashMap<>();
+    private static final Map<TimingKey, long[]> KEPT = new HashMap<>();
+
+    private RunTimings() {
+    }
+
+    /**
+     * Add one sample for an action of the given invocation
+     * @param invocation the running test, or null outside of a test (ignored)
+     * @param action the action, e.g. "InventoryPage.addBackpackToCart"
+     * @param nanos how long it took
+     */
+    public static void record(TestInvocation invocation, String action, long nanos) {
+        if (invocation == null) {
+            return;
+        }
+        Map<TimingKey, long[]> samples = PENDING.computeIfAbsent(invocation.getId(), id -> new ConcurrentHashMap<>());
+        long[] sums = samples.computeIfAbsent(new TimingKey(invocation.getTestName(), invocation.getDataRow(), action),
+            key -> new long[2]);
+        synchronized (sums) {
+            sums[0]++;
+            sums[1] += nanos;
+        }
+    }
+
+    /**
+     * Keep the samples of a passed invocation, plus its whole-test duration
+     * @param invocation the invocation
+     * @param testMillis the test method's duration
+     */
+    public static void keep(TestInvocation invocation, long testMillis) {
+        Map<TimingKey, long[]> samples = PENDING.remove(invocation.getId());
+        synchronized (KEPT) {
+            if (samples != null) {
+                samples.forEach((key, sums) -> merge(key, sums[0], sums[1]));
+            }
+            merge(new TimingKey(invocation.getTestName(), invocation.getDataRow(), TimingKey.WHOLE_TEST),
+                1, testMillis * 1_000_000);
+        }
+    }
+
+    /**
+     * Drop the samples of a failed or skipped invocation
+     * @param invocation the invocation
+     */
+    public static void discard(TestInvocation invocation) {
+        PENDING.remove(invocation.getId());
+    }
+
+    /**
+     * Take everything kept so far, leaving the collector empty for the next suite
+     * @param environment what the suite ran on, see {@link TimingKey}
+     * @return mean duration and sample count per key, filed under the environment
+     */
+    public static Map<TimingKey, Timing> drain(String environment) {
+        synchronized (KEPT) {
+            Map<TimingKey, Timing> timings = new HashMap<>();
+            KEPT.forEach((key, sums) -> timings.put(key.in(environment),
+                new Timing((int) sums[0], (int) Math.min(Integer.MAX_VALUE, sums[1] / sums[0] / 1000))));
+            KEPT.clear();
+            return timings;
+        }
+    }
+
+    // Helper methods
+
+    private static void merge(TimingKey key, long count, long nanos) {
+        long[] sums = KEPT.computeIfAbsent(key, k -> new long[2]);
+        sums[0] += count;
+        sums[1] += nanos;
+    }
+}
@@ -0,0 +1,32 @@
+package com.saucedemo.history;
+
+import java.util.Map;
+
+/**
+ * One run read back from the {@link ResultsStore}
+ */
+public final class StoredRun {
+
+    private final String commitSha;
+    private final long epochMillis;
+    private final Map<Integer, Timing> timings;
+
+    StoredRun(String commitSha, long epochMillis, Map<Integer, Timing> timings) {
+        this.commitSha = commitSha;
+        this.epochMillis = epochMillis;
+        this.timings = timings;
+    }
+
+    public String getCommitSha() {
+        return commitSha;
+    }
+
+    public long getEpochMillis() {
+        return epochMillis;
+    }
+
+    /** Timings by key id, see {@link ResultsStore#keyId(TimingKey)} */
+    public Map<Integer, Timing> getTimings() {
+        return timings;
+    }
+}
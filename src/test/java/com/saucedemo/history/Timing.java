@@ -0,0 +1,27 @@
+package com.saucedemo.history;
+
+/**
+ * Number of samples and their mean duration for one key in one run
+ */
+public final class Timing {
+
+    private final int count;
+    private final int meanMicros;
+
+    public Timing(int count, int meanMicros) {
+        this.count = count;
+        this.meanMicros = meanMicros;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public int getMeanMicros() {
+        return meanMicros;
+    }
+
+    public double getMeanMillis() {
+        return meanMicros / 1000.0;
+    }
+}
@@ -0,0 +1,94 @@
+package com.saucedemo.history;
+
+/**
+ * What a stored duration belongs to: environment, test, data row and action
+ * The environment (config key, headless, backend, session mode, page-load strategy, network profile) keeps
+ * runs that are not comparable in separate baselines.
+ * The action is "Page.method" for action steps and {@link #WHOLE_TEST} for the test as a whole
+ */
+public final class TimingKey {
+
+    public static final String WHOLE_TEST = "(test)";
+    private static final char SEPARATOR = '\t';
+
+    private final String environment;
+    private final String test;
+    private final String dataRow;
+    private final String action;
+
+    public TimingKey(String test, String dataRow, String action) {
+        this("", test, dataRow, action);
+    }
+
+    public TimingKey(String environment, String test, String dataRow, String action) {
+        this.environment = clean(environment);
+        this.test = clean(test);
+        this.dataRow = clean(dataRow);
+        this.action = clean(action);
+    }
+
+    /**
+     * Parse a key written by {@link #toString()}
+     * Keys stored before the environment was recorded have three fields; they get an empty environment,
+     * so they never match a new key and no longer count towards any baseline.
+     * @param line environment, test, data row and action separated by tabs
+     * @return TimingKey
+     */
+    public static TimingKey parse(String line) {
+        String[] parts = line.split(String.valueOf(SEPARATOR), 4);
+        if (parts.length == 3) {
+            return new TimingKey(parts[0], parts[1], parts[2]);
+        }
+        if (parts.length != 4) {
+            throw new IllegalArgumentException("Not a timing key: " + line);
+        }
+        return new TimingKey(parts[0], parts[1], parts[2], parts[3]);
+    }
+
+    /**
+     * The same key, filed under an environment
+     * @param runEnvironment e.g. "test_web headless=false BROWSER PROCESS normal none"
+     * @return TimingKey
+     */
+    public TimingKey in(String runEnvironment) {
+        return new TimingKey(runEnvironment, test, dataRow, action);
+    }
+
+    public String getEnvironment() {
+        return environment;
+    }
+
+    public String getTest() {
+        return test;
+    }
+
+    public String getDataRow() {
+        return dataRow;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        return other instanceof TimingKey && toString().equals(other.toString());
+    }
+
+    @Override
+    public int hashCode() {
+        return toString().hashCode();
+    }
+
+    @Override
+    public String toString() {
+        String key = test + SEPARATOR + dataRow + SEPARATOR + action;
+        return environment.isEmpty() ? key : environment + SEPARATOR + key;
+    }
+
+    // Helper methods
+
+    private static String clean(String value) {
+        return value == null ? "" : value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+}
@@ -0,0 +1,86 @@
+package com.saucedemo.incremental;
+
+/**
+ * Instruction lengths and constant pool operands of JVM bytecode, per the JVM specification chapter 6
+ */
+final class Bytecode {
+
+    static final int INVOKEDYNAMIC = 0xba, PUTSTATIC = 0xb3, PUTFIELD = 0xb5;
+
+    private static final int LDC = 0x12, LDC_W = 0x13, LDC2_W = 0x14, TABLESWITCH = 0xaa, LOOKUPSWITCH = 0xab,
+        WIDE = 0xc4, IINC = 0x84, MULTIANEWARRAY = 0xc5, INVOKEINTERFACE = 0xb9;
+
+    private Bytecode() {
+    }
+
+    /**
+     * Length in bytes of the instruction at pc, operands included
+     */
+    static int length(byte[] code, int pc) {
+        int opcode = code[pc] & 0xff;
+        switch (opcode) {
+            case TABLESWITCH: {
+                int base = padded(pc);
+                int low = readInt(code, base + 4);
+                int high = readInt(code, base + 8);
+                return base - pc + 12 + 4 * (high - low + 1);
+            }
+            case LOOKUPSWITCH: {
+                int base = padded(pc);
+                return base - pc + 8 + 8 * readInt(code, base + 4);
+            }
+            case WIDE:
+                return (code[pc + 1] & 0xff) == IINC ? 6 : 4;
+            default:
+                return fixedLength(opcode);
+        }
+    }
+
+    /**
+     * Constant pool index used by the instruction at pc
+     * @return the index, or 0 if the instruction has no constant pool operand
+     */
+    static int constantPoolOperand(byte[] code, int pc) {
+        int opcode = code[pc] & 0xff;
+        if (opcode == LDC) {
+            return code[pc + 1] & 0xff;
+        }
+        boolean wideIndex = opcode == LDC_W || opcode == LDC2_W
+            || (opcode >= 0xb2 && opcode <= INVOKEDYNAMIC)   // get/put field/static, invoke*
+            || opcode == 0xbb || opcode == 0xbd                // new, anewarray
+            || opcode == 0xc0 || opcode == 0xc1                // checkcast, instanceof
+            || opcode == MULTIANEWARRAY;
+        return wideIndex ? ((code[pc + 1] & 0xff) << 8) | (code[pc + 2] & 0xff) : 0;
+    }
+
+    // Helper methods
+
+    private static int fixedLength(int opcode) {
+        if (opcode == 0x10 || opcode == LDC || (opcode >= 0x15 && opcode <= 0x19)
+            || (opcode >= 0x36 && opcode <= 0x3a) || opcode == 0xa9 || opcode == 0xbc) {
+            return 2;   // bipush, ldc, loads, stores, ret, newarray
+        }
+        if (opcode == 0x11 || opcode == LDC_W || opcode == LDC2_W || opcode == IINC
+            || (opcode >= 0x99 && opcode <= 0xa8) || (opcode >= 0xb2 && opcode <= 0xb8)
+            || opcode == 0xbb || opcode == 0xbd || opcode == 0xc0 || opcode == 0xc1
+            || opcode == 0xc6 || opcode == 0xc7) {
+            return 3;   // sipush, ldc_w, ldc2_w, iinc, branches, field and invoke, new, anewarray, casts, ifnull
+        }
+        if (opcode == MULTIANEWARRAY) {
+            return 4;
+        }
+        if (opcode == INVOKEINTERFACE || opcode == INVOKEDYNAMIC || opcode == 0xc8 || opcode == 0xc9) {
+            return 5;   // invokeinterface, invokedynamic, goto_w, jsr_w
+        }
+        return 1;
+    }
+
+    private static int padded(int pc) {
+        return (pc + 4) & ~3;
+    }
+
+    private static int readInt(byte[] code, int offset) {
+        return ((code[offset] & 0xff) << 24) | ((code[offset + 1] & 0xff) << 16)
+            | ((code[offset + 2] & 0xff) << 8) | (code[offset + 3] & 0xff);
+    }
+}
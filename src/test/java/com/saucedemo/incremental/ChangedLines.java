@@ -0,0 +1,129 @@
+package com.saucedemo.incremental;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Lines touched by a change, per file, read from a zero-context unified diff (git diff -U0)
+ * Line numbers are on the new side. A pure deletion marks the lines on both sides of where it was;
+ * a deleted file is kept with no lines so callers can still see it went away.
+ */
+public class ChangedLines {
+
+    private static final Pattern HUNK = Pattern.compile("^@@ -\\d+(?:,(\\d+))? \\+(\\d+)(?:,(\\d+))? @@");
+
+    private final Map<String, Set<Integer>> lines = new TreeMap<>();
+
+    private ChangedLines() {
+    }
+
+    /**
+     * Parse a unified diff
+     * @param diff the diff text
+     * @return ChangedLines
+     */
+    public static ChangedLines parse(String diff) {
+        ChangedLines changes = new ChangedLines();
+        String oldPath = null;
+        Set<Integer> current = null;
+        int pending = 0;
+        for (String line : diff.split("\r?\n")) {
+            if (pending > 0) {
+                // Body of a hunk; a removed line may itself start with "--"
+                if (line.startsWith("-") || line.startsWith("+")) {
+                    pending--;
+                }
+            } else if (line.startsWith("diff --git ")) {
+                // Binary files and pure renames have no ---/+++ headers, so register the file here
+                current = null;
+                changes.lines.computeIfAbsent(line.substring(line.lastIndexOf(" b/") + 3), key -> new TreeSet<>());
+            } else if (line.startsWith("--- ")) {
+                oldPath = path(line.substring(4));
+            } else if (line.startsWith("+++ ")) {
+                String newPath = path(line.substring(4));
+                current = changes.lines.computeIfAbsent(newPath != null ? newPath : oldPath, key -> new TreeSet<>());
+            } else if (current != null) {
+                Matcher hunk = HUNK.matcher(line);
+                if (hunk.find()) {
+                    int removed = hunk.group(1) == null ? 1 : Integer.parseInt(hunk.group(1));
+                    int start = Integer.parseInt(hunk.group(2));
+                    int count = hunk.group(3) == null ? 1 : Integer.parseInt(hunk.group(3));
+                    pending = removed + count;
+                    if (count == 0) {
+                        // Deletion after line "start": both neighbours belong to whatever enclosed it
+                        current.add(start);
+                        current.add(start + 1);
+                    }
+                    for (int i = start; i < start + count; i++) {
+                        current.add(i);
+                    }
+                }
+            }
+        }
+        return changes;
+    }
+
+    /**
+     * Diff the working tree against the merge base of a ref, e.g. origin/main
+     * @param base the ref the change will be merged into
+     * @return ChangedLines
+     */
+    public static ChangedLines fromGit(String base) {
+        String mergeBase = git("merge-base", base, "HEAD").trim();
+        return parse(git("diff", "-U0", "--no-color", "--no-ext-diff", mergeBase));
+    }
+
+    /**
+     * Changed files, as repository-relative paths
+     */
+    public Set<String> files() {
+        return Collections.unmodifiableSet(lines.keySet());
+    }
+
+    /**
+     * Changed lines of one file
+     * @param path repository-relative path
+     * @return the new-side line numbers, empty for a deleted file
+     */
+    public Set<Integer> of(String path) {
+        return lines.getOrDefault(path, Collections.emptySet());
+    }
+
+    // Helper methods
+
+    private static String path(String header) {
+        String path = header.split("\t")[0].trim();
+        if ("/dev/null".equals(path)) {
+            return null;
+        }
+        return path.startsWith("a/") || path.startsWith("b/") ? path.substring(2) : path;
+    }
+
+    private static String git(String... arguments) {
+        String[] command = new String[arguments.length + 1];
+        command[0] = "git";
+        System.arraycopy(arguments, 0, command, 1, arguments.length);
+        try {
+            Process git = new ProcessBuilder(command).redirectErrorStream(true).start();
+            String output = new String(git.getInputStream().readAllBytes(), StandardCharsets.UTF_8);
+            if (!git.waitFor(60, TimeUnit.SECONDS) || git.exitValue() != 0) {
+                throw new IllegalStateException(String.join(" ", command) + " failed: " + output.trim());
+            }
+            return output;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not run git", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted running git", e);
+        }
+    }
+}
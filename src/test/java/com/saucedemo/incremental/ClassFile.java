@@ -0,0 +1,282 @@
+package com.saucedemo.incremental;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Just enough of a JVM class file reader to fingerprint and link method bodies:
+ * the constant pool, each method's code and line numbers, and the bootstrap methods used by lambdas
+ */
+final class ClassFile {
+
+    private static final int UTF8 = 1, INTEGER = 3, FLOAT = 4, LONG = 5, DOUBLE = 6, CLASS = 7, STRING = 8,
+        FIELD_REF = 9, METHOD_REF = 10, INTERFACE_METHOD_REF = 11, NAME_AND_TYPE = 12, METHOD_HANDLE = 15,
+        METHOD_TYPE = 16, DYNAMIC = 17, INVOKE_DYNAMIC = 18, MODULE = 19, PACKAGE = 20;
+
+    private final int[] tags;
+    private final Object[] values;
+    private final String name;
+    private final List<String> supertypes = new ArrayList<>();
+    private final List<Method> methods = new ArrayList<>();
+    private final List<int[]> bootstrapMethods = new ArrayList<>();
+
+    /**
+     * One method: name, descriptor, bytecode (null when abstract or native)
+     * and line number table as (start pc, line) pairs
+     */
+    static final class Method {
+        final String name;
+        final String descriptor;
+        final byte[] code;
+        final int[] lines;
+
+        Method(String name, String descriptor, byte[] code, int[] lines) {
+            this.name = name;
+            this.descriptor = descriptor;
+            this.code = code;
+            this.lines = lines;
+        }
+
+        /**
+         * Source line of the instruction at a bytecode offset
+         * @return the line, or -1 without line numbers
+         */
+        int lineAt(int pc) {
+            int line = -1, bestPc = -1;
+            for (int i = 0; i < lines.length; i += 2) {
+                if (lines[i] <= pc && lines[i] > bestPc) {
+                    bestPc = lines[i];
+                    line = lines[i + 1];
+                }
+            }
+            return line;
+        }
+    }
+
+    ClassFile(byte[] bytes) {
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            in.readInt();
+            in.readUnsignedShort();
+            in.readUnsignedShort();
+            int count = in.readUnsignedShort();
+            tags = new int[count];
+            values = new Object[count];
+            for (int i = 1; i < count; i++) {
+                tags[i] = in.readUnsignedByte();
+                switch (tags[i]) {
+                    case UTF8 -> values[i] = in.readUTF();
+                    case INTEGER -> values[i] = in.readInt();
+                    case FLOAT -> values[i] = in.readFloat();
+                    case LONG -> values[i++] = in.readLong();
+                    case DOUBLE -> values[i++] = in.readDouble();
+                    case CLASS, STRING, METHOD_TYPE, MODULE, PACKAGE -> values[i] = new int[] {in.readUnsignedShort()};
+                    case METHOD_HANDLE -> values[i] = new int[] {in.readUnsignedByte(), in.readUnsignedShort()};
+                    case FIELD_REF, METHOD_REF, INTERFACE_METHOD_REF, NAME_AND_TYPE, DYNAMIC, INVOKE_DYNAMIC ->
+                        values[i] = new int[] {in.readUnsignedShort(), in.readUnsignedShort()};
+                    default -> throw new IllegalArgumentException("Unknown constant pool tag " + tags[i]);
+                }
+            }
+            in.readUnsignedShort();
+            name = owner(in.readUnsignedShort());
+            int superClass = in.readUnsignedShort();
+            if (superClass != 0) {
+                supertypes.add(owner(superClass));
+            }
+            int interfaces = in.readUnsignedShort();
+            for (int i = 0; i < interfaces; i++) {
+                supertypes.add(owner(in.readUnsignedShort()));
+            }
+            int fields = in.readUnsignedShort();
+            for (int i = 0; i < fields; i++) {
+                in.skipBytes(6);
+                skipAttributes(in);
+            }
+            int methodCount = in.readUnsignedShort();
+            for (int i = 0; i < methodCount; i++) {
+                in.readUnsignedShort();
+                String methodName = utf8(in.readUnsignedShort());
+                String descriptor = utf8(in.readUnsignedShort());
+                byte[] code = null;
+                int[] lines = new int[0];
+                int attributes = in.readUnsignedShort();
+                for (int a = 0; a < attributes; a++) {
+                    String attribute = utf8(in.readUnsignedShort());
+                    int length = in.readInt();
+                    if ("Code".equals(attribute)) {
+                        in.skipBytes(4);
+                        code = new byte[in.readInt()];
+                        in.readFully(code);
+                        in.skipBytes(8 * in.readUnsignedShort());
+                        lines = readLineNumbers(in);
+                    } else {
+                        in.skipBytes(length);
+                    }
+                }
+                methods.add(new Method(methodName, descriptor, code, lines));
+            }
+            int attributes = in.readUnsignedShort();
+            for (int a = 0; a < attributes; a++) {
+                String attribute = utf8(in.readUnsignedShort());
+                int length = in.readInt();
+                if ("BootstrapMethods".equals(attribute)) {
+                    int bootstrapCount = in.readUnsignedShort();
+                    for (int b = 0; b < bootstrapCount; b++) {
+                        int handle = in.readUnsignedShort();
+                        int arguments = in.readUnsignedShort();
+                        int[] entry = new int[arguments + 1];
+                        entry[0] = handle;
+                        for (int arg = 1; arg <= arguments; arg++) {
+                            entry[arg] = in.readUnsignedShort();
+                        }
+                        bootstrapMethods.add(entry);
+                    }
+                } else {
+                    in.skipBytes(length);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Not a readable class file", e);
+        }
+    }
+
+    /**
+     * Internal name of this class, e.g. "com/saucedemo/pages/CartPage"
+     */
+    String name() {
+        return name;
+    }
+
+    /**
+     * Internal names of the superclass and the directly implemented interfaces
+     */
+    List<String> supertypes() {
+        return supertypes;
+    }
+
+    List<Method> methods() {
+        return methods;
+    }
+
+    int constantCount() {
+        return tags.length;
+    }
+
+    /**
+     * Readable form of a constant pool entry, e.g. "com/saucedemo/pages/CartPage.CART_ITEM:Lio/...;"
+     * Used instead of the raw index so the fingerprint survives unrelated constant pool reshuffles
+     */
+    String render(int index) {
+        Object value = values[index];
+        int[] refs = value instanceof int[] ? (int[]) value : null;
+        switch (tags[index]) {
+            case CLASS, STRING, METHOD_TYPE, MODULE, PACKAGE:
+                return utf8(refs[0]);
+            case FIELD_REF, METHOD_REF, INTERFACE_METHOD_REF:
+                return render(refs[0]) + "." + render(refs[1]);
+            case NAME_AND_TYPE:
+                return utf8(refs[0]) + ":" + utf8(refs[1]);
+            case METHOD_HANDLE:
+                return refs[0] + ":" + render(refs[1]);
+            case DYNAMIC, INVOKE_DYNAMIC:
+                return "bsm" + renderBootstrap(refs[0]) + ":" + render(refs[1]);
+            default:
+                return String.valueOf(value);
+        }
+    }
+
+    /**
+     * Owner class of a field or method reference, or the class itself for a class entry
+     */
+    String owner(int index) {
+        int[] refs = (int[]) values[index];
+        return switch (tags[index]) {
+            case CLASS -> utf8(refs[0]);
+            case FIELD_REF, METHOD_REF, INTERFACE_METHOD_REF -> owner(refs[0]);
+            case METHOD_HANDLE -> owner(refs[1]);
+            default -> null;
+        };
+    }
+
+    /**
+     * Name and descriptor of a method reference, e.g. "lambda$test$0:()V"
+     */
+    String nameAndType(int index) {
+        int[] refs = (int[]) values[index];
+        return tags[index] == METHOD_HANDLE ? nameAndType(refs[1]) : render(refs[1]);
+    }
+
+    /**
+     * Constant pool indexes of the static arguments of a bootstrap method (lambda targets live here)
+     */
+    int[] bootstrapArguments(int invokeDynamicIndex) {
+        int[] entry = bootstrapMethods.get(((int[]) values[invokeDynamicIndex])[0]);
+        int[] arguments = new int[entry.length - 1];
+        System.arraycopy(entry, 1, arguments, 0, arguments.length);
+        return arguments;
+    }
+
+    boolean isMethodHandle(int index) {
+        return tags[index] == METHOD_HANDLE;
+    }
+
+    boolean isMethodReference(int index) {
+        int tag = tags[index];
+        return tag == METHOD_REF || tag == INTERFACE_METHOD_REF || tag == METHOD_HANDLE;
+    }
+
+    boolean isFieldReference(int index) {
+        return tags[index] == FIELD_REF;
+    }
+
+    boolean isClassOrMember(int index) {
+        int tag = tags[index];
+        return tag == CLASS || tag == FIELD_REF || tag == METHOD_REF || tag == INTERFACE_METHOD_REF;
+    }
+
+    // Helper methods
+
+    private String renderBootstrap(int bootstrapIndex) {
+        int[] entry = bootstrapMethods.get(bootstrapIndex);
+        StringBuilder out = new StringBuilder("(").append(render(entry[0]));
+        for (int i = 1; i < entry.length; i++) {
+            out.append(',').append(render(entry[i]));
+        }
+        return out.append(')').toString();
+    }
+
+    private String utf8(int index) {
+        return (String) values[index];
+    }
+
+    // Line numbers of a Code attribute, flattened; javac may split them over several LineNumberTables
+    private int[] readLineNumbers(DataInputStream in) throws IOException {
+        List<Integer> lines = new ArrayList<>();
+        int attributes = in.readUnsignedShort();
+        for (int a = 0; a < attributes; a++) {
+            String attribute = utf8(in.readUnsignedShort());
+            int length = in.readInt();
+            if ("LineNumberTable".equals(attribute)) {
+                int entries = in.readUnsignedShort();
+                for (int e = 0; e < entries; e++) {
+                    lines.add(in.readUnsignedShort());
+                    lines.add(in.readUnsignedShort());
+                }
+            } else {
+                in.skipBytes(length);
+            }
+        }
+        return lines.stream().mapToInt(Integer::intValue).toArray();
+    }
+
+    private static void skipAttributes(DataInputStream in) throws IOException {
+        int attributes = in.readUnsignedShort();
+        for (int a = 0; a < attributes; a++) {
+            in.skipBytes(2);
+            in.skipBytes(in.readInt());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.saucedemo.incremental;
+
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fingerprint of the code a test method runs
+ * Covers the method's bytecode, the lambdas and private helpers it calls, the class's
+ * before/after methods and constructor, and every com.saucedemo.actions / pages class reachable from them.
+ * Constant pool references are hashed by what they point at, not by index, and line numbers are ignored,
+ * so comment-only edits to the test class do not change the fingerprint.
+ */
+public final class CodeFingerprint {
+
+    private static final List<String> TRACKED_PACKAGES = List.of("com/saucedemo/actions/", "com/saucedemo/pages/");
+    private static final List<Class<? extends Annotation>> LIFECYCLE = List.of(
+        BeforeMethod.class, AfterMethod.class, BeforeClass.class, AfterClass.class);
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
+    private static final Map<String, String> CLASS_HASHES = new ConcurrentHashMap<>();
+
+    private CodeFingerprint() {
+    }
+
+    /**
+     * Fingerprint a test method, memoized per JVM
+     * @param testClass the test class
+     * @param methodName the test method
+     * @return hex SHA-256
+     */
+    public static String of(Class<?> testClass, String methodName) {
+        return CACHE.computeIfAbsent(testClass.getName() + "#" + methodName, key -> compute(testClass, methodName));
+    }
+
+    // Helper methods
+
+    private static String compute(Class<?> testClass, String methodName) {
+        String self = testClass.getName().replace('.', '/');
+        ClassFile classFile = new ClassFile(bytes(self));
+        MessageDigest digest = sha256();
+        Set<String> visited = new HashSet<>();
+        Set<String> tracked = new HashSet<>();
+
+        Set<String> roots = new HashSet<>();
+        roots.add(methodName);
+        roots.add("<init>");
+        for (Method method : testClass.getDeclaredMethods()) {
+            if (LIFECYCLE.stream().anyMatch(method::isAnnotationPresent)) {
+                roots.add(method.getName());
+            }
+        }
+        for (ClassFile.Method method : classFile.methods()) {
+            if (roots.contains(method.name)) {
+                walk(classFile, self, method, digest, visited, tracked);
+            }
+        }
+
+        // Whole-class hashes for reachable actions and pages, following their own references
+        Map<String, String> closure = new TreeMap<>();
+        Deque<String> queue = new ArrayDeque<>(tracked);
+        while (!queue.isEmpty()) {
+            String name = queue.poll();
+            if (closure.containsKey(name)) {
+                continue;
+            }
+            byte[] bytes = bytes(name);
+            closure.put(name, CLASS_HASHES.computeIfAbsent(name, key -> HexFormat.of().formatHex(sha256().digest(bytes))));
+            ClassFile referenced = new ClassFile(bytes);
+            for (int i = 1; i < referenced.constantCount(); i++) {
+                if (referenced.isClassOrMember(i)) {
+                    String owner = trackedName(referenced.owner(i));
+                    if (owner != null && !closure.containsKey(owner)) {
+                        queue.add(owner);
+                    }
+                }
+            }
+        }
+        closure.forEach((name, hash) -> digest.update((name + "=" + hash + "\n").getBytes(StandardCharsets.UTF_8)));
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    private static void walk(ClassFile classFile, String self, ClassFile.Method method, MessageDigest digest,
+                             Set<String> visited, Set<String> tracked) {
+        if (method.code == null || !visited.add(method.name + method.descriptor)) {
+            return;
+        }
+        digest.update((method.name + method.descriptor + "{").getBytes(StandardCharsets.UTF_8));
+        byte[] code = method.code;
+        int pc = 0;
+        while (pc < code.length) {
+            int opcode = code[pc] & 0xff;
+            int length = Bytecode.length(code, pc);
+            digest.update((byte) opcode);
+            int cpIndex = Bytecode.constantPoolOperand(code, pc);
+            if (cpIndex > 0) {
+                digest.update(classFile.render(cpIndex).getBytes(StandardCharsets.UTF_8));
+                follow(classFile, self, cpIndex, digest, visited, tracked);
+                if (opcode == Bytecode.INVOKEDYNAMIC) {
+                    // Lambda bodies are synthetic methods of this class, reached through the bootstrap arguments
+                    for (int argument : classFile.bootstrapArguments(cpIndex)) {
+                        if (classFile.isMethodHandle(argument)) {
+                            follow(classFile, self, argument, digest, visited, tracked);
+                        }
+                    }
+                }
+            } else {
+                digest.update(code, pc + 1, length - 1);
+            }
+            pc += length;
+        }
+        digest.update((byte) '}');
+    }
+
+    private static void follow(ClassFile classFile, String self, int cpIndex, MessageDigest digest,
+                               Set<String> visited, Set<String> tracked) {
+        if (!classFile.isClassOrMember(cpIndex) && !classFile.isMethodHandle(cpIndex)) {
+            return;
+        }
+        String owner = classFile.owner(cpIndex);
+        String trackedOwner = trackedName(owner);
+        if (trackedOwner != null) {
+            tracked.add(trackedOwner);
+        }
+        if (self.equals(owner) && classFile.isMethodReference(cpIndex)) {
+            String target = classFile.nameAndType(cpIndex);
+            for (ClassFile.Method candidate : classFile.methods()) {
+                if (target.equals(candidate.name + ":" + candidate.descriptor)) {
+                    walk(classFile, self, candidate, digest, visited, tracked);
+                }
+            }
+        }
+    }
+
+    private static String trackedName(String internalName) {
+        if (internalName == null) {
+            return null;
+        }
+        String name = internalName.replaceAll("^\\[+L|;$", "");
+        return TRACKED_PACKAGES.stream().anyMatch(name::startsWith) ? name : null;
+    }
+
+    private static byte[] bytes(String internalName) {
+        String resource = internalName + ".class";
+        try (InputStream in = CodeFingerprint.class.getClassLoader().getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IllegalStateException(resource + " not found on the classpath");
+            }
+            return in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package com.saucedemo.incremental;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Stream;
+
+/**
+ * Dependency graph of the compiled test code: methods -> the methods and fields they use
+ * Members are keyed "owner.name:descriptor", e.g. "com/saucedemo/pages/CheckoutPage.FINISH_BUTTON:L.../Locator;".
+ * Built from the class files of the tests, actions, pages and data providers packages, with each member's
+ * source lines taken from the line number tables, so a diff can be turned into the members it touched.
+ * Field initializers are attributed to the field they assign rather than to the constructor, and writing a field
+ * is not a dependency on it, so a test that builds a page only depends on the locators its actions read.
+ */
+public class ImpactGraph {
+
+    private final Set<String> packages;
+    private final Map<String, Set<String>> edges = new HashMap<>();
+    private final Map<String, List<Segment>> segments = new HashMap<>();
+    private final Map<String, ClassFile> classes = new HashMap<>();
+
+    /**
+     * Lines [start, end] of one member of a class
+     */
+    private record Segment(int start, int end, String member) {
+    }
+
+    private ImpactGraph(Collection<String> packages) {
+        this.packages = new HashSet<>(packages);
+    }
+
+    /**
+     * Read every class file of the given packages
+     * @param classesDir compiled test classes, e.g. target/test-classes
+     * @param packages internal package names, e.g. "com/saucedemo/pages"
+     * @return ImpactGraph
+     */
+    public static ImpactGraph build(Path classesDir, Collection<String> packages) {
+        ImpactGraph graph = new ImpactGraph(packages);
+        for (String pkg : packages) {
+            Path dir = classesDir.resolve(pkg);
+            if (!Files.isDirectory(dir)) {
+                continue;
+            }
+            try (Stream<Path> files = Files.list(dir)) {
+                for (Path file : (Iterable<Path>) files.filter(f -> f.toString().endsWith(".class"))::iterator) {
+                    ClassFile classFile = new ClassFile(Files.readAllBytes(file));
+                    graph.classes.put(classFile.name(), classFile);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read " + dir, e);
+            }
+        }
+        graph.classes.values().forEach(graph::link);
+        graph.linkOverrides();
+        return graph;
+    }
+
+    /**
+     * Whether a class belongs to the analysed packages
+     * @param internalName e.g. "com/saucedemo/pages/CartPage"
+     */
+    public boolean isAnalysed(String internalName) {
+        int slash = internalName.lastIndexOf('/');
+        return slash > 0 && packages.contains(internalName.substring(0, slash));
+    }
+
+    /**
+     * Members whose source lines include a changed line
+     * A changed line between two members (javadoc, annotations, signature) counts for the member that follows it.
+     * @param sourceClass internal name of the top-level class the source file declares
+     * @param lines changed line numbers in that file
+     * @return the touched member keys
+     */
+    public Set<String> membersAt(String sourceClass, Set<Integer> lines) {
+        List<Segment> all = new ArrayList<>();
+        segments.forEach((owner, list) -> {
+            if (owner.equals(sourceClass) || owner.startsWith(sourceClass + "$")) {
+                all.addAll(list);
+            }
+        });
+        Set<String> touched = new TreeSet<>();
+        for (int line : lines) {
+            Segment next = null;
+            boolean inside = false;
+            for (Segment segment : all) {
+                if (segment.start() <= line && line <= segment.end()) {
+                    touched.add(segment.member());
+                    inside = true;
+                } else if (segment.start() > line && (next == null || segment.start() < next.start())) {
+                    next = segment;
+                }
+            }
+            if (!inside && next != null) {
+                touched.add(next.member());
+            }
+        }
+        return touched;
+    }
+
+    /**
+     * Everything a set of root methods can reach
+     * @param roots member keys of the entry points
+     * @return the reachable member keys, roots included
+     */
+    public Set<String> reachableFrom(Collection<String> roots) {
+        Set<String> reached = new LinkedHashSet<>();
+        Deque<String> queue = new ArrayDeque<>(roots);
+        while (!queue.isEmpty()) {
+            String member = queue.poll();
+            if (reached.add(member)) {
+                queue.addAll(edges.getOrDefault(member, Set.of()));
+            }
+        }
+        return reached;
+    }
+
+    /**
+     * Member keys of every method of a class with the given name (all overloads)
+     * @param internalName the class
+     * @param methodName the method
+     */
+    public List<String> methods(String internalName, String methodName) {
+        ClassFile classFile = classes.get(internalName);
+        List<String> keys = new ArrayList<>();
+        if (classFile != null) {
+            for (ClassFile.Method method : classFile.methods()) {
+                if (method.name.equals(methodName)) {
+                    keys.add(internalName + "." + method.name + ":" + method.descriptor);
+                }
+            }
+        }
+        return keys;
+    }
+
+    // Helper methods
+
+    private void link(ClassFile classFile) {
+        String self = classFile.name();
+        List<Segment> classSegments = segments.computeIfAbsent(self, key -> new ArrayList<>());
+        for (ClassFile.Method method : classFile.methods()) {
+            if (method.code == null) {
+                continue;
+            }
+            String key = self + "." + method.name + ":" + method.descriptor;
+            boolean initializer = "<init>".equals(method.name) || "<clinit>".equals(method.name);
+            Set<Integer> pendingLines = new TreeSet<>();
+            Set<String> pendingTargets = new HashSet<>();
+            byte[] code = method.code;
+            int pc = 0;
+            while (pc < code.length) {
+                int opcode = code[pc] & 0xff;
+                pendingLines.add(method.lineAt(pc));
+                int cpIndex = Bytecode.constantPoolOperand(code, pc);
+                boolean assignment = opcode == Bytecode.PUTFIELD || opcode == Bytecode.PUTSTATIC;
+                if (cpIndex > 0 && !assignment) {
+                    addTarget(classFile, cpIndex, pendingTargets);
+                    if (opcode == Bytecode.INVOKEDYNAMIC) {
+                        for (int argument : classFile.bootstrapArguments(cpIndex)) {
+                            if (classFile.isMethodHandle(argument)) {
+                                addTarget(classFile, argument, pendingTargets);
+                            }
+                        }
+                    }
+                } else if (initializer && assignment && self.equals(classFile.owner(cpIndex))) {
+                    // The code since the previous assignment is this field's initializer
+                    String field = self + "." + classFile.nameAndType(cpIndex);
+                    addSegment(classSegments, pendingLines, field);
+                    edges.computeIfAbsent(field, k -> new HashSet<>()).addAll(pendingTargets);
+                    pendingLines.clear();
+                    pendingTargets.clear();
+                }
+                pc += Bytecode.length(code, pc);
+            }
+            addSegment(classSegments, pendingLines, key);
+            edges.computeIfAbsent(key, k -> new HashSet<>()).addAll(pendingTargets);
+        }
+    }
+
+    private void addTarget(ClassFile classFile, int cpIndex, Set<String> targets) {
+        if (!classFile.isMethodReference(cpIndex) && !classFile.isFieldReference(cpIndex)) {
+            return;
+        }
+        String owner = classFile.owner(cpIndex);
+        if (owner != null && isAnalysed(owner)) {
+            targets.add(owner + "." + classFile.nameAndType(cpIndex));
+        }
+    }
+
+    // A call through a supertype may land in any analysed subtype that overrides the method
+    private void linkOverrides() {
+        for (ClassFile classFile : classes.values()) {
+            for (String supertype : classFile.supertypes()) {
+                if (!isAnalysed(supertype)) {
+                    continue;
+                }
+                for (ClassFile.Method method : classFile.methods()) {
+                    String signature = "." + method.name + ":" + method.descriptor;
+                    edges.computeIfAbsent(supertype + signature, k -> new HashSet<>()).add(classFile.name() + signature);
+                }
+            }
+        }
+    }
+
+    private static void addSegment(List<Segment> segments, Set<Integer> lines, String member) {
+        lines.remove(-1);
+        if (!lines.isEmpty()) {
+            segments.add(new Segment(((TreeSet<Integer>) lines).first(), ((TreeSet<Integer>) lines).last(), member));
+        }
+    }
+}
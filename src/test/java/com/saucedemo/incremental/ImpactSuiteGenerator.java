@@ -0,0 +1,200 @@
+package com.saucedemo.incremental;
+
+import org.openqa.selenium.json.Json;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterMethod;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+import org.testng.xml.Parser;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlInclude;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+
+import java.io.IOException;
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.PathMatcher;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Writes a TestNG suite with only the tests a change can affect: mvn test -Pimpact
+ * Maps the diff against -Dimpact.base (default origin/main) to touched members through {@link ImpactGraph},
+ * then keeps the test methods whose call graph (test -> actions -> page locators, plus lifecycle methods
+ * and data providers) reaches one. Changes outside the analysed packages fall back to the whole suite;
+ * paths matching -Dimpact.ignore (documentation, CI config) are not changes at all.
+ *
+ * Arguments: base suite, generated suite, base ref, compiled test classes folder.
+ * -Dimpact.diff=&lt;file&gt; reads the diff from a file instead of running git.
+ */
+public final class ImpactSuiteGenerator {
+
+    private static final String SOURCE_ROOT = "src/test/java/";
+    private static final List<String> ANALYSED_PACKAGES = List.of(
+        "com/saucedemo/tests", "com/saucedemo/actions", "com/saucedemo/pages", "com/saucedemo/dataproviders");
+    private static final List<Class<? extends Annotation>> LIFECYCLE = List.of(
+        BeforeMethod.class, AfterMethod.class, BeforeClass.class, AfterClass.class);
+    private static final Path REPORT = Paths.get(System.getProperty("impact.report", "target/impact/selection.json"));
+
+    private ImpactSuiteGenerator() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path baseSuite = Paths.get(args.length > 0 ? args[0] : "testng.xml");
+        Path output = Paths.get(args.length > 1 ? args[1] : "target/impact-testng.xml");
+        String baseRef = args.length > 2 ? args[2] : "origin/main";
+        Path classesDir = Paths.get(args.length > 3 ? args[3] : "target/test-classes");
+
+        List<XmlSuite> suites = new Parser(baseSuite.toString()).parseToList();
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("base", baseRef);
+        String fallback = null;
+        ChangedLines changes = null;
+        try {
+            String diffFile = System.getProperty("impact.diff");
+            changes = diffFile != null
+                ? ChangedLines.parse(Files.readString(Paths.get(diffFile), StandardCharsets.UTF_8))
+                : ChangedLines.fromGit(baseRef);
+        } catch (RuntimeException e) {
+            // e.g. a shallow clone without the base ref
+            fallback = "no diff: " + e.getMessage();
+        }
+
+        ImpactGraph graph = ImpactGraph.build(classesDir, ANALYSED_PACKAGES);
+        Set<String> touched = new TreeSet<>();
+        if (changes != null) {
+            report.put("changedFiles", changes.files());
+            List<PathMatcher> ignored = Arrays.stream(
+                    System.getProperty("impact.ignore", "**.md,.gitignore,.github/**,scripts/**").split(","))
+                .map(glob -> FileSystems.getDefault().getPathMatcher("glob:" + glob.trim()))
+                .toList();
+            for (String file : changes.files()) {
+                if (ignored.stream().anyMatch(matcher -> matcher.matches(Paths.get(file)))) {
+                    continue;
+                }
+                String sourceClass = sourceClass(file);
+                if (sourceClass == null || !graph.isAnalysed(sourceClass)) {
+                    fallback = "outside the analysed packages: " + file;
+                    break;
+                }
+                touched.addAll(graph.membersAt(sourceClass, changes.of(file)));
+            }
+        }
+        report.put("touchedMembers", touched);
+
+        Map<String, List<String>> selected = new LinkedHashMap<>();
+        if (fallback == null) {
+            for (XmlSuite suite : suites) {
+                select(suite, graph, touched, selected);
+                suite.setName(suite.getName() + " (impacted)");
+            }
+        }
+        report.put("fullSuite", fallback != null);
+        report.put("reason", fallback);
+        report.put("selected", selected);
+
+        Files.createDirectories(output.toAbsolutePath().getParent());
+        Files.writeString(output, suites.get(0).toXml(), StandardCharsets.UTF_8);
+        Files.createDirectories(REPORT.toAbsolutePath().getParent());
+        Files.writeString(REPORT, new Json().toJson(report), StandardCharsets.UTF_8);
+
+        if (fallback != null) {
+            System.out.println("[impact] running the whole suite, " + fallback);
+        } else {
+            int count = selected.values().stream().mapToInt(List::size).sum();
+            System.out.println("[impact] " + touched.size() + " touched member(s) select " + count + " test method(s)");
+            selected.forEach((test, reasons) -> System.out.println("[impact]   " + test + " <- " + reasons.get(0)));
+        }
+        System.out.println("[impact] suite: " + output + ", report: " + REPORT);
+    }
+
+    // Helper methods
+
+    private static void select(XmlSuite suite, ImpactGraph graph, Set<String> touched, Map<String, List<String>> selected) {
+        for (XmlTest test : suite.getTests()) {
+            List<XmlClass> keptClasses = new ArrayList<>();
+            for (XmlClass xmlClass : test.getXmlClasses()) {
+                Class<?> testClass = load(xmlClass.getName());
+                List<XmlInclude> includes = new ArrayList<>();
+                for (Method method : testClass.getMethods()) {
+                    if (!method.isAnnotationPresent(Test.class) || !included(xmlClass, method.getName())) {
+                        continue;
+                    }
+                    Set<String> reached = graph.reachableFrom(roots(graph, testClass, method));
+                    List<String> reasons = touched.stream().filter(reached::contains).toList();
+                    if (!reasons.isEmpty()) {
+                        includes.add(new XmlInclude(method.getName()));
+                        selected.put(testClass.getSimpleName() + "." + method.getName(), reasons);
+                    }
+                }
+                if (!includes.isEmpty()) {
+                    xmlClass.setIncludedMethods(includes);
+                    keptClasses.add(xmlClass);
+                }
+            }
+            test.setXmlClasses(keptClasses);
+        }
+        // Drop <test> blocks with nothing left to run
+        suite.getTests().removeIf(test -> test.getXmlClasses().isEmpty());
+    }
+
+    private static List<String> roots(ImpactGraph graph, Class<?> testClass, Method testMethod) {
+        String owner = internalName(testClass);
+        List<String> roots = new ArrayList<>(graph.methods(owner, testMethod.getName()));
+        roots.addAll(graph.methods(owner, "<init>"));
+        for (Method method : testClass.getDeclaredMethods()) {
+            if (LIFECYCLE.stream().anyMatch(method::isAnnotationPresent)) {
+                roots.addAll(graph.methods(owner, method.getName()));
+            }
+        }
+        Test test = testMethod.getAnnotation(Test.class);
+        if (!test.dataProvider().isEmpty()) {
+            Class<?> providerClass = test.dataProviderClass() == Object.class ? testClass : test.dataProviderClass();
+            for (Method method : providerClass.getDeclaredMethods()) {
+                DataProvider provider = method.getAnnotation(DataProvider.class);
+                if (provider != null && test.dataProvider().equals(provider.name().isEmpty() ? method.getName() : provider.name())) {
+                    roots.addAll(graph.methods(internalName(providerClass), method.getName()));
+                }
+            }
+        }
+        return roots;
+    }
+
+    private static boolean included(XmlClass xmlClass, String methodName) {
+        List<XmlInclude> includes = xmlClass.getIncludedMethods();
+        return (includes.isEmpty() || includes.stream().anyMatch(include -> include.getName().equals(methodName)))
+            && !xmlClass.getExcludedMethods().contains(methodName);
+    }
+
+    private static String sourceClass(String file) {
+        if (!file.startsWith(SOURCE_ROOT) || !file.endsWith(".java")) {
+            return null;
+        }
+        return file.substring(SOURCE_ROOT.length(), file.length() - ".java".length());
+    }
+
+    private static String internalName(Class<?> type) {
+        return type.getName().replace('.', '/');
+    }
+
+    private static Class<?> load(String name) {
+        try {
+            return Class.forName(name, false, ImpactSuiteGenerator.class.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException("Suite class " + name + " is not compiled", e);
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package com.saucedemo.incremental;
+
+import com.saucedemo.actions.ActionBackend;
+import com.saucedemo.session.NetworkConditions;
+import com.saucedemo.session.SessionMode;
+import com.saucedemo.session.WebConfig;
+import com.saucedemo.slo.SloMode;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Collectors;
+
+/**
+ * Fingerprint of one test invocation: the code it runs, its data row, the web config, budgets and run switches it
+ * runs with (action backend, session mode, page-load strategy, network profile, SLO mode) and the version of the
+ * site it runs against.
+ * Equal fingerprints mean the invocation would repeat itself.
+ */
+public class InvocationFingerprint {
+
+    private final String environment;
+
+    /**
+     * @param configKey the ui.web key the suite runs with
+     * @param siteVersion marker from {@link SiteVersion}
+     */
+    public InvocationFingerprint(String configKey, String siteVersion) {
+        Json json = new Json();
+        this.environment = configKey
+            + "\n" + json.toJson(sorted(WebConfig.section("ui", "web", configKey)))
+            + "\n" + json.toJson(sorted(WebConfig.section("ui", "timeout")))
+            + "\n" + ActionBackend.current() + " " + SessionMode.current()
+            + " " + WebConfig.pageLoadStrategy() + " " + NetworkConditions.defaultProfile() + " " + SloMode.current()
+            + "\n" + resource(System.getProperty("slo.budgets", "latency-budgets.json"))
+            + "\n" + resource(System.getProperty("commands.budgets", "command-budgets.json"))
+            + "\n" + siteVersion;
+    }
+
+    /**
+     * Fingerprint an invocation
+     * @param testClass the test class
+     * @param methodName the test method
+     * @param parameters the data row, empty for methods without a data provider
+     * @return hex SHA-256
+     */
+    public String of(Class<?> testClass, String methodName, Object[] parameters) {
+        String input = CodeFingerprint.of(testClass, methodName)
+            + "\n" + dataRow(parameters)
+            + "\n" + environment;
+        try {
+            return HexFormat.of().formatHex(
+                MessageDigest.getInstance("SHA-256").digest(input.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Render a data row the same way {@link com.saucedemo.trace.TestInvocation} does
+     * @param parameters the data row
+     * @return the rendered row
+     */
+    public static String dataRow(Object[] parameters) {
+        return Arrays.deepToString(parameters == null ? new Object[0] : parameters);
+    }
+
+    // Helper methods
+
+    // A tightened budget can fail a test that passed before, so the budget files count as input
+    private static String resource(String name) {
+        try (InputStream in = InvocationFingerprint.class.getClassLoader().getResourceAsStream(name)) {
+            return name + "\n" + (in == null ? "" : new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + name, e);
+        }
+    }
+
+    // Key order in the parsed config is not guaranteed, so hash a sorted copy
+    private static Object sorted(Object value) {
+        if (value instanceof Map) {
+            Map<String, Object> copy = new TreeMap<>();
+            ((Map<?, ?>) value).forEach((key, nested) -> copy.put(String.valueOf(key), sorted(nested)));
+            return copy;
+        }
+        if (value instanceof List) {
+            return ((List<?>) value).stream().map(InvocationFingerprint::sorted).collect(Collectors.toList());
+        }
+        return value;
+    }
+}
@@ -0,0 +1,67 @@
+package com.saucedemo.incremental;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Fingerprints of invocations that passed, kept in an append-only file (one line per pass)
+ * A line is "fingerprint&lt;TAB&gt;test&lt;TAB&gt;data row", so the file also says what each entry was
+ */
+public class PassCache {
+
+    private final Path file;
+    private final Set<String> passed = ConcurrentHashMap.newKeySet();
+
+    private PassCache(Path file) {
+        this.file = file;
+    }
+
+    /**
+     * Load the cache file, or start empty if it does not exist yet
+     * @param file the cache file
+     * @return PassCache
+     */
+    public static PassCache load(Path file) {
+        PassCache cache = new PassCache(file);
+        if (Files.exists(file)) {
+            try {
+                for (String line : Files.readAllLines(file, StandardCharsets.UTF_8)) {
+                    int tab = line.indexOf('\t');
+                    cache.passed.add(tab < 0 ? line : line.substring(0, tab));
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not read " + file, e);
+            }
+        }
+        return cache;
+    }
+
+    public boolean hasPassed(String fingerprint) {
+        return passed.contains(fingerprint);
+    }
+
+    /**
+     * Remember a passing invocation
+     * @param fingerprint the invocation fingerprint
+     * @param test test class and method
+     * @param dataRow the data row
+     */
+    public synchronized void recordPass(String fingerprint, String test, String dataRow) {
+        if (!passed.add(fingerprint)) {
+            return;
+        }
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            Files.writeString(file, fingerprint + "\t" + test + "\t" + dataRow.replace('\n', ' ') + System.lineSeparator(),
+                StandardCharsets.UTF_8, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + file, e);
+        }
+    }
+}
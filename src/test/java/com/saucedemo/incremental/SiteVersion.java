@@ -0,0 +1,54 @@
+package com.saucedemo.incremental;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+
+/**
+ * Marker for the deployed version of the site under test
+ * -Dsite.version wins; otherwise the SHA-256 of the base_url page, whose HTML names the
+ * content-hashed script bundles, so any redeploy of the app changes it
+ */
+public final class SiteVersion {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(10);
+
+    private SiteVersion() {
+    }
+
+    /**
+     * Resolve the version marker
+     * @param baseUrl the configured base_url
+     * @return the marker, or null if the site could not be read (nothing is then treated as cached)
+     */
+    public static String resolve(String baseUrl) {
+        String explicit = System.getProperty("site.version");
+        if (explicit != null && !explicit.isBlank()) {
+            return explicit.trim();
+        }
+        try {
+            HttpClient client = HttpClient.newBuilder()
+                .connectTimeout(TIMEOUT)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .build();
+            HttpResponse<byte[]> response = client.send(
+                HttpRequest.newBuilder(URI.create(baseUrl)).timeout(TIMEOUT).GET().build(),
+                HttpResponse.BodyHandlers.ofByteArray());
+            if (response.statusCode() >= 400) {
+                return null;
+            }
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(response.body()));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return null;
+        } catch (IOException | NoSuchAlgorithmException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package com.saucedemo.listeners;
+
+import com.saucedemo.concurrent.AdaptiveConcurrencyController;
+import com.saucedemo.concurrent.ConcurrencySignals;
+import com.saucedemo.resilience.FailureCause;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Feeds test outcomes to the {@link AdaptiveConcurrencyController} and reports what it did
+ * Only active with -Dadaptive=true under -Pvirtual-threads; elsewhere there is no method executor to control, and a
+ * warning says so. Writes every tick to target/adaptive/timeline.json (-Dadaptive.report.dir) and lists the
+ * concurrency changes in the log and the TestNG report.
+ */
+public class AdaptiveConcurrencyListener implements ITestListener, ISuiteListener {
+
+    private static final Logger LOG = LogManager.getLogger(AdaptiveConcurrencyListener.class);
+    private static final Path REPORT_DIR = Paths.get(System.getProperty("adaptive.report.dir", "target/adaptive"));
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        ConcurrencySignals.recordTest(false);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        ConcurrencySignals.recordTest(FailureCause.classify(result.getThrowable()) == FailureCause.TIMEOUT);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void onFinish(ISuite suite) {
+        List<Map<String, Object>> timeline = AdaptiveConcurrencyController.timeline();
+        if (timeline.isEmpty()) {
+            if (Boolean.getBoolean("adaptive")) {
+                LOG.warn("[adaptive] no method executor was controlled; -Dadaptive=true needs mvn test -Pvirtual-threads");
+            }
+            return;
+        }
+        for (Map<String, Object> tick : timeline) {
+            if ("HOLD".equals(tick.get("action"))) {
+                continue;
+            }
+            String line = String.format("[adaptive] %7d ms %-8s %3s -> %-3s %s", tick.get("atMs"), tick.get("action"),
+                tick.get("from"), tick.get("to"), String.join(", ", (List<String>) tick.get("reasons")));
+            LOG.info(line);
+            Reporter.log(line);
+        }
+        Path file = REPORT_DIR.resolve("timeline.json");
+        try {
+            Files.createDirectories(REPORT_DIR);
+            Files.writeString(file, new Json().toJson(Map.of("ticks", timeline)), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOG.warn("Could not write {}", file, e);
+        }
+    }
+}
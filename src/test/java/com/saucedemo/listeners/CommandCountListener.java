@@ -0,0 +1,112 @@
+package com.saucedemo.listeners;
+
+import com.saucedemo.trace.CommandLedger;
+import com.saucedemo.trace.TestInvocation;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reports WebDriver round-trips per action and per test invocation, as booked in the {@link CommandLedger}
+ * Logs the -Dcommands.top (default 10) chattiest actions at suite end and writes
+ * target/commands/report.json (-Dcommands.report.dir)
+ */
+public class CommandCountListener implements ITestListener, ISuiteListener {
+
+    private static final Logger LOG = LogManager.getLogger(CommandCountListener.class);
+    private static final Path REPORT_DIR = Paths.get(System.getProperty("commands.report.dir", "target/commands"));
+    private static final int TOP = Integer.getInteger("commands.top", 10);
+
+    private final List<Map<String, Object>> invocations = new ArrayList<>();
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        record(result, "PASSED");
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        record(result, "FAILED");
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        record(result, result.wasRetried() ? "RETRIED" : "SKIPPED");
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        List<Map<String, Object>> actions = new ArrayList<>();
+        CommandLedger.actions().forEach((action, totals) -> {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("action", action);
+            row.put("calls", totals.getCalls());
+            row.put("commands", totals.getCommands());
+            row.put("commandsPerCall", totals.getCalls() == 0 ? 0.0
+                : Math.round(totals.getCommands() * 100.0 / totals.getCalls()) / 100.0);
+            row.put("wireMs", totals.getWireNanos() / 1_000_000);
+            actions.add(row);
+        });
+        if (actions.isEmpty()) {
+            return;
+        }
+        actions.sort(Comparator.comparingLong((Map<String, Object> row) -> (Long) row.get("commands")).reversed());
+        String header = String.format("[commands] top %d chattiest action(s) by WebDriver commands issued:", Math.min(TOP, actions.size()));
+        LOG.info(header);
+        Reporter.log(header);
+        actions.stream().limit(TOP).forEach(row -> {
+            String line = String.format("[commands]   %-45s %6d cmd in %5d call(s), %6.2f/call, %6d ms on the wire",
+                row.get("action"), row.get("commands"), row.get("calls"), row.get("commandsPerCall"), row.get("wireMs"));
+            LOG.info(line);
+            Reporter.log(line);
+        });
+        write(actions);
+    }
+
+    // Helper methods
+
+    private void record(ITestResult result, String status) {
+        TestInvocation invocation = TestInvocation.of(result);
+        long[] counts = CommandLedger.drainInvocation(invocation.getId());
+        Map<String, Object> row = new LinkedHashMap<>();
+        row.put("invocation", invocation.getId());
+        row.put("test", invocation.getTestName());
+        row.put("status", status);
+        row.put("commands", counts[0]);
+        row.put("wireMs", counts[1] / 1_000_000);
+        synchronized (invocations) {
+            invocations.add(row);
+        }
+    }
+
+    private void write(List<Map<String, Object>> actions) {
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("actions", actions);
+        synchronized (invocations) {
+            report.put("invocations", new ArrayList<>(invocations));
+        }
+        Path file = REPORT_DIR.resolve("report.json");
+        try {
+            Files.createDirectories(REPORT_DIR);
+            Files.writeString(file, new Json().toJson(report), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOG.warn("Could not write {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package com.saucedemo.listeners;
+
+import com.saucedemo.trace.FlightRecorder;
+import com.saucedemo.trace.TestInvocation;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Writes the thread's action trace to target/traces only when a test fails or is retried
+ * Passing tests just drop their buffer, so they pay no I/O
+ */
+public class FlightRecorderListener implements ITestListener {
+
+    private static final Logger LOG = LogManager.getLogger(FlightRecorderListener.class);
+    private static final Path TRACE_DIR = Paths.get(System.getProperty("trace.dir", "target/traces"));
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        TestInvocation.start(result);
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        TestInvocation.finish(result);
+        FlightRecorder.current().clear();
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        TestInvocation.finish(result);
+        dump(result, "FAILED");
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        TestInvocation.finish(result);
+        if (result.wasRetried()) {
+            dump(result, "RETRIED");
+        } else {
+            FlightRecorder.current().clear();
+        }
+    }
+
+    // Helper methods
+
+    private static void dump(ITestResult result, String status) {
+        TestInvocation invocation = TestInvocation.of(result);
+        Path file = TRACE_DIR.resolve(invocation.getId() + ".trace");
+        String header = String.format("%s %s %s thread=%s error=%s", status, invocation.getTestName(),
+            invocation.getDataRow(), Thread.currentThread().getName(), result.getThrowable());
+        try {
+            FlightRecorder.current().dump(file, header);
+            LOG.info("Action trace for {} written to {}", invocation.getId(), file);
+        } catch (RuntimeException e) {
+            LOG.warn("Could not write action trace for {}", invocation.getId(), e);
+        } finally {
+            FlightRecorder.current().clear();
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package com.saucedemo.listeners;
+
+import com.saucedemo.actions.ActionBackend;
+import com.saucedemo.history.CommitSha;
+import com.saucedemo.history.Regression;
+import com.saucedemo.history.RegressionDetector;
+import com.saucedemo.history.ResultsStore;
+import com.saucedemo.history.RunTimings;
+import com.saucedemo.history.StoredRun;
+import com.saucedemo.history.Timing;
+import com.saucedemo.history.TimingKey;
+import com.saucedemo.session.NetworkConditions;
+import com.saucedemo.session.SessionMode;
+import com.saucedemo.session.WebConfig;
+import com.saucedemo.trace.TestInvocation;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the run's timings in the local {@link ResultsStore} and reports regressions against its history
+ * Only passing tests contribute. At suite end the timings are compared with the last -Dhistory.baseline.runs (20)
+ * runs, the report is written to target/history/regressions.json, then the run is appended.
+ * Store folder: -Dhistory.dir (default results-history); -Dhistory.enabled=false turns it off.
+ * Model-backend runs are never recorded: they take milliseconds and would drag the browser baseline down.
+ * Baselines are kept per environment (config key, headless, backend, session mode, page-load strategy,
+ * network profile), so e.g. a headless or throttled run is only compared with runs like it.
+ */
+public class HistoryListener implements ITestListener, ISuiteListener {
+
+    private static final Logger LOG = LogManager.getLogger(HistoryListener.class);
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("history.enabled", "true"))
+        && ActionBackend.current() == ActionBackend.BROWSER;
+    private static final Path STORE_DIR = Paths.get(System.getProperty("history.dir", "results-history"));
+    private static final Path REPORT_DIR = Paths.get(System.getProperty("history.report.dir", "target/history"));
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        if (ENABLED) {
+            RunTimings.keep(TestInvocation.of(result), result.getEndMillis() - result.getStartMillis());
+        } else {
+            RunTimings.discard(TestInvocation.of(result));
+        }
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        RunTimings.discard(TestInvocation.of(result));
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        RunTimings.discard(TestInvocation.of(result));
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        try {
+            Map<TimingKey, Timing> timings = RunTimings.drain(environment(suite));
+            if (!ENABLED || timings.isEmpty()) {
+                return;
+            }
+            String sha = CommitSha.resolve();
+            ResultsStore store = ResultsStore.open(STORE_DIR);
+            List<StoredRun> baseline = store.recentRuns(Integer.getInteger("history.baseline.runs", 20));
+            List<Regression> regressions = RegressionDetector.fromSystemProperties().compare(timings, baseline, store);
+            report(sha, regressions, timings.size(), baseline.size());
+
+            store.append(sha, System.currentTimeMillis(), timings);
+            LOG.info("[history] stored {} timing(s) for {} ({} run(s) in {})", timings.size(), sha, store.runCount(), STORE_DIR);
+        } catch (RuntimeException e) {
+            // History is a side report; never fail the suite over it
+            LOG.warn("[history] could not update {}", STORE_DIR, e);
+        }
+    }
+
+    // Helper methods
+
+    private static String environment(ISuite suite) {
+        String configKey = suite.getParameter("configKey") != null ? suite.getParameter("configKey") : "test_web";
+        return configKey + " headless=" + WebConfig.forKey(configKey).isHeadless()
+            + " " + ActionBackend.current() + " " + SessionMode.current()
+            + " " + WebConfig.pageLoadStrategy() + " " + NetworkConditions.defaultProfile();
+    }
+
+    private static void report(String sha, List<Regression> regressions, int compared, int baselineRuns) {
+        String summary = String.format("[history] %d regression(s) in %d timing(s) against %d baseline run(s)",
+            regressions.size(), compared, baselineRuns);
+        LOG.info(summary);
+        Reporter.log(summary);
+        List<Map<String, Object>> entries = new ArrayList<>();
+        for (Regression regression : regressions) {
+            LOG.warn("[history] regression: {}", regression);
+            Reporter.log("[history] regression: " + regression);
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("environment", regression.getKey().getEnvironment());
+            entry.put("test", regression.getKey().getTest());
+            entry.put("dataRow", regression.getKey().getDataRow());
+            entry.put("action", regression.getKey().getAction());
+            entry.put("currentMs", regression.getCurrentMs());
+            entry.put("baselineMedianMs", regression.getBaselineMedianMs());
+            entry.put("baselineMadMs", regression.getBaselineMadMs());
+            entry.put("score", Double.isInfinite(regression.getScore()) ? "inf" : regression.getScore());
+            entry.put("baselineRuns", regression.getBaselineRuns());
+            entries.add(entry);
+        }
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("commitSha", sha);
+        report.put("baselineRuns", baselineRuns);
+        report.put("comparedTimings", compared);
+        report.put("regressions", entries);
+        Path file = REPORT_DIR.resolve("regressions.json");
+        try {
+            Files.createDirectories(REPORT_DIR);
+            Files.writeString(file, new Json().toJson(report), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOG.warn("Could not write {}", file, e);
+        }
+    }
+}
@@ -0,0 +1,159 @@
+package com.saucedemo.listeners;
+
+import com.saucedemo.incremental.InvocationFingerprint;
+import com.saucedemo.incremental.PassCache;
+import com.saucedemo.incremental.SiteVersion;
+import com.saucedemo.session.WebConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.testng.IDataProviderInterceptor;
+import org.testng.IDataProviderMethod;
+import org.testng.IMethodInstance;
+import org.testng.IMethodInterceptor;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestContext;
+import org.testng.ITestListener;
+import org.testng.ITestNGMethod;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Incremental execution: skips invocations that already passed with the same code, data row, config and site version
+ * Opt in with -Dincremental=true; -Dincremental.force=true runs everything but still records passes.
+ * Passes are kept in -Dincremental.dir (default test-cache); skipped invocations go to target/incremental/cached.json.
+ */
+public class IncrementalListener implements IMethodInterceptor, IDataProviderInterceptor, ITestListener, ISuiteListener {
+
+    private static final Logger LOG = LogManager.getLogger(IncrementalListener.class);
+    private static final boolean ENABLED = Boolean.getBoolean("incremental");
+    private static final boolean FORCE = Boolean.getBoolean("incremental.force");
+    private static final Path CACHE_FILE = Paths.get(System.getProperty("incremental.dir", "test-cache"), "passed.tsv");
+    private static final Path REPORT_DIR = Paths.get(System.getProperty("incremental.report.dir", "target/incremental"));
+
+    private final List<Map<String, String>> cached = new ArrayList<>();
+    private volatile InvocationFingerprint fingerprint;
+    private volatile PassCache cache;
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!ENABLED) {
+            return;
+        }
+        String configKey = suite.getParameter("configKey") != null ? suite.getParameter("configKey") : "test_web";
+        String siteVersion = SiteVersion.resolve(WebConfig.forKey(configKey).getBaseUrl());
+        if (siteVersion == null) {
+            // Without a site marker a cached pass could hide a change on the site side
+            LOG.warn("[incremental] could not read the site version, running everything and recording nothing");
+            return;
+        }
+        fingerprint = new InvocationFingerprint(configKey, siteVersion);
+        cache = PassCache.load(CACHE_FILE);
+        LOG.info("[incremental] site version {}, cache {}{}", siteVersion, CACHE_FILE, FORCE ? " (forced full run)" : "");
+    }
+
+    @Override
+    public List<IMethodInstance> intercept(List<IMethodInstance> methods, ITestContext context) {
+        if (!skipping()) {
+            return methods;
+        }
+        List<IMethodInstance> remaining = new ArrayList<>();
+        for (IMethodInstance instance : methods) {
+            ITestNGMethod method = instance.getMethod();
+            // Data-driven methods are filtered row by row in the data provider instead
+            if (!method.isDataDriven() && isCached(method, new Object[0])) {
+                continue;
+            }
+            remaining.add(instance);
+        }
+        return remaining;
+    }
+
+    @Override
+    public Iterator<Object[]> intercept(Iterator<Object[]> rows, IDataProviderMethod dataProvider,
+                                        ITestNGMethod method, ITestContext context) {
+        if (!skipping()) {
+            return rows;
+        }
+        List<Object[]> remaining = new ArrayList<>();
+        rows.forEachRemaining(row -> {
+            if (!isCached(method, row)) {
+                remaining.add(row);
+            }
+        });
+        return remaining.iterator();
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        if (fingerprint == null) {
+            return;
+        }
+        ITestNGMethod method = result.getMethod();
+        cache.recordPass(
+            fingerprint.of(method.getRealClass(), method.getMethodName(), result.getParameters()),
+            testName(method),
+            InvocationFingerprint.dataRow(result.getParameters()));
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        if (fingerprint == null) {
+            return;
+        }
+        List<Map<String, String>> entries;
+        synchronized (cached) {
+            entries = new ArrayList<>(cached);
+        }
+        String summary = String.format("[incremental] %d invocation(s) skipped as cached passes", entries.size());
+        LOG.info(summary);
+        Reporter.log(summary);
+        for (Map<String, String> entry : entries) {
+            Reporter.log("[incremental] cached: " + entry.get("test") + " " + entry.get("dataRow"));
+        }
+        Path file = REPORT_DIR.resolve("cached.json");
+        try {
+            Files.createDirectories(REPORT_DIR);
+            Files.writeString(file, new Json().toJson(entries), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOG.warn("Could not write {}", file, e);
+        }
+    }
+
+    // Helper methods
+
+    private boolean skipping() {
+        return fingerprint != null && !FORCE;
+    }
+
+    private boolean isCached(ITestNGMethod method, Object[] row) {
+        String key = fingerprint.of(method.getRealClass(), method.getMethodName(), row);
+        if (!cache.hasPassed(key)) {
+            return false;
+        }
+        Map<String, String> entry = new LinkedHashMap<>();
+        entry.put("test", testName(method));
+        entry.put("dataRow", InvocationFingerprint.dataRow(row));
+        entry.put("fingerprint", key);
+        synchronized (cached) {
+            cached.add(entry);
+        }
+        return true;
+    }
+
+    private static String testName(ITestNGMethod method) {
+        return method.getRealClass().getSimpleName() + "." + method.getMethodName();
+    }
+}
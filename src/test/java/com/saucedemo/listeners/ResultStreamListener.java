@@ -0,0 +1,142 @@
+package com.saucedemo.listeners;
+
+import com.saucedemo.resilience.FailureCause;
+import com.saucedemo.results.ResultStream;
+import com.saucedemo.trace.TestInvocation;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Streams a "start" and a "finish" NDJSON event per test invocation while the suite runs
+ * Finish events carry status, duration, user, data row and, for failures, the {@link FailureCause}.
+ * File: -Dresults.stream.dir (default target/results-stream)/&lt;shard&gt;.ndjson, shard from -Dshard.id;
+ * -Dresults.stream.socket=host:port also sends every line to a local dashboard. -Dresults.stream=false turns it off.
+ * The file is opened once per JVM and closed at exit, so several suites run by one JVM share it, each framed by
+ * its own suiteStart/suiteFinish events.
+ */
+public class ResultStreamListener implements ITestListener, ISuiteListener {
+
+    private static final Logger LOG = LogManager.getLogger(ResultStreamListener.class);
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("results.stream", "true"));
+    private static final Path STREAM_DIR = Paths.get(System.getProperty("results.stream.dir", "target/results-stream"));
+    private static final String SHARD = System.getProperty("shard.id", "pid" + ProcessHandle.current().pid());
+
+    private static volatile ResultStream stream;
+
+    // passed, failed, skipped per suite name
+    private final Map<String, AtomicInteger[]> counts = new ConcurrentHashMap<>();
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (!ENABLED) {
+            return;
+        }
+        counts.put(suite.getName(), new AtomicInteger[] {new AtomicInteger(), new AtomicInteger(), new AtomicInteger()});
+        stream().emit("suiteStart", Map.of("suite", suite.getName()));
+    }
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        TestInvocation invocation = TestInvocation.start(result);
+        ResultStream current = stream;
+        if (current == null) {
+            return;
+        }
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("invocation", invocation.getId());
+        fields.put("test", invocation.getTestName());
+        fields.put("dataRow", invocation.getDataRow());
+        fields.put("thread", Thread.currentThread().getName());
+        current.emit("start", fields);
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        count(result, 0);
+        finish(result, "PASSED");
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        count(result, 1);
+        finish(result, "FAILED");
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        if (!result.wasRetried()) {
+            count(result, 2);
+        }
+        finish(result, result.wasRetried() ? "RETRIED" : "SKIPPED");
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        AtomicInteger[] suiteCounts = counts.remove(suite.getName());
+        if (stream == null || suiteCounts == null) {
+            return;
+        }
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("suite", suite.getName());
+        fields.put("passed", suiteCounts[0].get());
+        fields.put("failed", suiteCounts[1].get());
+        fields.put("skipped", suiteCounts[2].get());
+        stream.emit("suiteFinish", fields);
+    }
+
+    // Helper methods
+
+    private static ResultStream stream() {
+        if (stream == null) {
+            synchronized (ResultStreamListener.class) {
+                if (stream == null) {
+                    Path file = STREAM_DIR.resolve(SHARD + ".ndjson");
+                    ResultStream opened = ResultStream.open(SHARD, file, System.getProperty("results.stream.socket"));
+                    Runtime.getRuntime().addShutdownHook(new Thread(opened::close, "results-stream-close"));
+                    LOG.info("[results] streaming to {}", file);
+                    stream = opened;
+                }
+            }
+        }
+        return stream;
+    }
+
+    private void count(ITestResult result, int index) {
+        AtomicInteger[] suiteCounts = counts.get(result.getTestContext().getSuite().getName());
+        if (suiteCounts != null) {
+            suiteCounts[index].incrementAndGet();
+        }
+    }
+
+    private void finish(ITestResult result, String status) {
+        TestInvocation invocation = TestInvocation.finish(result);
+        ResultStream current = stream;
+        if (current == null) {
+            return;
+        }
+        Map<String, Object> fields = new LinkedHashMap<>();
+        fields.put("invocation", invocation.getId());
+        fields.put("test", invocation.getTestName());
+        fields.put("dataRow", invocation.getDataRow());
+        fields.put("user", invocation.getUser());
+        fields.put("status", status);
+        fields.put("durationMs", result.getEndMillis() - result.getStartMillis());
+        Throwable error = result.getThrowable();
+        if (error != null) {
+            fields.put("cause", FailureCause.classify(error).name());
+            fields.put("message", String.valueOf(error.getMessage()).lines().findFirst().orElse(""));
+        }
+        current.emit("finish", fields);
+    }
+}
@@ -0,0 +1,95 @@
+package com.saucedemo.listeners;
+
+import com.saucedemo.resilience.ClassifyingRetryAnalyzer;
+import com.saucedemo.resilience.FailureCause;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IAnnotationTransformer;
+import org.testng.IRetryAnalyzer;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+import org.testng.annotations.ITestAnnotation;
+import org.testng.annotations.Test;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Attaches {@link ClassifyingRetryAnalyzer} to every test and reports what retries cost
+ * Each failure is tagged with its {@link FailureCause}; retried attempts are summed per cause at suite end
+ */
+public class RetryListener implements IAnnotationTransformer, ITestListener, ISuiteListener {
+
+    private static final Logger LOG = LogManager.getLogger(RetryListener.class);
+    // @Test's own default for retryAnalyzer, read from the public annotation instead of naming TestNG's internal class
+    private static final Object DEFAULT_ANALYZER = defaultAnalyzer();
+
+    private final Map<FailureCause, Integer> retries = new EnumMap<>(FailureCause.class);
+    private final Map<FailureCause, Long> retryMillis = new EnumMap<>(FailureCause.class);
+
+    @Override
+    @SuppressWarnings("rawtypes")
+    public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+        Class<?> declared = annotation.getRetryAnalyzerClass();
+        if (declared == null || declared == IRetryAnalyzer.class || declared == DEFAULT_ANALYZER) {
+            // Tests that declare their own analyzer keep it
+            annotation.setRetryAnalyzer(ClassifyingRetryAnalyzer.class);
+        }
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        if (result.getAttribute(ClassifyingRetryAnalyzer.CAUSE_ATTRIBUTE) == null) {
+            result.setAttribute(ClassifyingRetryAnalyzer.CAUSE_ATTRIBUTE,
+                FailureCause.classify(result.getThrowable()).name());
+        }
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        if (!result.wasRetried()) {
+            return;
+        }
+        Object tagged = result.getAttribute(ClassifyingRetryAnalyzer.CAUSE_ATTRIBUTE);
+        FailureCause cause = tagged != null ? FailureCause.valueOf(tagged.toString()) : FailureCause.UNKNOWN;
+        synchronized (this) {
+            retries.merge(cause, 1, Integer::sum);
+            retryMillis.merge(cause, result.getEndMillis() - result.getStartMillis(), Long::sum);
+        }
+    }
+
+    @Override
+    public synchronized void onFinish(ISuite suite) {
+        if (retries.isEmpty()) {
+            return;
+        }
+        long totalMillis = 0;
+        for (Map.Entry<FailureCause, Integer> entry : retries.entrySet()) {
+            long millis = retryMillis.get(entry.getKey());
+            totalMillis += millis;
+            report(String.format("[retry] %-14s %3d retried attempt(s), %.1f s", entry.getKey(), entry.getValue(), millis / 1000.0));
+        }
+        report(String.format("[retry] total %d retried attempt(s), %.1f s spent on retries",
+            ClassifyingRetryAnalyzer.totalRetries(), totalMillis / 1000.0));
+    }
+
+    // Helper methods
+
+    private static Object defaultAnalyzer() {
+        try {
+            return Test.class.getMethod("retryAnalyzer").getDefaultValue();
+        } catch (NoSuchMethodException e) {
+            return IRetryAnalyzer.class;
+        }
+    }
+
+    private static void report(String line) {
+        LOG.info(line);
+        Reporter.log(line);
+    }
+}
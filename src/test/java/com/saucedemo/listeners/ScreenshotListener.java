@@ -0,0 +1,42 @@
+package com.saucedemo.listeners;
+
+import com.saucedemo.screenshots.ScreenshotPipeline;
+import com.saucedemo.trace.TestInvocation;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+
+import java.util.Locale;
+
+/**
+ * Captures the final page of each test through the asynchronous {@link ScreenshotPipeline}
+ * and flushes pending images when the suite ends
+ * Takes the place of Boyka's own capture (ui.screenshot.enabled), which runs on the test thread:
+ * -Dscreenshots.capture=all (default, every test), failed, or off
+ */
+public class ScreenshotListener implements IInvokedMethodListener, ISuiteListener {
+
+    private static final long FLUSH_TIMEOUT_SECONDS = 60;
+    private static final String CAPTURE = System.getProperty("screenshots.capture", "all").trim().toLowerCase(Locale.ROOT);
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        // Runs before @AfterMethod, so the session is still open
+        if (method.isTestMethod() && shouldCapture(result)) {
+            ScreenshotPipeline.get().capture(TestInvocation.of(result).getId());
+        }
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        ScreenshotPipeline.get().flush(FLUSH_TIMEOUT_SECONDS);
+    }
+
+    // Helper methods
+
+    private static boolean shouldCapture(ITestResult result) {
+        return "all".equals(CAPTURE) || ("failed".equals(CAPTURE) && result.getStatus() == ITestResult.FAILURE);
+    }
+}
@@ -0,0 +1,44 @@
+package com.saucedemo.listeners;
+
+import com.saucedemo.actions.ActionBackend;
+import com.saucedemo.resilience.SiteGuard;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+/**
+ * Probes the target site before the suite and feeds test outcomes into the shared circuit breaker
+ * The web config key comes from the suite parameter "configKey" (default test_web)
+ */
+public class SiteHealthListener implements ISuiteListener, ITestListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        if (ActionBackend.current() == ActionBackend.MODEL) {
+            // The model backend never reaches the site
+            return;
+        }
+        String configKey = suite.getParameter("configKey");
+        SiteGuard.probeBeforeSuite(configKey != null ? configKey : "test_web");
+    }
+
+    @Override
+    public void onFinish(ISuite suite) {
+        Reporter.log("[circuit-breaker:site] final state " + SiteGuard.breaker().getState());
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        SiteGuard.breaker().recordSuccess();
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        Throwable error = result.getThrowable();
+        if (error != null && SiteGuard.isConnectivityFailure(error)) {
+            SiteGuard.breaker().recordFailure(error.getMessage());
+        }
+    }
+}
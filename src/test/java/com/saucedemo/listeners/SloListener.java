@@ -0,0 +1,99 @@
+package com.saucedemo.listeners;
+
+import com.saucedemo.slo.LatencyBreach;
+import com.saucedemo.slo.LatencyBudgetExceeded;
+import com.saucedemo.slo.Slo;
+import com.saucedemo.slo.SloMode;
+import com.saucedemo.trace.TestInvocation;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+import org.testng.IInvokedMethod;
+import org.testng.IInvokedMethodListener;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+import org.testng.ITestResult;
+import org.testng.Reporter;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Reports latency budget breaches apart from functional results
+ * A passing test with a fail-threshold breach is turned into a failure ({@link LatencyBudgetExceeded});
+ * every breach is listed in the TestNG report and in target/slo/breaches.json (-Dslo.report.dir)
+ */
+public class SloListener implements IInvokedMethodListener, ISuiteListener {
+
+    private static final Logger LOG = LogManager.getLogger(SloListener.class);
+    private static final Path REPORT_DIR = Paths.get(System.getProperty("slo.report.dir", "target/slo"));
+
+    private final List<Map<String, Object>> breaches = new ArrayList<>();
+
+    @Override
+    public void afterInvocation(IInvokedMethod method, ITestResult result) {
+        if (!method.isTestMethod()) {
+            return;
+        }
+        TestInvocation invocation = TestInvocation.of(result);
+        List<LatencyBreach> found = Slo.drain(invocation.getId());
+        if (found.isEmpty()) {
+            return;
+        }
+        List<LatencyBreach> failing = new ArrayList<>();
+        for (LatencyBreach breach : found) {
+            Reporter.log(String.format("[slo] %s %s", invocation.getId(), breach));
+            record(invocation, breach);
+            if (breach.getLevel() == LatencyBreach.Level.FAIL) {
+                failing.add(breach);
+            }
+        }
+        // Functional failures keep their own error; latency only fails tests that otherwise passed
+        if (!failing.isEmpty() && result.getStatus() == ITestResult.SUCCESS && SloMode.current() == SloMode.ENFORCE) {
+            result.setStatus(ITestResult.FAILURE);
+            result.setThrowable(new LatencyBudgetExceeded(failing));
+        }
+    }
+
+    @Override
+    public synchronized void onFinish(ISuite suite) {
+        if (breaches.isEmpty()) {
+            return;
+        }
+        long failing = breaches.stream().filter(breach -> "FAIL".equals(breach.get("level"))).count();
+        String summary = String.format("[slo] %d latency breach(es): %d over fail threshold, %d over warn threshold (mode %s)",
+            breaches.size(), failing, breaches.size() - failing, SloMode.current());
+        LOG.warn(summary);
+        Reporter.log(summary);
+        Path file = REPORT_DIR.resolve("breaches.json");
+        try {
+            Files.createDirectories(REPORT_DIR);
+            Files.writeString(file, new Json().toJson(breaches), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            LOG.warn("Could not write {}", file, e);
+        }
+    }
+
+    // Helper methods
+
+    private synchronized void record(TestInvocation invocation, LatencyBreach breach) {
+        Map<String, Object> entry = new LinkedHashMap<>();
+        entry.put("invocationId", invocation.getId());
+        entry.put("test", invocation.getTestName());
+        entry.put("dataRow", invocation.getDataRow());
+        entry.put("step", breach.getStep());
+        entry.put("user", breach.getUser());
+        entry.put("elapsedMs", breach.getElapsedMs());
+        entry.put("warnMs", breach.getBudget().getWarnMs());
+        entry.put("failMs", breach.getBudget().getFailMs());
+        entry.put("level", breach.getLevel().name());
+        breaches.add(entry);
+    }
+}
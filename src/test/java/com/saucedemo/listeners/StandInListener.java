@@ -0,0 +1,19 @@
+package com.saucedemo.listeners;
+
+import com.saucedemo.session.WebConfig;
+import com.saucedemo.standin.StandInServer;
+import org.testng.ISuite;
+import org.testng.ISuiteListener;
+
+/**
+ * Starts the local SauceDemo stand-in when the suite's config points base_url at localhost
+ * Must run before {@link SiteHealthListener} so the pre-suite probe finds the stand-in up
+ */
+public class StandInListener implements ISuiteListener {
+
+    @Override
+    public void onStart(ISuite suite) {
+        String configKey = suite.getParameter("configKey");
+        StandInServer.startIfLocal(WebConfig.forKey(configKey != null ? configKey : "test_web").getBaseUrl());
+    }
+}
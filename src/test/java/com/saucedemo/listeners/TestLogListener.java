@@ -0,0 +1,69 @@
+package com.saucedemo.listeners;
+
+import com.saucedemo.logging.TestLogBuffer;
+import com.saucedemo.trace.TestInvocation;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import org.testng.ITestListener;
+import org.testng.ITestResult;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+/**
+ * Tags each test's log lines with its invocation id so {@link TestLogBuffer} can hold them in memory
+ * Failed and retried tests get their lines written to logs/tests/&lt;invocation-id&gt;.log;
+ * every test leaves a one-line summary in the main log
+ */
+public class TestLogListener implements ITestListener {
+
+    private static final Logger LOG = LogManager.getLogger(TestLogListener.class);
+    private static final Path LOG_DIR = Paths.get(System.getProperty("test.log.dir", "logs/tests"));
+
+    @Override
+    public void onTestStart(ITestResult result) {
+        ThreadContext.put(TestLogBuffer.TEST_ID, TestInvocation.start(result).getId());
+    }
+
+    @Override
+    public void onTestSuccess(ITestResult result) {
+        finish(result, "PASSED", false);
+    }
+
+    @Override
+    public void onTestFailure(ITestResult result) {
+        finish(result, "FAILED", true);
+    }
+
+    @Override
+    public void onTestSkipped(ITestResult result) {
+        finish(result, result.wasRetried() ? "RETRIED" : "SKIPPED", result.wasRetried());
+    }
+
+    // Helper methods
+
+    private static void finish(ITestResult result, String status, boolean keep) {
+        TestInvocation invocation = TestInvocation.finish(result);
+        String testId = invocation.getId();
+        // Lines logged from here on are no longer part of the test's buffer
+        ThreadContext.remove(TestLogBuffer.TEST_ID);
+        long millis = result.getEndMillis() - result.getStartMillis();
+        if (!keep) {
+            TestLogBuffer.discard(testId);
+            LOG.info("{} {} {} ({} ms)", status, testId, invocation.getDataRow(), millis);
+            return;
+        }
+        Path file = LOG_DIR.resolve(testId + ".log");
+        try {
+            Files.createDirectories(LOG_DIR);
+            Files.writeString(file, TestLogBuffer.drain(testId), StandardCharsets.UTF_8);
+            LOG.info("{} {} {} ({} ms), log: {}", status, testId, invocation.getDataRow(), millis, file);
+        } catch (IOException e) {
+            LOG.warn("{} {} {} ({} ms), could not write {}", status, testId, invocation.getDataRow(), millis, file, e);
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.saucedemo.load;
+
+import com.saucedemo.actions.CartPageActions;
+import com.saucedemo.actions.CheckoutPageActions;
+import com.saucedemo.actions.ConfirmationPageActions;
+import com.saucedemo.actions.InventoryPageActions;
+import com.saucedemo.actions.LoginPageActions;
+import com.saucedemo.actions.Waits;
+import com.saucedemo.pages.LoginPage;
+import com.saucedemo.session.SessionManager;
+
+import java.util.function.Supplier;
+
+/**
+ * One virtual user's pass through the site: login, add the backpack, cart, checkout, confirmation
+ * Built from the same action classes as the functional tests; each step's latency goes to {@link LoadMetrics}
+ */
+public class CheckoutJourney {
+
+    private static final String PASSWORD = "secret_sauce";
+
+    private final LoadMetrics metrics;
+    private final String configKey;
+    private final String persona;
+
+    public CheckoutJourney(LoadMetrics metrics, String configKey, String persona) {
+        this.metrics = metrics;
+        this.configKey = configKey;
+        this.persona = persona;
+    }
+
+    /**
+     * Run the journey once in a fresh session; a failed step ends the iteration
+     * @return true if every step succeeded
+     */
+    public boolean run() {
+        long start = System.nanoTime();
+        boolean completed = false;
+        try {
+            step("openSession", () -> {
+                SessionManager.createSession(configKey);
+                Waits.forPage(new LoginPage().READY);
+                return null;
+            });
+            InventoryPageActions inventory = step("login", () ->
+                new LoginPageActions(new LoginPage()).login(persona, PASSWORD).verifyPageLoaded());
+            CartPageActions cart = step("addToCart", () -> inventory.addBackpackToCart().goToCart());
+            CheckoutPageActions checkout = step("cart", () -> cart.verifyCartItemPresent().proceedToCheckout());
+            ConfirmationPageActions confirmation = step("checkout", () ->
+                checkout.completeCheckout("Load", "User", "12345"));
+            step("confirmation", confirmation::verifyOrderComplete);
+            completed = true;
+        } catch (RuntimeException | AssertionError e) {
+            // Already counted against the failing step
+        } finally {
+            try {
+                step("closeSession", () -> {
+                    SessionManager.clearSession();
+                    return null;
+                });
+            } catch (RuntimeException | AssertionError ignored) {
+                // Counted as a closeSession error; the next iteration opens a new session anyway
+            }
+            metrics.recordJourney(start, System.nanoTime() - start, completed);
+        }
+        return completed;
+    }
+
+    // Helper methods
+
+    private <T> T step(String name, Supplier<T> body) {
+        long start = System.nanoTime();
+        try {
+            T value = body.get();
+            metrics.recordStep(name, start, System.nanoTime() - start, null);
+            return value;
+        } catch (RuntimeException | AssertionError e) {
+            metrics.recordStep(name, start, System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,246 @@
+package com.saucedemo.load;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Step latencies, journey outcomes and errors of a load run, bucketed into fixed time windows
+ * Samples are filed by completion time, so each window shows what finished during it.
+ * Reports throughput, error rate and p50/p90/p95/p99 per step, per window and for the whole run.
+ */
+public class LoadMetrics {
+
+    private static final double[] PERCENTILES = {50, 90, 95, 99};
+
+    private final long startNanos = System.nanoTime();
+    private final long windowNanos;
+    private final Map<Long, Window> windows = new TreeMap<>();
+    private final Window total = new Window();
+
+    public LoadMetrics(long windowSeconds) {
+        this.windowNanos = TimeUnit.SECONDS.toNanos(windowSeconds);
+    }
+
+    /**
+     * Record one step of a journey
+     * @param step the step name
+     * @param start System.nanoTime() when the step began
+     * @param nanos how long it took
+     * @param error the failure, or null if the step succeeded
+     */
+    public synchronized void recordStep(String step, long start, long nanos, Throwable error) {
+        String errorType = error == null ? null : error.getClass().getSimpleName();
+        window(start + nanos).step(step).add(nanos, errorType);
+        total.step(step).add(nanos, errorType);
+    }
+
+    /**
+     * Record a whole journey
+     * @param start System.nanoTime() when the journey began
+     * @param nanos how long it took
+     * @param completed true if every step succeeded
+     */
+    public synchronized void recordJourney(long start, long nanos, boolean completed) {
+        window(start + nanos).journey(nanos, completed);
+        total.journey(nanos, completed);
+    }
+
+    public synchronized long getJourneys() {
+        return total.journeys;
+    }
+
+    public synchronized long getFailedJourneys() {
+        return total.failedJourneys;
+    }
+
+    /**
+     * Latencies of every step's successful runs over the whole run, in recording order
+     * @return step name to latencies in milliseconds
+     */
+    public synchronized Map<String, double[]> stepMillis() {
+        Map<String, double[]> millis = new LinkedHashMap<>();
+        total.steps.forEach((name, stats) ->
+            millis.put(name, stats.succeeded.stream().mapToDouble(LoadMetrics::millis).toArray()));
+        return millis;
+    }
+
+    /**
+     * Failed runs of every step over the whole run
+     * @return step name to error count
+     */
+    public synchronized Map<String, Integer> stepErrors() {
+        Map<String, Integer> errors = new LinkedHashMap<>();
+        total.steps.forEach((name, stats) -> errors.put(name, stats.errors));
+        return errors;
+    }
+
+    /**
+     * Build the report: run totals plus one entry per time window
+     * @param profile the profile that produced these numbers
+     * @return report as nested maps, ready for JSON
+     */
+    public synchronized Map<String, Object> report(LoadProfile profile) {
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+        List<Map<String, Object>> timeline = new ArrayList<>();
+        windows.forEach((index, window) -> {
+            double from = index * windowNanos / 1e9;
+            double length = Math.min(windowNanos / 1e9, elapsedSeconds - from);
+            Map<String, Object> entry = window.toMap(length);
+            entry.put("fromSeconds", from);
+            timeline.add(entry);
+        });
+
+        Map<String, Object> report = new LinkedHashMap<>();
+        report.put("profile", Map.of(
+            "users", profile.getUsers(),
+            "rampUpSeconds", profile.getRampUpSeconds(),
+            "ratePerSecond", profile.getRatePerSecond(),
+            "durationSeconds", profile.getDurationSeconds(),
+            "windowSeconds", profile.getWindowSeconds(),
+            "persona", profile.getPersona(),
+            "configKey", profile.getConfigKey()));
+        report.put("elapsedSeconds", elapsedSeconds);
+        report.put("total", total.toMap(elapsedSeconds));
+        report.put("windows", timeline);
+        return report;
+    }
+
+    /**
+     * Write the report as JSON
+     * @param profile the profile that produced these numbers
+     * @param file where to write it
+     * @throws IOException if the file cannot be written
+     */
+    public void write(LoadProfile profile, Path file) throws IOException {
+        Files.createDirectories(file.toAbsolutePath().getParent());
+        Files.writeString(file, new Json().toJson(report(profile)), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Plain-text table of the run totals per step, for the console and the TestNG report
+     * @return the table
+     */
+    public synchronized String summary() {
+        double elapsedSeconds = (System.nanoTime() - startNanos) / 1e9;
+        StringBuilder out = new StringBuilder(String.format(
+            "%d journeys (%d failed) in %.1f s, %.2f journeys/s, error rate %.1f%%%n",
+            total.journeys, total.failedJourneys, elapsedSeconds, total.journeys / elapsedSeconds,
+            100.0 * total.errorRate()));
+        out.append(String.format("%-14s %7s %7s %9s %9s %9s %9s%n", "step", "count", "errors", "p50 ms", "p90 ms", "p95 ms", "p99 ms"));
+        total.steps.forEach((name, stats) -> {
+            double[] values = stats.percentiles();
+            out.append(String.format("%-14s %7d %7d %9.1f %9.1f %9.1f %9.1f%n",
+                name, stats.latencies.size(), stats.errors, values[0], values[1], values[2], values[3]));
+        });
+        return out.toString();
+    }
+
+    // Helper methods
+
+    private Window window(long nanoTime) {
+        long index = Math.max(0, (nanoTime - startNanos) / windowNanos);
+        return windows.computeIfAbsent(index, key -> new Window());
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1e6;
+    }
+
+    private static final class Window {
+
+        private final Map<String, StepStats> steps = new LinkedHashMap<>();
+        private final StepStats journey = new StepStats();
+        private long journeys;
+        private long failedJourneys;
+
+        StepStats step(String name) {
+            return steps.computeIfAbsent(name, key -> new StepStats());
+        }
+
+        void journey(long nanos, boolean completed) {
+            journeys++;
+            if (completed) {
+                journey.add(nanos, null);
+            } else {
+                failedJourneys++;
+            }
+        }
+
+        double errorRate() {
+            return journeys == 0 ? 0 : (double) failedJourneys / journeys;
+        }
+
+        Map<String, Object> toMap(double seconds) {
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("journeys", journeys);
+            map.put("failedJourneys", failedJourneys);
+            map.put("throughputPerSecond", seconds > 0 ? journeys / seconds : 0);
+            map.put("errorRate", errorRate());
+            map.put("journeyLatencyMs", journey.toMap());
+            Map<String, Object> stepMaps = new LinkedHashMap<>();
+            steps.forEach((name, stats) -> stepMaps.put(name, stats.toMap()));
+            map.put("steps", stepMaps);
+            return map;
+        }
+    }
+
+    private static final class StepStats {
+
+        private final List<Long> latencies = new ArrayList<>();
+        private final List<Long> succeeded = new ArrayList<>();
+        private final Map<String, Integer> errorTypes = new TreeMap<>();
+        private int errors;
+
+        void add(long nanos, String errorType) {
+            latencies.add(nanos);
+            if (errorType != null) {
+                errors++;
+                errorTypes.merge(errorType, 1, Integer::sum);
+            } else {
+                succeeded.add(nanos);
+            }
+        }
+
+        /**
+         * Nearest-rank percentiles in milliseconds, in the order of PERCENTILES
+         */
+        double[] percentiles() {
+            double[] values = new double[PERCENTILES.length];
+            if (latencies.isEmpty()) {
+                return values;
+            }
+            List<Long> sorted = new ArrayList<>(latencies);
+            Collections.sort(sorted);
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                int rank = (int) Math.ceil(PERCENTILES[i] / 100.0 * sorted.size());
+                values[i] = millis(sorted.get(Math.max(0, rank - 1)));
+            }
+            return values;
+        }
+
+        Map<String, Object> toMap() {
+            double[] values = percentiles();
+            Map<String, Object> map = new LinkedHashMap<>();
+            map.put("count", latencies.size());
+            map.put("errors", errors);
+            for (int i = 0; i < PERCENTILES.length; i++) {
+                map.put("p" + (int) PERCENTILES[i], values[i]);
+            }
+            if (!errorTypes.isEmpty()) {
+                map.put("errorTypes", errorTypes);
+            }
+            return map;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.saucedemo.load;
+
+/**
+ * Shape of a load run, read from system properties
+ * -Dload.users, -Dload.rampUp.s, -Dload.rate (journeys/s across all users, 0 = as fast as possible),
+ * -Dload.duration.s, -Dload.window.s, -Dload.user (persona), -Dload.config (web config key)
+ */
+public final class LoadProfile {
+
+    private final int users;
+    private final long rampUpSeconds;
+    private final double ratePerSecond;
+    private final long durationSeconds;
+    private final long windowSeconds;
+    private final String persona;
+    private final String configKey;
+
+    private LoadProfile(int users, long rampUpSeconds, double ratePerSecond, long durationSeconds,
+                        long windowSeconds, String persona, String configKey) {
+        this.users = users;
+        this.rampUpSeconds = rampUpSeconds;
+        this.ratePerSecond = ratePerSecond;
+        this.durationSeconds = durationSeconds;
+        this.windowSeconds = windowSeconds;
+        this.persona = persona;
+        this.configKey = configKey;
+    }
+
+    /**
+     * Build the profile from system properties, falling back to a small smoke-sized run
+     * @return LoadProfile
+     */
+    public static LoadProfile fromSystemProperties() {
+        int users = Integer.getInteger("load.users", 4);
+        if (users < 1) {
+            throw new IllegalArgumentException("load.users must be at least 1, got " + users);
+        }
+        return new LoadProfile(
+            users,
+            Long.getLong("load.rampUp.s", 10),
+            Double.parseDouble(System.getProperty("load.rate", "0")),
+            Long.getLong("load.duration.s", 60),
+            Math.max(1, Long.getLong("load.window.s", 10)),
+            System.getProperty("load.user", "standard_user"),
+            System.getProperty("load.config", "load_web"));
+    }
+
+    public int getUsers() {
+        return users;
+    }
+
+    public long getRampUpSeconds() {
+        return rampUpSeconds;
+    }
+
+    public double getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public long getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public long getWindowSeconds() {
+        return windowSeconds;
+    }
+
+    public String getPersona() {
+        return persona;
+    }
+
+    public String getConfigKey() {
+        return configKey;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d user(s), ramp-up %d s, rate %s, duration %d s, persona %s, config %s",
+            users, rampUpSeconds, ratePerSecond > 0 ? ratePerSecond + "/s" : "unthrottled",
+            durationSeconds, persona, configKey);
+    }
+}
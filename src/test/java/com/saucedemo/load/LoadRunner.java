@@ -0,0 +1,102 @@
+package com.saucedemo.load;
+
+import com.saucedemo.concurrent.StepScope;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.TimeoutException;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Drives {@link CheckoutJourney} with N virtual users, each on its own virtual thread and browser session
+ * Users start evenly spread over the ramp-up; with a target rate they share one pacer,
+ * so journeys start at that rate across all users instead of back to back.
+ * Users still busy -Dload.grace.s (default 120) after the duration are cancelled.
+ */
+public class LoadRunner {
+
+    private static final Logger LOG = LogManager.getLogger(LoadRunner.class);
+
+    private final LoadProfile profile;
+    private final LoadMetrics metrics;
+    private final AtomicLong nextStart = new AtomicLong();
+
+    public LoadRunner(LoadProfile profile) {
+        this.profile = profile;
+        this.metrics = new LoadMetrics(profile.getWindowSeconds());
+    }
+
+    /**
+     * Run the load for the profile's duration and wait for the users to finish their last journey
+     * @return the collected metrics
+     */
+    public LoadMetrics run() {
+        LOG.info("Load run: {}", profile);
+        long start = System.nanoTime();
+        long deadline = start + TimeUnit.SECONDS.toNanos(profile.getDurationSeconds());
+        long rampStep = TimeUnit.SECONDS.toNanos(profile.getRampUpSeconds()) / profile.getUsers();
+        nextStart.set(start);
+
+        Duration limit = Duration.ofSeconds(profile.getDurationSeconds() + Long.getLong("load.grace.s", 120));
+        try (StepScope users = StepScope.open("vu", limit)) {
+            for (int i = 0; i < profile.getUsers(); i++) {
+                long startAt = start + i * rampStep;
+                users.fork("vu-" + (i + 1), () -> {
+                    virtualUser(startAt, deadline);
+                    return null;
+                });
+            }
+            users.join();
+        } catch (TimeoutException e) {
+            LOG.warn("Virtual users did not finish in time: {}", e.getMessage());
+        }
+        LOG.info("Load run finished:{}{}", System.lineSeparator(), metrics.summary());
+        return metrics;
+    }
+
+    // Helper methods
+
+    private void virtualUser(long startAt, long deadline) {
+        CheckoutJourney journey = new CheckoutJourney(metrics, profile.getConfigKey(), profile.getPersona());
+        sleepUntil(startAt);
+        while (System.nanoTime() < deadline && !Thread.currentThread().isInterrupted()) {
+            if (!pace(deadline)) {
+                return;
+            }
+            journey.run();
+        }
+    }
+
+    /**
+     * Claim the next start slot of the shared pacer and wait for it
+     * @return false if the slot falls after the deadline
+     */
+    private boolean pace(long deadline) {
+        if (profile.getRatePerSecond() <= 0) {
+            return true;
+        }
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / profile.getRatePerSecond());
+        long now = System.nanoTime();
+        // A slot in the past means the users fell behind; start now rather than bursting to catch up
+        long slot = nextStart.getAndAccumulate(now, (previous, current) -> Math.max(previous, current) + interval);
+        slot = Math.max(slot, now);
+        if (slot >= deadline) {
+            return false;
+        }
+        sleepUntil(slot);
+        return true;
+    }
+
+    private static void sleepUntil(long nanoTime) {
+        long remaining = nanoTime - System.nanoTime();
+        if (remaining > 0) {
+            try {
+                TimeUnit.NANOSECONDS.sleep(remaining);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
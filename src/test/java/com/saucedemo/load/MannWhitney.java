@@ -0,0 +1,119 @@
+package com.saucedemo.load;
+
+import java.util.Arrays;
+
+/**
+ * Two-sided Mann-Whitney U test of one latency sample against another
+ * Rank based, so it makes no normality assumption and long tails don't swamp it. The p-value uses the
+ * normal approximation with tie and continuity correction, which is sound from about 8 samples a side.
+ * Cliff's delta gives the effect size: the chance that a sample is slower than a baseline sample,
+ * minus the chance that it is faster (-1 to 1).
+ */
+public final class MannWhitney {
+
+    private final double u;
+    private final double z;
+    private final double pValue;
+    private final double cliffsDelta;
+
+    private MannWhitney(double u, double z, double pValue, double cliffsDelta) {
+        this.u = u;
+        this.z = z;
+        this.pValue = pValue;
+        this.cliffsDelta = cliffsDelta;
+    }
+
+    /**
+     * Compare a sample with a baseline
+     * @param baseline baseline latencies
+     * @param sample latencies to compare
+     * @return the test result; a sample side with no values gives p = 1 and delta = 0
+     */
+    public static MannWhitney test(double[] baseline, double[] sample) {
+        int n1 = baseline.length;
+        int n2 = sample.length;
+        if (n1 == 0 || n2 == 0) {
+            return new MannWhitney(0, 0, 1, 0);
+        }
+        int n = n1 + n2;
+        double[][] pooled = new double[n][];
+        for (int i = 0; i < n1; i++) {
+            pooled[i] = new double[] {baseline[i], 0};
+        }
+        for (int i = 0; i < n2; i++) {
+            pooled[n1 + i] = new double[] {sample[i], 1};
+        }
+        Arrays.sort(pooled, (a, b) -> Double.compare(a[0], b[0]));
+
+        // Average ranks over ties, and collect the tie correction on the way
+        double sampleRanks = 0;
+        double ties = 0;
+        for (int i = 0; i < n; ) {
+            int j = i;
+            while (j + 1 < n && pooled[j + 1][0] == pooled[i][0]) {
+                j++;
+            }
+            double rank = (i + j + 2) / 2.0;
+            for (int k = i; k <= j; k++) {
+                if (pooled[k][1] == 1) {
+                    sampleRanks += rank;
+                }
+            }
+            double t = j - i + 1;
+            ties += t * t * t - t;
+            i = j + 1;
+        }
+        double u = sampleRanks - n2 * (n2 + 1) / 2.0;
+        double mean = n1 * (double) n2 / 2;
+        double variance = n1 * (double) n2 / 12 * ((n + 1) - ties / ((double) n * (n - 1)));
+        double delta = 2 * u / ((double) n1 * n2) - 1;
+        if (variance <= 0) {
+            // Every value identical: nothing to tell apart
+            return new MannWhitney(u, 0, 1, delta);
+        }
+        double difference = u - mean;
+        double z = (difference - Math.signum(difference) * 0.5) / Math.sqrt(variance);
+        double p = Math.min(1, 2 * (1 - normalCdf(Math.abs(z))));
+        return new MannWhitney(u, z, p, delta);
+    }
+
+    /**
+     * U statistic of the sample: pairs in which the sample value is the larger, ties counting half
+     */
+    public double getU() {
+        return u;
+    }
+
+    public double getZ() {
+        return z;
+    }
+
+    /**
+     * Two-sided p-value, before any correction for multiple comparisons
+     */
+    public double getPValue() {
+        return pValue;
+    }
+
+    /**
+     * Cliff's delta: positive when the sample tends to be slower than the baseline
+     */
+    public double getCliffsDelta() {
+        return cliffsDelta;
+    }
+
+    // Helper methods
+
+    private static double normalCdf(double x) {
+        return 0.5 * (1 + erf(x / Math.sqrt(2)));
+    }
+
+    // Abramowitz and Stegun 7.1.26, accurate to about 1.5e-7
+    private static double erf(double x) {
+        double sign = Math.signum(x);
+        double a = Math.abs(x);
+        double t = 1 / (1 + 0.3275911 * a);
+        double poly = t * (0.254829592 + t * (-0.284496736 + t * (1.421413741 + t * (-1.453152027 + t * 1.061405429))));
+        return sign * (1 - poly * Math.exp(-a * a));
+    }
+}
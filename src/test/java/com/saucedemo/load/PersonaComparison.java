@@ -0,0 +1,96 @@
+package com.saucedemo.load;
+
+import com.saucedemo.concurrent.StepScope;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.TimeoutException;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Runs {@link CheckoutJourney} for every persona at the same time, many times each, and compares their step latencies
+ * Personas run side by side so they share whatever load the site and machine are under; each gets
+ * -Dpersonas.users (default 1) virtual users doing -Dpersonas.repetitions (default 20) journeys between them,
+ * after -Dpersonas.warmup (default 1) unrecorded journeys per user. The first persona in -Dpersonas.list is the baseline.
+ */
+public class PersonaComparison {
+
+    private static final Logger LOG = LogManager.getLogger(PersonaComparison.class);
+    private static final String DEFAULT_PERSONAS = "standard_user,problem_user,performance_glitch_user,error_user,visual_user";
+
+    private final List<String> personas;
+    private final String configKey;
+    private final int users;
+    private final int repetitions;
+    private final int warmup;
+    private final Map<String, LoadMetrics> metrics = new LinkedHashMap<>();
+
+    public PersonaComparison(List<String> personas, String configKey, int users, int repetitions, int warmup) {
+        if (personas.size() < 2) {
+            throw new IllegalArgumentException("Need a baseline and at least one persona to compare, got " + personas);
+        }
+        this.personas = List.copyOf(personas);
+        this.configKey = configKey;
+        this.users = Math.max(1, users);
+        this.repetitions = Math.max(1, repetitions);
+        this.warmup = Math.max(0, warmup);
+    }
+
+    /**
+     * Build the comparison from system properties
+     * -Dpersonas.list, -Dpersonas.config (default load_web), -Dpersonas.users, -Dpersonas.repetitions, -Dpersonas.warmup
+     * @return PersonaComparison
+     */
+    public static PersonaComparison fromSystemProperties() {
+        return new PersonaComparison(
+            Arrays.stream(System.getProperty("personas.list", DEFAULT_PERSONAS).split(","))
+                .map(String::trim).filter(name -> !name.isEmpty()).toList(),
+            System.getProperty("personas.config", "load_web"),
+            Integer.getInteger("personas.users", 1),
+            Integer.getInteger("personas.repetitions", 20),
+            Integer.getInteger("personas.warmup", 1));
+    }
+
+    /**
+     * Run every persona's journeys and wait for all of them
+     * Gives up after -Dpersonas.timeout.min (default 30), comparing what was measured so far.
+     * @return the comparison of each persona against the baseline
+     */
+    public PersonaReport run() {
+        LOG.info("Persona comparison: {} x {} journey(s) on {} user(s) each, baseline {}",
+            personas, repetitions, users, personas.get(0));
+        personas.forEach(persona -> metrics.put(persona, new LoadMetrics(Long.getLong("load.window.s", 10))));
+        LoadMetrics discarded = new LoadMetrics(Long.getLong("load.window.s", 10));
+
+        Duration limit = Duration.ofMinutes(Long.getLong("personas.timeout.min", 30));
+        try (StepScope scope = StepScope.open("persona", limit)) {
+            for (String persona : personas) {
+                for (int user = 0; user < users; user++) {
+                    // Spread the repetitions over the users, the first ones taking the remainder
+                    int share = repetitions / users + (user < repetitions % users ? 1 : 0);
+                    scope.fork(persona + "-" + (user + 1), () -> {
+                        CheckoutJourney warm = new CheckoutJourney(discarded, configKey, persona);
+                        for (int i = 0; i < warmup && !Thread.currentThread().isInterrupted(); i++) {
+                            warm.run();
+                        }
+                        CheckoutJourney journey = new CheckoutJourney(metrics.get(persona), configKey, persona);
+                        for (int i = 0; i < share && !Thread.currentThread().isInterrupted(); i++) {
+                            journey.run();
+                        }
+                        return null;
+                    });
+                }
+            }
+            scope.join();
+        } catch (TimeoutException e) {
+            LOG.warn("Persona journeys did not finish in time, comparing what was measured: {}", e.getMessage());
+        }
+        PersonaReport report = new PersonaReport(personas.get(0), metrics);
+        LOG.info("Persona comparison finished:{}{}", System.lineSeparator(), report.table());
+        return report;
+    }
+}
@@ -0,0 +1,256 @@
+package com.saucedemo.load;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Step latencies of every persona set against the baseline persona's
+ * Each step of each persona gets a {@link MannWhitney} test against the baseline's same step. The p-values are
+ * Holm-adjusted over all comparisons in the report, so a long table does not produce chance findings.
+ * A difference counts at -Dpersonas.alpha (default 0.05), and only when both sides have at least
+ * -Dpersonas.minSamples (default 8) successful runs of the step.
+ */
+public class PersonaReport {
+
+    private static final double ALPHA = Double.parseDouble(System.getProperty("personas.alpha", "0.05"));
+    private static final int MIN_SAMPLES = Integer.getInteger("personas.minSamples", 8);
+
+    private final String baseline;
+    private final Map<String, LoadMetrics> metrics;
+    private final List<Comparison> comparisons = new ArrayList<>();
+
+    PersonaReport(String baseline, Map<String, LoadMetrics> metrics) {
+        this.baseline = baseline;
+        this.metrics = metrics;
+        compare();
+    }
+
+    /**
+     * One persona's step against the baseline's
+     */
+    public static final class Comparison {
+        private final String step;
+        private final String persona;
+        private final double[] baselineMillis;
+        private final double[] personaMillis;
+        private final int errors;
+        private final MannWhitney test;
+        private double adjustedP = 1;
+
+        private Comparison(String step, String persona, double[] baselineMillis, double[] personaMillis, int errors) {
+            this.step = step;
+            this.persona = persona;
+            this.baselineMillis = baselineMillis;
+            this.personaMillis = personaMillis;
+            this.errors = errors;
+            this.test = MannWhitney.test(baselineMillis, personaMillis);
+        }
+
+        public String getStep() {
+            return step;
+        }
+
+        public String getPersona() {
+            return persona;
+        }
+
+        public double getAdjustedP() {
+            return adjustedP;
+        }
+
+        boolean testable() {
+            return baselineMillis.length >= MIN_SAMPLES && personaMillis.length >= MIN_SAMPLES;
+        }
+
+        /**
+         * SLOWER, FASTER, SAME, or NOT_ENOUGH_DATA when either side has too few successful runs
+         */
+        public String getVerdict() {
+            if (!testable()) {
+                return "NOT_ENOUGH_DATA";
+            }
+            if (adjustedP >= ALPHA) {
+                return "SAME";
+            }
+            return test.getCliffsDelta() > 0 ? "SLOWER" : "FASTER";
+        }
+
+        /**
+         * Persona median over baseline median
+         */
+        public double medianRatio() {
+            double base = percentile(baselineMillis, 50);
+            return base <= 0 ? Double.NaN : percentile(personaMillis, 50) / base;
+        }
+    }
+
+    public List<Comparison> getComparisons() {
+        return comparisons;
+    }
+
+    /**
+     * Comparisons in which the persona is significantly slower than the baseline
+     */
+    public List<Comparison> slower() {
+        return comparisons.stream().filter(comparison -> "SLOWER".equals(comparison.getVerdict())).toList();
+    }
+
+    /**
+     * Journeys the baseline finished without error
+     */
+    public long baselineJourneys() {
+        LoadMetrics base = metrics.get(baseline);
+        return base.getJourneys() - base.getFailedJourneys();
+    }
+
+    /**
+     * Plain-text table for the log and the TestNG report: one line per persona and step
+     * @return the table
+     */
+    public String table() {
+        StringBuilder out = new StringBuilder(String.format("baseline %s, Mann-Whitney U, Holm-adjusted, alpha %.2f%n", baseline, ALPHA));
+        out.append(String.format("%-24s %-14s %5s %6s %9s %9s %9s %7s %7s %9s  %s%n",
+            "persona", "step", "n", "errors", "p50 ms", "p95 ms", "base p50", "x base", "delta", "p adj", "verdict"));
+        for (Comparison c : comparisons) {
+            out.append(String.format("%-24s %-14s %5d %6d %9.1f %9.1f %9.1f %7s %7.2f %9s  %s%n",
+                c.persona, c.step, c.personaMillis.length, c.errors, percentile(c.personaMillis, 50),
+                percentile(c.personaMillis, 95), percentile(c.baselineMillis, 50), ratio(c),
+                c.test.getCliffsDelta(), pValue(c.adjustedP), c.getVerdict()));
+        }
+        return out.toString();
+    }
+
+    /**
+     * Write comparison.json and comparison.md (a Markdown table, e.g. for a CI job summary)
+     * @param dir output folder
+     * @throws IOException if a file cannot be written
+     */
+    public void write(Path dir) throws IOException {
+        Files.createDirectories(dir);
+        Files.writeString(dir.resolve("comparison.json"), new Json().toJson(toJson()), StandardCharsets.UTF_8);
+        Files.writeString(dir.resolve("comparison.md"), toMarkdown(), StandardCharsets.UTF_8);
+    }
+
+    // Helper methods
+
+    private void compare() {
+        LoadMetrics base = metrics.get(baseline);
+        Map<String, double[]> baseMillis = base.stepMillis();
+        for (Map.Entry<String, LoadMetrics> entry : metrics.entrySet()) {
+            if (entry.getKey().equals(baseline)) {
+                continue;
+            }
+            Map<String, double[]> personaMillis = entry.getValue().stepMillis();
+            Map<String, Integer> errors = entry.getValue().stepErrors();
+            // Journey order: the baseline's steps first, then any only the persona reached
+            Set<String> steps = new LinkedHashSet<>(baseMillis.keySet());
+            steps.addAll(personaMillis.keySet());
+            for (String step : steps) {
+                comparisons.add(new Comparison(step, entry.getKey(), baseMillis.getOrDefault(step, new double[0]),
+                    personaMillis.getOrDefault(step, new double[0]), errors.getOrDefault(step, 0)));
+            }
+        }
+        holm();
+    }
+
+    private void holm() {
+        List<Comparison> tested = new ArrayList<>(comparisons.stream().filter(Comparison::testable).toList());
+        tested.sort(Comparator.comparingDouble(c -> c.test.getPValue()));
+        int m = tested.size();
+        double running = 0;
+        for (int i = 0; i < m; i++) {
+            Comparison c = tested.get(i);
+            running = Math.max(running, Math.min(1, (m - i) * c.test.getPValue()));
+            c.adjustedP = running;
+        }
+    }
+
+    private Map<String, Object> toJson() {
+        Map<String, Object> root = new LinkedHashMap<>();
+        root.put("baseline", baseline);
+        root.put("test", "Mann-Whitney U, two-sided, Holm-adjusted");
+        root.put("alpha", ALPHA);
+        root.put("minSamples", MIN_SAMPLES);
+        Map<String, Object> journeys = new LinkedHashMap<>();
+        metrics.forEach((persona, m) -> journeys.put(persona, Map.of("journeys", m.getJourneys(), "failed", m.getFailedJourneys())));
+        root.put("journeys", journeys);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        for (Comparison c : comparisons) {
+            Map<String, Object> row = new LinkedHashMap<>();
+            row.put("persona", c.persona);
+            row.put("step", c.step);
+            row.put("n", c.personaMillis.length);
+            row.put("baselineN", c.baselineMillis.length);
+            row.put("errors", c.errors);
+            row.put("p50Ms", round(percentile(c.personaMillis, 50)));
+            row.put("p95Ms", round(percentile(c.personaMillis, 95)));
+            row.put("baselineP50Ms", round(percentile(c.baselineMillis, 50)));
+            row.put("baselineP95Ms", round(percentile(c.baselineMillis, 95)));
+            row.put("medianRatio", Double.isNaN(c.medianRatio()) ? null : round(c.medianRatio()));
+            row.put("u", c.test.getU());
+            row.put("z", round(c.test.getZ()));
+            row.put("p", c.test.getPValue());
+            row.put("pAdjusted", c.adjustedP);
+            row.put("cliffsDelta", round(c.test.getCliffsDelta()));
+            row.put("verdict", c.getVerdict());
+            rows.add(row);
+        }
+        root.put("comparisons", rows);
+        return root;
+    }
+
+    private String toMarkdown() {
+        StringBuilder md = new StringBuilder("# Persona latency vs ").append(baseline).append("\n\n")
+            .append(String.format("Mann-Whitney U, two-sided, Holm-adjusted over %d tested comparisons, alpha %.2f, ",
+                comparisons.stream().filter(Comparison::testable).count(), ALPHA))
+            .append("at least ").append(MIN_SAMPLES).append(" successful runs a side. ")
+            .append("Delta is Cliff's delta (positive = slower than baseline).\n\n")
+            .append("| Persona | Step | n | Errors | p50 ms | p95 ms | Baseline p50 ms | x baseline | Delta | p (adj) | Verdict |\n")
+            .append("|---|---|---:|---:|---:|---:|---:|---:|---:|---:|---|\n");
+        for (Comparison c : comparisons) {
+            md.append(String.format("| %s | %s | %d | %d | %.1f | %.1f | %.1f | %s | %.2f | %s | %s |%n",
+                c.persona, c.step, c.personaMillis.length, c.errors, percentile(c.personaMillis, 50),
+                percentile(c.personaMillis, 95), percentile(c.baselineMillis, 50), ratio(c),
+                c.test.getCliffsDelta(), pValue(c.adjustedP), "SLOWER".equals(c.getVerdict()) ? "**SLOWER**" : c.getVerdict()));
+        }
+        return md.toString();
+    }
+
+    /**
+     * Nearest-rank percentile, as in {@link LoadMetrics}
+     */
+    private static double percentile(double[] values, double percentile) {
+        if (values.length == 0) {
+            return 0;
+        }
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private static String ratio(Comparison c) {
+        double ratio = c.medianRatio();
+        return Double.isNaN(ratio) || c.personaMillis.length == 0 ? "-" : String.format("%.2fx", ratio);
+    }
+
+    private static String pValue(double p) {
+        return p < 0.001 ? "<0.001" : String.format("%.3f", p);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
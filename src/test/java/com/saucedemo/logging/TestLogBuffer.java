@@ -0,0 +1,122 @@
+package com.saucedemo.logging;
+
+import org.apache.logging.log4j.core.Appender;
+import org.apache.logging.log4j.core.Core;
+import org.apache.logging.log4j.core.Filter;
+import org.apache.logging.log4j.core.LogEvent;
+import org.apache.logging.log4j.core.appender.AbstractAppender;
+import org.apache.logging.log4j.core.config.Configuration;
+import org.apache.logging.log4j.core.config.plugins.Plugin;
+import org.apache.logging.log4j.core.config.plugins.PluginAttribute;
+import org.apache.logging.log4j.core.config.plugins.PluginConfiguration;
+import org.apache.logging.log4j.core.config.plugins.PluginElement;
+import org.apache.logging.log4j.core.config.plugins.PluginFactory;
+import org.apache.logging.log4j.core.layout.PatternLayout;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Log4j2 appender that keeps each test invocation's log lines in memory
+ * Events carrying a "testId" in the ThreadContext are formatted straight into that test's buffer;
+ * all other events go to the appender named by passThrough. {@link com.saucedemo.listeners.TestLogListener}
+ * decides per test whether the buffer is written out or dropped.
+ *
+ * Each buffer is capped (maxChars, default 262144); further lines are counted but not kept.
+ */
+@Plugin(name = "TestLogBuffer", category = Core.CATEGORY_NAME, elementType = Appender.ELEMENT_TYPE)
+public final class TestLogBuffer extends AbstractAppender {
+
+    /** ThreadContext key holding the current test invocation id */
+    public static final String TEST_ID = "testId";
+
+    private static final Map<String, Buffer> BUFFERS = new ConcurrentHashMap<>();
+
+    private final PatternLayout layout;
+    private final Configuration configuration;
+    private final String passThrough;
+    private final int maxChars;
+    private volatile Appender passThroughAppender;
+
+    private TestLogBuffer(String name, Filter filter, PatternLayout layout, Configuration configuration,
+                          String passThrough, int maxChars) {
+        super(name, filter, layout, true, null);
+        this.layout = layout;
+        this.configuration = configuration;
+        this.passThrough = passThrough;
+        this.maxChars = maxChars;
+    }
+
+    @PluginFactory
+    public static TestLogBuffer createAppender(
+        @PluginAttribute("name") String name,
+        @PluginAttribute("passThrough") String passThrough,
+        @PluginAttribute(value = "maxChars", defaultInt = 262144) int maxChars,
+        @PluginElement("Layout") PatternLayout layout,
+        @PluginElement("Filter") Filter filter,
+        @PluginConfiguration Configuration configuration) {
+        PatternLayout effective = layout != null ? layout : PatternLayout.createDefaultLayout(configuration);
+        return new TestLogBuffer(name, filter, effective, configuration, passThrough, maxChars);
+    }
+
+    @Override
+    public void append(LogEvent event) {
+        String testId = event.getContextData().getValue(TEST_ID);
+        if (testId == null) {
+            Appender target = passThroughAppender();
+            if (target != null) {
+                target.append(event);
+            }
+            return;
+        }
+        Buffer buffer = BUFFERS.computeIfAbsent(testId, id -> new Buffer());
+        synchronized (buffer) {
+            if (buffer.text.length() < maxChars) {
+                layout.serialize(event, buffer.text);
+            } else {
+                buffer.truncated++;
+            }
+        }
+    }
+
+    /**
+     * Remove and return everything buffered for a test
+     * @param testId the test invocation id
+     * @return the buffered text, empty if nothing was logged
+     */
+    public static String drain(String testId) {
+        Buffer buffer = BUFFERS.remove(testId);
+        if (buffer == null) {
+            return "";
+        }
+        synchronized (buffer) {
+            if (buffer.truncated > 0) {
+                buffer.text.append("... ").append(buffer.truncated).append(" more line(s) not kept")
+                    .append(System.lineSeparator());
+            }
+            return buffer.text.toString();
+        }
+    }
+
+    /**
+     * Drop everything buffered for a test
+     * @param testId the test invocation id
+     */
+    public static void discard(String testId) {
+        BUFFERS.remove(testId);
+    }
+
+    // Helper methods
+
+    private Appender passThroughAppender() {
+        if (passThroughAppender == null && passThrough != null) {
+            passThroughAppender = configuration.getAppender(passThrough);
+        }
+        return passThroughAppender;
+    }
+
+    private static final class Buffer {
+        private final StringBuilder text = new StringBuilder(1024);
+        private int truncated;
+    }
+}
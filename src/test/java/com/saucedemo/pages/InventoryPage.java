@@ -4,9 +4,29 @@ import io.github.boykaframework.builders.Locator;
 import org.openqa.selenium.By;
 
 public class InventoryPage {
+    public final ReadinessProbe READY = ReadinessProbe.css("Inventory", "#inventory_container .inventory_item");
     public final Locator INVENTORY_CONTAINER = Locator.buildLocator().web(By.id("inventory_container")).name("Inventory Container").build();
-    public final Locator ADD_TO_CART_BACKPACK = Locator.buildLocator().web(By.id("add-to-cart-sauce-labs-backpack")).name("Add Backpack to Cart").build();
-    public final Locator REMOVE_FROM_CART_BACKPACK = Locator.buildLocator().web(By.id("remove-sauce-labs-backpack")).name("Remove Backpack from Cart").build();
+    public final Locator ADD_TO_CART_BACKPACK = addToCart(Product.BACKPACK);
+    public final Locator REMOVE_FROM_CART_BACKPACK = removeFromCart(Product.BACKPACK);
     public final Locator CART_BADGE = Locator.buildLocator().web(By.cssSelector(".shopping_cart_badge")).name("Cart Badge").build();
     public final Locator CART_LINK = Locator.buildLocator().web(By.id("shopping_cart_container")).name("Cart Link").build();
+    public final Locator INVENTORY_LIST = Locator.buildLocator().web(By.cssSelector(".inventory_list")).name("Inventory List").build();
+
+    /**
+     * Add to cart button of any product
+     * @param product the product
+     * @return its locator
+     */
+    public Locator addToCart(Product product) {
+        return Locator.buildLocator().web(By.id(product.addButtonId())).name("Add " + product.getDisplayName() + " to Cart").build();
+    }
+
+    /**
+     * Remove button of any product
+     * @param product the product
+     * @return its locator
+     */
+    public Locator removeFromCart(Product product) {
+        return Locator.buildLocator().web(By.id(product.removeButtonId())).name("Remove " + product.getDisplayName() + " from Cart").build();
+    }
 }
@@ -0,0 +1,74 @@
+package com.saucedemo.pages;
+
+import java.math.BigDecimal;
+
+/**
+ * The SauceDemo catalog: every product with the slug its button ids are built from, its shown name and price
+ */
+public enum Product {
+    BACKPACK(4, "sauce-labs-backpack", "Sauce Labs Backpack", "29.99"),
+    BIKE_LIGHT(0, "sauce-labs-bike-light", "Sauce Labs Bike Light", "9.99"),
+    BOLT_T_SHIRT(1, "sauce-labs-bolt-t-shirt", "Sauce Labs Bolt T-Shirt", "15.99"),
+    FLEECE_JACKET(5, "sauce-labs-fleece-jacket", "Sauce Labs Fleece Jacket", "49.99"),
+    ONESIE(2, "sauce-labs-onesie", "Sauce Labs Onesie", "7.99"),
+    RED_T_SHIRT(3, "test.allthethings()-t-shirt-(red)", "Test.allTheThings() T-Shirt (Red)", "15.99");
+
+    private final int id;
+    private final String slug;
+    private final String displayName;
+    private final BigDecimal price;
+
+    Product(int id, String slug, String displayName, String price) {
+        this.id = id;
+        this.slug = slug;
+        this.displayName = displayName;
+        this.price = new BigDecimal(price);
+    }
+
+    /**
+     * The site's item id, as in inventory-item.html?id=
+     */
+    public int getId() {
+        return id;
+    }
+
+    public String getSlug() {
+        return slug;
+    }
+
+    public String getDisplayName() {
+        return displayName;
+    }
+
+    public BigDecimal getPrice() {
+        return price;
+    }
+
+    /**
+     * Id of the product's Add to cart button on the inventory page
+     */
+    public String addButtonId() {
+        return "add-to-cart-" + slug;
+    }
+
+    /**
+     * Id of the product's Remove button, on the inventory page and in the cart
+     */
+    public String removeButtonId() {
+        return "remove-" + slug;
+    }
+
+    /**
+     * Look a product up by the site's item id
+     * @param id the item id
+     * @return the product
+     */
+    public static Product byId(int id) {
+        for (Product product : values()) {
+            if (product.id == id) {
+                return product;
+            }
+        }
+        throw new IllegalArgumentException("No product with id " + id);
+    }
+}
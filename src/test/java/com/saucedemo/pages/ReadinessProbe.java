@@ -0,0 +1,49 @@
+package com.saucedemo.pages;
+
+/**
+ * Cheap check that a page is usable: a CSS selector that matches once the app has rendered it
+ * Navigation actions await the destination page's probe instead of relying on the browser's load event,
+ * so sessions can run with an eager or none page-load strategy.
+ */
+public final class ReadinessProbe {
+
+    private final String name;
+    private final String selector;
+
+    private ReadinessProbe(String name, String selector) {
+        this.name = name;
+        this.selector = selector;
+    }
+
+    /**
+     * Probe satisfied once an element matches a selector
+     * @param name short name for wait events, e.g. "Inventory"
+     * @param selector the CSS selector; use :not(:empty) for "rendered with content"
+     * @return ReadinessProbe
+     */
+    public static ReadinessProbe css(String name, String selector) {
+        return new ReadinessProbe(name, selector);
+    }
+
+    /**
+     * The same probe, also satisfied by another selector, e.g. an error the page stays on instead of navigating
+     * @param alternative the other CSS selector
+     * @return new ReadinessProbe
+     */
+    public ReadinessProbe orCss(String alternative) {
+        return new ReadinessProbe(name + " or " + alternative, selector + ", " + alternative);
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getSelector() {
+        return selector;
+    }
+
+    @Override
+    public String toString() {
+        return name + " (" + selector + ")";
+    }
+}
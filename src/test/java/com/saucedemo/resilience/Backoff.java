@@ -0,0 +1,41 @@
+package com.saucedemo.resilience;
+
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Exponential backoff with jitter
+ * Half of each delay is fixed and half is random, so parallel threads do not retry in lockstep
+ */
+public class Backoff {
+
+    private final long baseMs;
+    private final long maxMs;
+
+    public Backoff(long baseMs, long maxMs) {
+        this.baseMs = baseMs;
+        this.maxMs = maxMs;
+    }
+
+    /**
+     * Delay before a given retry
+     * @param attempt zero-based retry number
+     * @return delay in milliseconds
+     */
+    public long delayMs(int attempt) {
+        long ceiling = Math.min(maxMs, baseMs << Math.min(attempt, 20));
+        long half = ceiling / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
+    }
+
+    /**
+     * Sleep for the delay of a given retry
+     * @param attempt zero-based retry number
+     */
+    public void pause(int attempt) {
+        try {
+            Thread.sleep(delayMs(attempt));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
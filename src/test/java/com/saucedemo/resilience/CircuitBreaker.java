@@ -0,0 +1,93 @@
+package com.saucedemo.resilience;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Reporter;
+
+/**
+ * Thread-safe circuit breaker shared by all test threads
+ * Opens after a run of consecutive failures and allows a single trial once the cooldown has passed
+ */
+public class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    private static final Logger LOG = LogManager.getLogger(CircuitBreaker.class);
+
+    private final String name;
+    private final int failureThreshold;
+    private final long cooldownMs;
+
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+
+    public CircuitBreaker(String name, int failureThreshold, long cooldownMs) {
+        this.name = name;
+        this.failureThreshold = failureThreshold;
+        this.cooldownMs = cooldownMs;
+    }
+
+    public synchronized State getState() {
+        return state;
+    }
+
+    /**
+     * Move an open breaker to half-open if its cooldown has passed
+     * Only the caller that gets true should run the trial
+     * @return true if the caller now owns the half-open trial
+     */
+    public synchronized boolean tryHalfOpen() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= cooldownMs) {
+            transition(State.HALF_OPEN, "cooldown of " + cooldownMs + " ms elapsed");
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Record a successful call; closes the breaker if it was not closed
+     */
+    public synchronized void recordSuccess() {
+        consecutiveFailures = 0;
+        if (state != State.CLOSED) {
+            transition(State.CLOSED, "target reachable again");
+        }
+    }
+
+    /**
+     * Record a failed call; opens the breaker on a failed trial or once the threshold is reached
+     * @param reason short description of the failure
+     */
+    public synchronized void recordFailure(String reason) {
+        consecutiveFailures++;
+        if (state == State.HALF_OPEN
+            || (state == State.CLOSED && consecutiveFailures >= failureThreshold)) {
+            open(consecutiveFailures + " consecutive failure(s), last: " + reason);
+        }
+    }
+
+    /**
+     * Open the breaker immediately, e.g. when the pre-suite probe fails
+     * @param reason why the breaker was opened
+     */
+    public synchronized void forceOpen(String reason) {
+        if (state != State.OPEN) {
+            open(reason);
+        }
+    }
+
+    // Helper methods
+
+    private void open(String reason) {
+        openedAt = System.currentTimeMillis();
+        transition(State.OPEN, reason);
+    }
+
+    private void transition(State next, String reason) {
+        String line = String.format("[circuit-breaker:%s] %s -> %s (%s)", name, state, next, reason);
+        state = next;
+        LOG.warn(line);
+        Reporter.log(line);
+    }
+}
@@ -0,0 +1,73 @@
+package com.saucedemo.resilience;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.IRetryAnalyzer;
+import org.testng.ITestResult;
+
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Retries a failed test only when its failure is transient
+ * Budgets apply per cause and per data row, with a global cap (-Dretry.max.total, default 10) for the whole run
+ */
+public class ClassifyingRetryAnalyzer implements IRetryAnalyzer {
+
+    /** Result attribute holding the {@link FailureCause} name of a failed attempt */
+    public static final String CAUSE_ATTRIBUTE = "failureCause";
+
+    private static final Logger LOG = LogManager.getLogger(ClassifyingRetryAnalyzer.class);
+    private static final int MAX_TOTAL = Integer.getInteger("retry.max.total", 10);
+    private static final AtomicInteger TOTAL = new AtomicInteger();
+
+    private final Map<String, Map<FailureCause, Integer>> attempts = new ConcurrentHashMap<>();
+
+    @Override
+    public boolean retry(ITestResult result) {
+        FailureCause cause = FailureCause.classify(result.getThrowable());
+        result.setAttribute(CAUSE_ATTRIBUTE, cause.name());
+        if (!cause.isRetryable()) {
+            return false;
+        }
+
+        // Keyed on the row's text, so two rows never share a budget through a hash collision
+        Map<FailureCause, Integer> used = attempts.computeIfAbsent(
+            Arrays.deepToString(result.getParameters()), k -> new EnumMap<>(FailureCause.class));
+        synchronized (used) {
+            int count = used.getOrDefault(cause, 0);
+            if (count >= cause.budget() || !reserveGlobal()) {
+                return false;
+            }
+            used.put(cause, count + 1);
+        }
+        LOG.warn("Retrying {} after {} failure ({} of {})", result.getName(), cause,
+            used.get(cause), cause.budget());
+        return true;
+    }
+
+    /**
+     * Retries used so far in this run
+     * @return the number of retries granted
+     */
+    public static int totalRetries() {
+        return TOTAL.get();
+    }
+
+    // Helper methods
+
+    private static boolean reserveGlobal() {
+        while (true) {
+            int current = TOTAL.get();
+            if (current >= MAX_TOTAL) {
+                return false;
+            }
+            if (TOTAL.compareAndSet(current, current + 1)) {
+                return true;
+            }
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package com.saucedemo.resilience;
+
+import com.saucedemo.slo.LatencyBudgetExceeded;
+import org.openqa.selenium.NoSuchSessionException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
+import org.openqa.selenium.remote.UnreachableBrowserException;
+
+import java.util.Locale;
+
+/**
+ * Why a test failed, and whether running it again could help
+ * Each retryable cause has its own per-invocation budget, tunable with -Dretry.budget.&lt;cause&gt;
+ */
+public enum FailureCause {
+
+    /** Browser, driver or network trouble unrelated to the app's behaviour */
+    INFRASTRUCTURE(true, 2),
+
+    /** Element was re-rendered between lookup and use */
+    STALE_ELEMENT(true, 2),
+
+    /** Something did not appear or load in time */
+    TIMEOUT(true, 1),
+
+    /** A real verification failed; re-running would only repeat it */
+    ASSERTION(false, 0),
+
+    /** Functionally fine but slower than a latency budget's fail threshold */
+    LATENCY(false, 0),
+
+    /** Anything else, treated as a real failure */
+    UNKNOWN(false, 0);
+
+    private final boolean retryable;
+    private final int defaultBudget;
+
+    FailureCause(boolean retryable, int defaultBudget) {
+        this.retryable = retryable;
+        this.defaultBudget = defaultBudget;
+    }
+
+    public boolean isRetryable() {
+        return retryable;
+    }
+
+    /**
+     * Retries allowed for one test invocation failing with this cause
+     * @return the budget from retry.budget.&lt;cause&gt;, or the built-in default
+     */
+    public int budget() {
+        if (!retryable) {
+            return 0;
+        }
+        return Integer.getInteger("retry.budget." + name().toLowerCase(Locale.ROOT), defaultBudget);
+    }
+
+    /**
+     * Classify a failure by exception type and message, walking the cause chain
+     * @param error the failure
+     * @return the cause
+     */
+    public static FailureCause classify(Throwable error) {
+        if (error == null) {
+            return UNKNOWN;
+        }
+        if (error instanceof LatencyBudgetExceeded) {
+            return LATENCY;
+        }
+        if (SiteGuard.isConnectivityFailure(error)) {
+            return INFRASTRUCTURE;
+        }
+        boolean assertion = false;
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            String message = t.getMessage() == null ? "" : t.getMessage().toLowerCase(Locale.ROOT);
+            if (t instanceof StaleElementReferenceException || message.contains("stale element")) {
+                return STALE_ELEMENT;
+            }
+            if (t instanceof SessionNotCreatedException || t instanceof NoSuchSessionException
+                || t instanceof UnreachableBrowserException
+                || message.contains("chrome not reachable") || message.contains("disconnected:")) {
+                return INFRASTRUCTURE;
+            }
+            if (t instanceof TimeoutException || t instanceof ScriptTimeoutException
+                || t instanceof java.util.concurrent.TimeoutException
+                || message.contains("timed out") || message.contains("timeout")) {
+                return TIMEOUT;
+            }
+            assertion |= t instanceof AssertionError;
+        }
+        return assertion ? ASSERTION : UNKNOWN;
+    }
+}
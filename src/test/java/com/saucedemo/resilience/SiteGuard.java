@@ -0,0 +1,163 @@
+package com.saucedemo.resilience;
+
+import com.saucedemo.session.SessionManager;
+import com.saucedemo.session.WebConfig;
+import io.github.boykaframework.exception.FrameworkError;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.testng.Reporter;
+import org.testng.SkipException;
+
+import java.io.IOException;
+import java.net.ConnectException;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpTimeoutException;
+import java.time.Duration;
+
+/**
+ * Guards session creation against an unreachable target site
+ * Probes base_url before the suite, retries with jittered backoff and skips tests fast while the breaker is open
+ *
+ * Tuning (system properties):
+ *   site.breaker.threshold   consecutive connectivity failures before opening (default 3)
+ *   site.breaker.cooldown.ms time before an open breaker probes again (default 30000)
+ *   site.retry.attempts      session attempts per test (default 3)
+ *   site.retry.base.ms       first backoff delay (default 500)
+ *   site.retry.max.ms        backoff ceiling (default 8000)
+ */
+public final class SiteGuard {
+
+    private static final Logger LOG = LogManager.getLogger(SiteGuard.class);
+
+    private static final String[] CONNECTIVITY_ERRORS = {
+        "ERR_CONNECTION_", "ERR_NAME_NOT_RESOLVED", "ERR_INTERNET_DISCONNECTED",
+        "ERR_TIMED_OUT", "ERR_ADDRESS_UNREACHABLE", "ERR_NETWORK_CHANGED", "ERR_PROXY_CONNECTION_FAILED"
+    };
+
+    private static final CircuitBreaker BREAKER = new CircuitBreaker("site",
+        Integer.getInteger("site.breaker.threshold", 3),
+        Long.getLong("site.breaker.cooldown.ms", 30000));
+    private static final int ATTEMPTS = Integer.getInteger("site.retry.attempts", 3);
+    private static final Backoff BACKOFF = new Backoff(
+        Long.getLong("site.retry.base.ms", 500),
+        Long.getLong("site.retry.max.ms", 8000));
+    private static final Duration PROBE_TIMEOUT = Duration.ofSeconds(5);
+    private static final HttpClient HTTP = HttpClient.newBuilder()
+        .connectTimeout(PROBE_TIMEOUT)
+        .followRedirects(HttpClient.Redirect.NORMAL)
+        .build();
+
+    private SiteGuard() {
+    }
+
+    public static CircuitBreaker breaker() {
+        return BREAKER;
+    }
+
+    /**
+     * Check base_url before any browser is launched; opens the breaker if the site stays down
+     * @param configKey the web config key holding base_url
+     */
+    public static void probeBeforeSuite(String configKey) {
+        String url = WebConfig.forKey(configKey).getBaseUrl();
+        long start = System.currentTimeMillis();
+        for (int attempt = 0; attempt < ATTEMPTS; attempt++) {
+            if (attempt > 0) {
+                BACKOFF.pause(attempt - 1);
+            }
+            if (isReachable(url)) {
+                Reporter.log(String.format("[site-probe] %s reachable in %d ms", url, System.currentTimeMillis() - start));
+                return;
+            }
+        }
+        BREAKER.forceOpen("pre-suite probe of " + url + " failed " + ATTEMPTS + " time(s)");
+    }
+
+    /**
+     * Open the browser session for this thread, or skip the test if the site is known to be down
+     * @param configKey the web config key, e.g. "test_web"
+     */
+    public static void createSession(String configKey) {
+        ensureClosed(configKey);
+        for (int attempt = 0; ; attempt++) {
+            try {
+                SessionManager.createSession(configKey);
+                BREAKER.recordSuccess();
+                return;
+            } catch (FrameworkError fe) {
+                if (!isConnectivityFailure(fe)) {
+                    throw fe;
+                }
+                BREAKER.recordFailure(fe.getMessage());
+                SessionManager.clearSession();
+                if (attempt + 1 >= ATTEMPTS || BREAKER.getState() != CircuitBreaker.State.CLOSED) {
+                    throw fe;
+                }
+                LOG.warn("Connectivity failure opening session (attempt {}), backing off", attempt + 1);
+                BACKOFF.pause(attempt);
+            }
+        }
+    }
+
+    /**
+     * Decide whether a failure means the target site could not be reached
+     * @param error the failure
+     * @return true for network-level errors
+     */
+    public static boolean isConnectivityFailure(Throwable error) {
+        for (Throwable t = error; t != null; t = t.getCause()) {
+            if (t instanceof ConnectException || t instanceof UnknownHostException || t instanceof HttpTimeoutException) {
+                return true;
+            }
+            String message = t.getMessage();
+            if (message != null) {
+                for (String code : CONNECTIVITY_ERRORS) {
+                    if (message.contains(code)) {
+                        return true;
+                    }
+                }
+            }
+            if (t.getCause() == t) {
+                break;
+            }
+        }
+        return false;
+    }
+
+    // Helper methods
+
+    private static void ensureClosed(String configKey) {
+        CircuitBreaker.State state = BREAKER.getState();
+        if (state == CircuitBreaker.State.CLOSED) {
+            return;
+        }
+        if (BREAKER.tryHalfOpen()) {
+            String url = WebConfig.forKey(configKey).getBaseUrl();
+            if (isReachable(url)) {
+                BREAKER.recordSuccess();
+                return;
+            }
+            BREAKER.recordFailure("half-open probe of " + url + " failed");
+        }
+        throw new SkipException("Target site unreachable, circuit breaker is " + BREAKER.getState());
+    }
+
+    private static boolean isReachable(String url) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                .timeout(PROBE_TIMEOUT)
+                .GET()
+                .build();
+            return HTTP.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 500;
+        } catch (IOException e) {
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,151 @@
+package com.saucedemo.results;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Newline-delimited JSON stream of result events, one line per event, flushed as it is written
+ * Every event carries the shard id, a per-shard sequence number and a wall-clock time in ms,
+ * which is what {@link ResultStreamMerge} orders shards by.
+ * An optional TCP socket gets the same lines from a background thread; if it cannot keep up lines are dropped
+ * for the socket only, so a slow dashboard never holds up a test.
+ */
+public class ResultStream implements AutoCloseable {
+
+    private static final Logger LOG = LogManager.getLogger(ResultStream.class);
+    private static final String END = "";
+
+    private final String shard;
+    private final Writer file;
+    private final AtomicLong sequence = new AtomicLong();
+    private final BlockingQueue<String> socketQueue = new ArrayBlockingQueue<>(1024);
+    private final AtomicInteger socketDropped = new AtomicInteger();
+    private Thread socketWriter;
+
+    private ResultStream(String shard, Writer file) {
+        this.shard = shard;
+        this.file = file;
+    }
+
+    /**
+     * Open a stream
+     * @param shard id of this JVM's share of the run
+     * @param file NDJSON file, created or truncated
+     * @param socket "host:port" to also send lines to, or null
+     * @return ResultStream
+     */
+    public static ResultStream open(String shard, Path file, String socket) {
+        try {
+            Files.createDirectories(file.toAbsolutePath().getParent());
+            ResultStream stream = new ResultStream(shard, Files.newBufferedWriter(file, StandardCharsets.UTF_8));
+            if (socket != null && !socket.isBlank()) {
+                stream.connect(socket.trim());
+            }
+            return stream;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not open " + file, e);
+        }
+    }
+
+    /**
+     * Write one event; shard, seq and time are added in front of the given fields
+     * @param type event type, e.g. "start"
+     * @param fields the event's fields, null values are left out
+     */
+    public void emit(String type, Map<String, Object> fields) {
+        Map<String, Object> event = new LinkedHashMap<>();
+        event.put("type", type);
+        event.put("shard", shard);
+        event.put("seq", 0L);
+        event.put("time", 0L);
+        fields.forEach((key, value) -> {
+            if (value != null) {
+                event.put(key, value);
+            }
+        });
+        synchronized (this) {
+            // seq and time are taken under the lock so both only ever grow along the file
+            event.put("seq", sequence.incrementAndGet());
+            event.put("time", System.currentTimeMillis());
+            StringBuilder line = new StringBuilder();
+            new Json().newOutput(line).setPrettyPrint(false).write(event);
+            try {
+                file.write(line.append('\n').toString());
+                file.flush();
+            } catch (IOException e) {
+                LOG.warn("Could not write result event", e);
+            }
+            if (socketWriter != null && !socketQueue.offer(line.toString())) {
+                socketDropped.incrementAndGet();
+            }
+        }
+    }
+
+    @Override
+    public synchronized void close() {
+        try {
+            file.close();
+        } catch (IOException e) {
+            LOG.warn("Could not close result stream", e);
+        }
+        if (socketWriter != null) {
+            socketQueue.offer(END);
+            try {
+                socketWriter.join(2000);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            if (socketDropped.get() > 0) {
+                LOG.warn("[results] {} event(s) not sent to the socket, it was not keeping up", socketDropped.get());
+            }
+        }
+    }
+
+    // Helper methods
+
+    private void connect(String hostAndPort) {
+        int colon = hostAndPort.lastIndexOf(':');
+        Socket socket = new Socket();
+        try {
+            socket.connect(new InetSocketAddress(hostAndPort.substring(0, colon),
+                Integer.parseInt(hostAndPort.substring(colon + 1))), 1000);
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("[results] no listener on {}, streaming to the file only: {}", hostAndPort, e.getMessage());
+            return;
+        }
+        socketWriter = new Thread(() -> {
+            try (socket; Writer out = new BufferedWriter(new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8))) {
+                for (String line = socketQueue.take(); !END.equals(line); line = socketQueue.take()) {
+                    out.write(line);
+                    if (socketQueue.isEmpty()) {
+                        out.flush();
+                    }
+                }
+            } catch (IOException e) {
+                LOG.warn("[results] socket {} closed: {}", hostAndPort, e.getMessage());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }, "results-socket");
+        socketWriter.setDaemon(true);
+        socketWriter.start();
+    }
+}
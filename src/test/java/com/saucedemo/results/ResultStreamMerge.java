@@ -0,0 +1,161 @@
+package com.saucedemo.results;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/**
+ * Merges the NDJSON result streams of several shards into one, ordered by time
+ * Each shard file is already in time order, so this is a k-way merge that holds one line per shard in memory.
+ * Usage: ResultStreamMerge &lt;output.ndjson&gt; &lt;shard file or folder&gt;...
+ * Prints passed / failed / skipped / retried counts per shard and in total.
+ */
+public final class ResultStreamMerge {
+
+    private static final Json JSON = new Json();
+
+    private ResultStreamMerge() {
+    }
+
+    /**
+     * Head of one shard's stream
+     */
+    private static final class Cursor {
+        final BufferedReader reader;
+        final int order;
+        String line;
+        Map<String, Object> event;
+        long time;
+        long seq;
+
+        Cursor(BufferedReader reader, int order) {
+            this.reader = reader;
+            this.order = order;
+        }
+
+        boolean advance() throws IOException {
+            for (line = reader.readLine(); line != null && line.isBlank(); line = reader.readLine()) {
+                // skip blank lines
+            }
+            if (line == null) {
+                return false;
+            }
+            event = JSON.toType(line, Json.MAP_TYPE);
+            time = ((Number) event.getOrDefault("time", 0L)).longValue();
+            seq = ((Number) event.getOrDefault("seq", 0L)).longValue();
+            return true;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 2) {
+            System.err.println("Usage: ResultStreamMerge <output.ndjson> <shard file or folder>...");
+            System.exit(2);
+        }
+        Path output = Paths.get(args[0]);
+        List<Path> inputs = new ArrayList<>();
+        for (int i = 1; i < args.length; i++) {
+            inputs.addAll(files(Paths.get(args[i]), output));
+        }
+        Map<String, int[]> counts = merge(inputs, output);
+        int[] total = new int[4];
+        counts.forEach((shard, count) -> {
+            print(shard, count);
+            for (int i = 0; i < total.length; i++) {
+                total[i] += count[i];
+            }
+        });
+        print("total", total);
+        System.out.println("Merged " + inputs.size() + " stream(s) into " + output);
+    }
+
+    /**
+     * Merge shard streams into one file
+     * @param inputs shard NDJSON files
+     * @param output merged file
+     * @return per shard: passed, failed, skipped, retried
+     */
+    public static Map<String, int[]> merge(List<Path> inputs, Path output) throws IOException {
+        PriorityQueue<Cursor> heads = new PriorityQueue<>(Comparator
+            .comparingLong((Cursor cursor) -> cursor.time)
+            .thenComparingInt(cursor -> cursor.order)
+            .thenComparingLong(cursor -> cursor.seq));
+        List<BufferedReader> readers = new ArrayList<>();
+        Map<String, int[]> counts = new TreeMap<>();
+        if (output.toAbsolutePath().getParent() != null) {
+            Files.createDirectories(output.toAbsolutePath().getParent());
+        }
+        try (BufferedWriter out = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+            for (Path input : inputs) {
+                BufferedReader reader = Files.newBufferedReader(input, StandardCharsets.UTF_8);
+                readers.add(reader);
+                Cursor cursor = new Cursor(reader, readers.size());
+                if (cursor.advance()) {
+                    heads.add(cursor);
+                }
+            }
+            while (!heads.isEmpty()) {
+                Cursor cursor = heads.poll();
+                out.write(cursor.line);
+                out.newLine();
+                count(cursor.event, counts);
+                if (cursor.advance()) {
+                    heads.add(cursor);
+                }
+            }
+        } finally {
+            for (BufferedReader reader : readers) {
+                reader.close();
+            }
+        }
+        return counts;
+    }
+
+    // Helper methods
+
+    private static void count(Map<String, Object> event, Map<String, int[]> counts) {
+        if (!"finish".equals(event.get("type"))) {
+            return;
+        }
+        int[] count = counts.computeIfAbsent(String.valueOf(event.get("shard")), key -> new int[4]);
+        switch (String.valueOf(event.get("status"))) {
+            case "PASSED" -> count[0]++;
+            case "FAILED" -> count[1]++;
+            case "SKIPPED" -> count[2]++;
+            case "RETRIED" -> count[3]++;
+            default -> { }
+        }
+    }
+
+    private static void print(String shard, int[] count) {
+        System.out.printf("%-20s passed=%d failed=%d skipped=%d retried=%d%n", shard, count[0], count[1], count[2], count[3]);
+    }
+
+    private static List<Path> files(Path input, Path output) {
+        if (!Files.isDirectory(input)) {
+            return List.of(input);
+        }
+        try (Stream<Path> files = Files.list(input)) {
+            return files.filter(file -> file.toString().endsWith(".ndjson"))
+                .filter(file -> !file.toAbsolutePath().equals(output.toAbsolutePath()))
+                .sorted()
+                .toList();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not list " + input, e);
+        }
+    }
+}
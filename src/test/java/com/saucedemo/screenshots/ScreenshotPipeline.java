@@ -0,0 +1,212 @@
+package com.saucedemo.screenshots;
+
+import com.saucedemo.session.WebConfig;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.OutputType;
+import org.openqa.selenium.TakesScreenshot;
+import org.openqa.selenium.WebDriver;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static io.github.boykaframework.manager.ParallelSession.getSession;
+
+/**
+ * Screenshot capture that keeps image work off the test thread
+ * The test thread only grabs the raw PNG bytes; hashing, de-duplication, encoding and the file write
+ * run on a small bounded executor. When the queue is full the frame is dropped rather than blocking the test.
+ *
+ * Output folder, format and prefix come from ui.screenshot in boyka-config.json.
+ * Tuning: -Dscreenshots.workers (default 2), -Dscreenshots.queue (default 32), -Dscreenshots.quality (0-1, default 0.8)
+ */
+public final class ScreenshotPipeline {
+
+    private static final Logger LOG = LogManager.getLogger(ScreenshotPipeline.class);
+    private static final ScreenshotPipeline INSTANCE = new ScreenshotPipeline();
+
+    private final Path folder;
+    private final String extension;
+    private final String prefix;
+    private final float quality;
+    private final ThreadPoolExecutor executor;
+    // Content hashes of this suite's frames; cleared by flush so it never outgrows one suite
+    private final Map<String, Path> written = new ConcurrentHashMap<>();
+    private final AtomicInteger files = new AtomicInteger();
+    private final AtomicInteger dropped = new AtomicInteger();
+    private final AtomicInteger duplicates = new AtomicInteger();
+    // Frames accepted but not yet written; flush waits for it to reach zero
+    private final ReentrantLock pendingLock = new ReentrantLock();
+    private final Condition drained = pendingLock.newCondition();
+    private int pending;
+
+    private ScreenshotPipeline() {
+        Map<String, Object> config = WebConfig.section("ui", "screenshot");
+        this.folder = Paths.get(String.valueOf(config.getOrDefault("path", "./screenshots")));
+        this.extension = String.valueOf(config.getOrDefault("extension", "png")).toLowerCase(Locale.ROOT);
+        this.prefix = String.valueOf(config.getOrDefault("prefix", "SCR"));
+        this.quality = Float.parseFloat(System.getProperty("screenshots.quality", "0.8"));
+        int workers = Integer.getInteger("screenshots.workers", 2);
+        AtomicInteger threadId = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(workers, workers, 30, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(Integer.getInteger("screenshots.queue", 32)),
+            task -> {
+                Thread thread = new Thread(task, "screenshot-" + threadId.incrementAndGet());
+                thread.setDaemon(true);
+                return thread;
+            },
+            (task, pool) -> {
+                dropped.incrementAndGet();
+                done();
+            });
+    }
+
+    public static ScreenshotPipeline get() {
+        return INSTANCE;
+    }
+
+    /**
+     * Grab the current page of this thread's session and hand it to the background workers
+     * @param name file name stem, e.g. the test invocation id
+     */
+    public void capture(String name) {
+        byte[] png;
+        try {
+            WebDriver driver = getSession().getDriver();
+            png = ((TakesScreenshot) driver).getScreenshotAs(OutputType.BYTES);
+        } catch (Exception e) {
+            LOG.debug("No screenshot for {}: {}", name, e.getMessage());
+            return;
+        }
+        long timestamp = System.currentTimeMillis();
+        pendingLock.lock();
+        try {
+            pending++;
+        } finally {
+            pendingLock.unlock();
+        }
+        executor.execute(() -> {
+            try {
+                process(name, timestamp, png);
+            } finally {
+                done();
+            }
+        });
+    }
+
+    /**
+     * Wait for queued screenshots to be written, then forget the frames seen so far
+     * The workers keep running, so a later suite in the same JVM still gets its screenshots.
+     * @param timeoutSeconds how long to wait
+     */
+    public void flush(long timeoutSeconds) {
+        pendingLock.lock();
+        try {
+            long nanos = TimeUnit.SECONDS.toNanos(timeoutSeconds);
+            while (pending > 0 && nanos > 0) {
+                nanos = drained.awaitNanos(nanos);
+            }
+            if (pending > 0) {
+                LOG.warn("{} screenshot(s) still pending after {} s", pending, timeoutSeconds);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            pendingLock.unlock();
+        }
+        written.clear();
+        LOG.info("Screenshots: {} written, {} duplicate(s) skipped, {} dropped under load",
+            files.get(), duplicates.get(), dropped.get());
+    }
+
+    // Helper methods
+
+    private void done() {
+        pendingLock.lock();
+        try {
+            if (--pending == 0) {
+                drained.signalAll();
+            }
+        } finally {
+            pendingLock.unlock();
+        }
+    }
+
+    private void process(String name, long timestamp, byte[] png) {
+        try {
+            String hash = sha256(png);
+            Path file = folder.resolve(String.format("%s-%s-%d.%s", prefix, name, timestamp, extension));
+            Path previous = written.putIfAbsent(hash, file);
+            if (previous != null) {
+                duplicates.incrementAndGet();
+                LOG.debug("Screenshot {} identical to {}, skipped", file.getFileName(), previous.getFileName());
+                return;
+            }
+            Files.createDirectories(folder);
+            Files.write(file, "png".equals(extension) ? png : encode(png));
+            files.incrementAndGet();
+        } catch (IOException | RuntimeException e) {
+            LOG.warn("Could not write screenshot {}", name, e);
+        }
+    }
+
+    private byte[] encode(byte[] png) throws IOException {
+        BufferedImage source = ImageIO.read(new ByteArrayInputStream(png));
+        // JPEG has no alpha channel, so flatten to RGB first
+        BufferedImage rgb = new BufferedImage(source.getWidth(), source.getHeight(), BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = rgb.createGraphics();
+        graphics.drawImage(source, 0, 0, null);
+        graphics.dispose();
+
+        Iterator<ImageWriter> writers = ImageIO.getImageWritersByFormatName(extension);
+        if (!writers.hasNext()) {
+            throw new IOException("No image writer for " + extension);
+        }
+        ImageWriter writer = writers.next();
+        ByteArrayOutputStream out = new ByteArrayOutputStream(png.length / 2);
+        try (ImageOutputStream stream = ImageIO.createImageOutputStream(out)) {
+            writer.setOutput(stream);
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            if (param.canWriteCompressed()) {
+                param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+                param.setCompressionQuality(quality);
+            }
+            writer.write(null, new IIOImage(rgb, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256(byte[] bytes) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(bytes));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package com.saucedemo.session;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * One Chrome process shared by every test in the JVM
+ * Each test gets its own browser context (cookies, storage, cache) created over CDP, and a session attached
+ * to it on the host's own chromedriver, so no test starts a chromedriver process of its own.
+ */
+public class BrowserContextHost {
+
+    private static BrowserContextHost instance;
+
+    private final ChromeDriverService service;
+    private final ChromeDriver driver;
+    private final String debuggerAddress;
+    // One client for every attached session, so they reuse its keep-alive connections
+    private final HttpClient client;
+    // A lock rather than synchronized, so virtual threads waiting on CDP don't pin their carrier
+    private final ReentrantLock cdpLock = new ReentrantLock();
+
+    private BrowserContextHost(WebConfig config) {
+        ChromeOptions options = new ChromeOptions();
+        for (String option : config.getBrowserOptions()) {
+            // Contexts already give per-test isolation; incognito would only add a stray window
+            if (!"--incognito".equals(option)) {
+                options.addArguments(option);
+            }
+        }
+        if (config.isHeadless()) {
+            options.addArguments("--headless=new");
+        }
+        options.setExperimentalOption("prefs", config.getBrowserPrefs());
+        this.service = ChromeDriverService.createDefaultService();
+        this.driver = new ChromeDriver(service, options);
+        this.debuggerAddress = readDebuggerAddress(driver);
+        this.client = HttpClient.Factory.createDefault().createClient(ClientConfig.defaultConfig().baseUrl(service.getUrl()));
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "context-host-shutdown"));
+    }
+
+    /**
+     * Get the shared host, launching Chrome on first use
+     * @param config the web config used to launch Chrome
+     * @return the shared host
+     */
+    public static synchronized BrowserContextHost get(WebConfig config) {
+        if (instance == null) {
+            instance = new BrowserContextHost(config);
+        }
+        return instance;
+    }
+
+    /**
+     * Get the shared host once it has been launched
+     * @return the shared host
+     */
+    public static synchronized BrowserContextHost running() {
+        if (instance == null) {
+            throw new IllegalStateException("Shared browser has not been started");
+        }
+        return instance;
+    }
+
+    /**
+     * Open a session on the host's chromedriver, attached to the shared Chrome through its debugger address
+     * Quitting it ends only the chromedriver session; the shared Chrome keeps running.
+     * @param options options of the attached session, e.g. its page-load strategy
+     * @return the attached driver
+     */
+    public WebDriver attach(ChromeOptions options) {
+        options.setExperimentalOption("debuggerAddress", debuggerAddress);
+        HttpClient shared = client;
+        HttpClient.Factory factory = config -> new DriverServicePool.KeepOpen(shared);
+        return new RemoteWebDriver(
+            new HttpCommandExecutor(DriverServicePool.CHROMIUM_COMMANDS, service.getUrl(), factory), options);
+    }
+
+    /**
+     * Create a new isolated browser context
+     * @return the CDP browserContextId
+     */
+    public String createContext() {
+        Map<String, Object> result = cdp("Target.createBrowserContext", Map.of("disposeOnDetach", false));
+        return (String) result.get("browserContextId");
+    }
+
+    /**
+     * Open a page inside a browser context
+     * @param contextId the browserContextId
+     * @param url the url to load
+     * @return the CDP targetId, which ChromeDriver also uses as the window handle
+     */
+    public String openTarget(String contextId, String url) {
+        Map<String, Object> result = cdp("Target.createTarget", Map.of("url", url, "browserContextId", contextId));
+        return (String) result.get("targetId");
+    }
+
+    /**
+     * Close a browser context and all of its pages
+     * @param contextId the browserContextId
+     */
+    public void disposeContext(String contextId) {
+        try {
+            cdp("Target.disposeBrowserContext", Map.of("browserContextId", contextId));
+        } catch (Exception ignored) { }
+    }
+
+    // Helper methods
+
+    private void shutdown() {
+        try {
+            driver.quit();
+        } finally {
+            client.close();
+        }
+    }
+
+    private Map<String, Object> cdp(String command, Map<String, Object> params) {
+        cdpLock.lock();
+        try {
+            return driver.executeCdpCommand(command, params);
+        } finally {
+            cdpLock.unlock();
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static String readDebuggerAddress(ChromeDriver driver) {
+        Object chromeOptions = driver.getCapabilities().getCapability("goog:chromeOptions");
+        if (chromeOptions instanceof Map) {
+            Object address = ((Map<String, Object>) chromeOptions).get("debuggerAddress");
+            if (address != null) {
+                return address.toString();
+            }
+        }
+        throw new IllegalStateException("ChromeDriver did not report a debuggerAddress for the shared browser");
+    }
+}
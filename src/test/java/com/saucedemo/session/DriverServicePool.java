@@ -0,0 +1,267 @@
+package com.saucedemo.session;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.SessionNotCreatedException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriverService;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.CommandInfo;
+import org.openqa.selenium.remote.HttpCommandExecutor;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.openqa.selenium.remote.http.ClientConfig;
+import org.openqa.selenium.remote.http.HttpClient;
+import org.openqa.selenium.remote.http.HttpMethod;
+import org.openqa.selenium.remote.http.HttpRequest;
+import org.openqa.selenium.remote.http.HttpResponse;
+import org.openqa.selenium.remote.http.WebSocket;
+import org.openqa.selenium.remote.service.DriverFinder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * A few long-lived chromedriver services shared by every test in the JVM
+ * Each test still gets its own Chrome, but opens it as a new session on an already running service
+ * instead of starting a chromedriver process and HTTP endpoint of its own. All sessions on a service
+ * share one HTTP client, so its keep-alive connections are reused across tests.
+ * A background check polls /status every -Ddriver.service.healthCheck.s seconds and restarts a service that died.
+ * Pool size: -Ddriver.service.pool (default 1).
+ */
+public class DriverServicePool {
+
+    private static final Logger LOG = LogManager.getLogger(DriverServicePool.class);
+    private static final int SIZE = Math.max(1, Integer.getInteger("driver.service.pool", 1));
+    private static final int HEALTH_CHECK_SECONDS = Integer.getInteger("driver.service.healthCheck.s", 10);
+    // chromedriver's CDP passthrough, which ChromeDriver registers itself but a plain RemoteWebDriver does not
+    static final Map<String, CommandInfo> CHROMIUM_COMMANDS = Map.of(
+        "executeCdpCommand", new CommandInfo("/session/:sessionId/goog/cdp/execute", HttpMethod.POST));
+
+    private static DriverServicePool instance;
+
+    private final List<Endpoint> endpoints = new ArrayList<>();
+    private final ScheduledExecutorService healthCheck = Executors.newSingleThreadScheduledExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "driver-service-health");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private DriverServicePool(ChromeOptions options) {
+        for (int i = 0; i < SIZE; i++) {
+            Endpoint endpoint = new Endpoint(i);
+            endpoint.start(options);
+            endpoints.add(endpoint);
+        }
+        if (HEALTH_CHECK_SECONDS > 0) {
+            healthCheck.scheduleWithFixedDelay(() -> endpoints.forEach(endpoint -> endpoint.check(options)),
+                HEALTH_CHECK_SECONDS, HEALTH_CHECK_SECONDS, TimeUnit.SECONDS);
+        }
+        Runtime.getRuntime().addShutdownHook(new Thread(this::shutdown, "driver-service-shutdown"));
+    }
+
+    /**
+     * Get the shared pool, starting its services on first use
+     * @param options options of the first session, used to locate chromedriver and Chrome
+     * @return the shared pool
+     */
+    public static synchronized DriverServicePool get(ChromeOptions options) {
+        if (instance == null) {
+            instance = new DriverServicePool(options);
+        }
+        return instance;
+    }
+
+    /**
+     * Open a new Chrome on the least busy service
+     * @param options the browser options
+     * @return the session's driver and the service it runs on; release it once the driver has quit
+     */
+    public Lease open(ChromeOptions options) {
+        Endpoint endpoint = endpoints.stream().min(Comparator.comparingInt(Endpoint::sessions)).orElseThrow();
+        endpoint.ensureRunning(options);
+        endpoint.sessions.incrementAndGet();
+        try {
+            return new Lease(endpoint, endpoint.newDriver(options));
+        } catch (RuntimeException e) {
+            endpoint.sessions.decrementAndGet();
+            throw e;
+        }
+    }
+
+    /**
+     * A session opened on one of the pool's services
+     */
+    public static final class Lease {
+        private final Endpoint endpoint;
+        private final WebDriver driver;
+
+        private Lease(Endpoint endpoint, WebDriver driver) {
+            this.endpoint = endpoint;
+            this.driver = driver;
+        }
+
+        public WebDriver getDriver() {
+            return driver;
+        }
+
+        /**
+         * Note that the session's driver has quit
+         */
+        public void release() {
+            endpoint.sessions.decrementAndGet();
+        }
+    }
+
+    // Helper methods
+
+    private void shutdown() {
+        healthCheck.shutdownNow();
+        endpoints.forEach(Endpoint::stop);
+    }
+
+    /**
+     * One chromedriver process and the HTTP client every session on it shares
+     */
+    private static final class Endpoint {
+        private final int index;
+        private final AtomicInteger sessions = new AtomicInteger();
+        // A lock rather than synchronized, so virtual threads waiting for a restart don't pin their carrier
+        private final ReentrantLock lock = new ReentrantLock();
+        private volatile ChromeDriverService service;
+        private volatile HttpClient client;
+
+        Endpoint(int index) {
+            this.index = index;
+        }
+
+        int sessions() {
+            return sessions.get();
+        }
+
+        void start(ChromeOptions options) {
+            ChromeDriverService started = new ChromeDriverService.Builder().usingAnyFreePort().build();
+            DriverFinder finder = new DriverFinder(started, options);
+            started.setExecutable(finder.getDriverPath());
+            try {
+                started.start();
+            } catch (IOException e) {
+                throw new UncheckedIOException("Could not start chromedriver service " + index, e);
+            }
+            ClientConfig config = ClientConfig.defaultConfig().baseUrl(started.getUrl());
+            client = HttpClient.Factory.createDefault().createClient(config);
+            service = started;
+            LOG.info("[driver-service] service {} listening on {}", index, started.getUrl());
+        }
+
+        void stop() {
+            try {
+                client.close();
+            } catch (RuntimeException ignored) { }
+            service.stop();
+        }
+
+        void ensureRunning(ChromeOptions options) {
+            if (!service.isRunning()) {
+                restart(options, "process exited");
+            }
+        }
+
+        void check(ChromeOptions options) {
+            try {
+                if (!service.isRunning()) {
+                    restart(options, "process exited");
+                } else if (!ready()) {
+                    restart(options, "/status not ready");
+                }
+            } catch (RuntimeException e) {
+                LOG.warn("[driver-service] health check of service {} failed", index, e);
+            }
+        }
+
+        WebDriver newDriver(ChromeOptions options) {
+            DriverFinder finder = new DriverFinder(service, options);
+            if (finder.hasBrowserPath()) {
+                options.setBinary(finder.getBrowserPath());
+            }
+            HttpClient shared = client;
+            HttpClient.Factory factory = config -> new KeepOpen(shared);
+            try {
+                return new RemoteWebDriver(new HttpCommandExecutor(CHROMIUM_COMMANDS, service.getUrl(), factory), options);
+            } catch (SessionNotCreatedException e) {
+                // A wedged service fails every new session; replace it so the retry lands on a fresh one
+                if (!ready()) {
+                    restart(options, "session not created");
+                }
+                throw e;
+            }
+        }
+
+        private boolean ready() {
+            try {
+                HttpRequest request = new HttpRequest(HttpMethod.GET, "/status");
+                HttpResponse response = client.execute(request);
+                if (response.getStatus() != 200) {
+                    return false;
+                }
+                Map<String, Object> status = new Json().toType(
+                    new String(response.getContent().get().readAllBytes(), StandardCharsets.UTF_8), Json.MAP_TYPE);
+                Object value = status.get("value");
+                return value instanceof Map && Boolean.TRUE.equals(((Map<?, ?>) value).get("ready"));
+            } catch (IOException | RuntimeException e) {
+                return false;
+            }
+        }
+
+        private void restart(ChromeOptions options, String reason) {
+            lock.lock();
+            try {
+                if (service.isRunning() && ready()) {
+                    return;
+                }
+                LOG.warn("[driver-service] restarting service {} ({}); {} session(s) on it are lost",
+                    index, reason, sessions.get());
+                stop();
+                start(options);
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Hands the shared client to a session's executor, which closes its client on quit
+     */
+    static final class KeepOpen implements HttpClient {
+        private final HttpClient delegate;
+
+        KeepOpen(HttpClient delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public HttpResponse execute(HttpRequest request) {
+            return delegate.execute(request);
+        }
+
+        @Override
+        public WebSocket openSocket(HttpRequest request, WebSocket.Listener listener) {
+            return delegate.openSocket(request, listener);
+        }
+
+        @Override
+        public void close() {
+            // Shared with the other sessions on this service
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.saucedemo.session;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WrapsDriver;
+import org.openqa.selenium.chromium.HasCdp;
+import org.openqa.selenium.json.Json;
+import org.openqa.selenium.remote.RemoteExecuteMethod;
+import org.openqa.selenium.remote.RemoteWebDriver;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static io.github.boykaframework.manager.ParallelSession.getSession;
+
+/**
+ * Emulated network conditions for the current thread's browser session, through CDP Network.emulateNetworkConditions
+ * Profiles are read from network-profiles.json on the test classpath (-Dnetwork.profiles picks another file).
+ * -Dnetwork.profile (default none) applies one to every session as it opens; a test or data row switches its
+ * own session with {@link #apply(String)}. Step timings and latency budgets are keyed by the active profile.
+ */
+public final class NetworkConditions {
+
+    /** No emulation: the machine's own network */
+    public static final String NONE = "none";
+
+    private static final Logger LOG = LogManager.getLogger(NetworkConditions.class);
+    private static final ThreadLocal<NetworkProfile> CURRENT = new ThreadLocal<>();
+    private static volatile Map<String, NetworkProfile> profiles;
+
+    private NetworkConditions() {
+    }
+
+    /**
+     * Profile applied to every new session, -Dnetwork.profile
+     */
+    public static String defaultProfile() {
+        return System.getProperty("network.profile", NONE);
+    }
+
+    /**
+     * Emulate a profile in the current thread's session, or lift emulation with "none"
+     * @param name the profile name, e.g. "fast-3g"
+     */
+    public static void apply(String name) {
+        apply(getSession().getDriver(), name);
+    }
+
+    /**
+     * Profile the current thread's session runs under
+     * @return the profile name, or null when the network is not emulated
+     */
+    public static String current() {
+        NetworkProfile profile = CURRENT.get();
+        return profile == null ? null : profile.getName();
+    }
+
+    /**
+     * Key under which a step's timing or budget is filed for the active profile
+     * @param step the step, e.g. "CheckoutPage.enterFirstName"
+     * @return the step, suffixed with "@profile" while the network is emulated
+     */
+    public static String keyFor(String step) {
+        String profile = current();
+        return profile == null ? step : step + "@" + profile;
+    }
+
+    /**
+     * Look a profile up by name
+     * @param name the profile name
+     * @return the profile
+     */
+    public static NetworkProfile forName(String name) {
+        NetworkProfile profile = profiles().get(name);
+        if (profile == null) {
+            throw new IllegalArgumentException("Unknown network profile '" + name + "', known: " + profiles().keySet());
+        }
+        return profile;
+    }
+
+    // Helper methods
+
+    static void apply(WebDriver driver, String name) {
+        if (NONE.equals(name)) {
+            if (CURRENT.get() != null) {
+                emulate(driver, Map.of("offline", false, "latency", 0, "downloadThroughput", -1, "uploadThroughput", -1));
+                CURRENT.remove();
+            }
+            return;
+        }
+        NetworkProfile profile = forName(name);
+        send(driver, "Network.enable", Map.of());
+        emulate(driver, profile.toCdpParams());
+        CURRENT.set(profile);
+        LOG.debug("[network] emulating {}", profile);
+    }
+
+    /**
+     * Forget the thread's profile once its session is gone
+     */
+    static void clear() {
+        CURRENT.remove();
+    }
+
+    private static void emulate(WebDriver driver, Map<String, Object> params) {
+        send(driver, "Network.emulateNetworkConditions", params);
+    }
+
+    private static void send(WebDriver driver, String command, Map<String, Object> params) {
+        // Decorated drivers (command counting) keep the Chromium driver underneath
+        WebDriver target = driver;
+        while (!(target instanceof HasCdp) && target instanceof WrapsDriver) {
+            target = ((WrapsDriver) target).getWrappedDriver();
+        }
+        if (target instanceof HasCdp) {
+            ((HasCdp) target).executeCdpCommand(command, params);
+        } else if (target instanceof RemoteWebDriver) {
+            // Sessions on a shared chromedriver service: chromedriver's own CDP endpoint
+            new RemoteExecuteMethod((RemoteWebDriver) target).execute("executeCdpCommand",
+                Map.of("cmd", command, "params", params));
+        } else {
+            throw new UnsupportedOperationException("Network profiles need a Chromium session, got " + driver.getClass().getName());
+        }
+    }
+
+    private static Map<String, NetworkProfile> profiles() {
+        if (profiles == null) {
+            synchronized (NetworkConditions.class) {
+                if (profiles == null) {
+                    profiles = load(System.getProperty("network.profiles", "network-profiles.json"));
+                }
+            }
+        }
+        return profiles;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, NetworkProfile> load(String file) {
+        Map<String, Object> root;
+        try (InputStream in = NetworkConditions.class.getClassLoader().getResourceAsStream(file)) {
+            if (in == null) {
+                throw new IllegalStateException(file + " not found on the test classpath");
+            }
+            root = new Json().toType(new String(in.readAllBytes(), StandardCharsets.UTF_8), Json.MAP_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + file, e);
+        }
+        Map<String, NetworkProfile> loaded = new LinkedHashMap<>();
+        Map<String, Map<String, Object>> section =
+            (Map<String, Map<String, Object>>) root.getOrDefault("profiles", Collections.emptyMap());
+        section.forEach((name, values) -> loaded.put(name, new NetworkProfile(name,
+            number(values, "latency_ms").longValue(),
+            number(values, "download_kbps").longValue(),
+            number(values, "upload_kbps").longValue(),
+            number(values, "packet_loss_percent").doubleValue(),
+            Boolean.TRUE.equals(values.get("offline")))));
+        return loaded;
+    }
+
+    private static Number number(Map<String, Object> values, String key) {
+        Object value = values.get(key);
+        return value instanceof Number ? (Number) value : 0;
+    }
+}
@@ -0,0 +1,78 @@
+package com.saucedemo.session;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Named client network conditions: round-trip latency, throughput and packet loss
+ * Throughput is in kilobits per second; 0 means unthrottled
+ */
+public final class NetworkProfile {
+
+    private final String name;
+    private final long latencyMs;
+    private final long downloadKbps;
+    private final long uploadKbps;
+    private final double packetLossPercent;
+    private final boolean offline;
+
+    public NetworkProfile(String name, long latencyMs, long downloadKbps, long uploadKbps,
+                          double packetLossPercent, boolean offline) {
+        this.name = name;
+        this.latencyMs = latencyMs;
+        this.downloadKbps = downloadKbps;
+        this.uploadKbps = uploadKbps;
+        this.packetLossPercent = packetLossPercent;
+        this.offline = offline;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public long getLatencyMs() {
+        return latencyMs;
+    }
+
+    public long getDownloadKbps() {
+        return downloadKbps;
+    }
+
+    public long getUploadKbps() {
+        return uploadKbps;
+    }
+
+    public double getPacketLossPercent() {
+        return packetLossPercent;
+    }
+
+    public boolean isOffline() {
+        return offline;
+    }
+
+    /**
+     * Parameters of CDP Network.emulateNetworkConditions
+     * Throughput goes over in bytes per second, -1 disabling the throttle; packetLoss needs Chrome 125+
+     * and older versions ignore it
+     */
+    Map<String, Object> toCdpParams() {
+        Map<String, Object> params = new LinkedHashMap<>();
+        params.put("offline", offline);
+        params.put("latency", latencyMs);
+        params.put("downloadThroughput", downloadKbps > 0 ? downloadKbps * 1000 / 8 : -1);
+        params.put("uploadThroughput", uploadKbps > 0 ? uploadKbps * 1000 / 8 : -1);
+        if (packetLossPercent > 0) {
+            params.put("packetLoss", packetLossPercent);
+        }
+        return params;
+    }
+
+    @Override
+    public String toString() {
+        if (offline) {
+            return name + " (offline)";
+        }
+        return String.format("%s (%d ms, %d/%d kbps%s)", name, latencyMs, downloadKbps, uploadKbps,
+            packetLossPercent > 0 ? ", " + packetLossPercent + "% loss" : "");
+    }
+}
@@ -0,0 +1,181 @@
+package com.saucedemo.session;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryNotEmptyException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * A Chrome user data dir initialised once with a config's browser_options and browser_prefs, then cloned per session
+ * Saves Chrome's first-run profile setup on every launch and keeps first-run popups away from the tests.
+ * Templates live in -Dchrome.profile.dir (default target/chrome-profiles), one per distinct options/prefs set;
+ * clones go to the system temp folder and are deleted when the session is cleared.
+ */
+public final class ProfileTemplate {
+
+    private static final Logger LOG = LogManager.getLogger(ProfileTemplate.class);
+    private static final Path TEMPLATE_DIR = Paths.get(System.getProperty("chrome.profile.dir", "target/chrome-profiles"));
+    private static final Map<String, ProfileTemplate> TEMPLATES = new ConcurrentHashMap<>();
+    private static final String READY = ".template-ready";
+    // Files Chrome only ever replaces by writing a new file and renaming it, so clones can share them
+    private static final Set<String> REPLACED_BY_RENAME = Set.of("Local State", "Preferences", "Secure Preferences", "First Run");
+    // Per-process state and caches that a clone must not inherit
+    private static final Set<String> SKIPPED = Set.of("SingletonLock", "SingletonSocket", "SingletonCookie", "lockfile",
+        "Cache", "Code Cache", "GPUCache", "GrShaderCache", "GraphiteDawnCache", "ShaderCache", "Crashpad", "BrowserMetrics");
+
+    private final Path template;
+
+    private ProfileTemplate(Path template) {
+        this.template = template;
+    }
+
+    /**
+     * Whether sessions should start from a profile template, -Dchrome.profile.template (default false)
+     */
+    public static boolean enabled() {
+        return Boolean.getBoolean("chrome.profile.template");
+    }
+
+    /**
+     * Get the template for a set of options, building it on first use
+     * @param options the options sessions are launched with
+     * @return the template
+     */
+    public static ProfileTemplate forOptions(ChromeOptions options) {
+        String key = key(options);
+        return TEMPLATES.computeIfAbsent(key, ignored -> new ProfileTemplate(build(options, TEMPLATE_DIR.resolve(key))));
+    }
+
+    /**
+     * Clone the template into a fresh temp folder
+     * Shareable files are hard-linked (copied where the file system can't link), the rest are copied.
+     * @return the clone, to pass to Chrome as --user-data-dir and to {@link #delete} afterwards
+     */
+    public Path cloneProfile() {
+        try {
+            Path clone = Files.createTempDirectory("saucedemo-profile-");
+            try (Stream<Path> files = Files.walk(template)) {
+                for (Path source : (Iterable<Path>) files::iterator) {
+                    Path target = clone.resolve(template.relativize(source).toString());
+                    if (source.equals(template) || READY.equals(source.getFileName().toString())) {
+                        continue;
+                    }
+                    if (Files.isDirectory(source)) {
+                        Files.createDirectories(target);
+                    } else {
+                        linkOrCopy(source, target);
+                    }
+                }
+            }
+            return clone;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not clone Chrome profile " + template, e);
+        }
+    }
+
+    /**
+     * Delete a clone once its Chrome has quit
+     * @param clone a folder returned by {@link #cloneProfile}
+     */
+    public static void delete(Path clone) {
+        try (Stream<Path> files = Files.walk(clone)) {
+            files.sorted(Comparator.reverseOrder()).forEach(path -> {
+                try {
+                    Files.deleteIfExists(path);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (IOException | UncheckedIOException e) {
+            LOG.warn("[profile] could not delete {}: {}", clone, e.getMessage());
+        }
+    }
+
+    // Helper methods
+
+    private static Path build(ChromeOptions options, Path template) {
+        if (Files.exists(template.resolve(READY))) {
+            return template;
+        }
+        long start = System.nanoTime();
+        try {
+            Files.createDirectories(template.getParent());
+            Path work = Files.createTempDirectory(template.getParent(), template.getFileName() + ".building-");
+            ChromeOptions launch = new ChromeOptions().merge(options);
+            launch.addArguments("--user-data-dir=" + work.toAbsolutePath(), "--no-first-run", "--no-default-browser-check");
+            ChromeDriver driver = new ChromeDriver(launch);
+            try {
+                driver.get("about:blank");
+            } finally {
+                driver.quit();
+            }
+            prune(work);
+            Files.writeString(work.resolve(READY), "built " + Instant.now(), StandardCharsets.UTF_8);
+            try {
+                Files.move(work, template, StandardCopyOption.ATOMIC_MOVE);
+            } catch (FileAlreadyExistsException | DirectoryNotEmptyException e) {
+                // Another JVM finished the same template first
+                delete(work);
+            }
+            LOG.info("[profile] built template {} in {} ms", template, (System.nanoTime() - start) / 1_000_000);
+            return template;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not build Chrome profile template " + template, e);
+        }
+    }
+
+    private static void prune(Path profile) throws IOException {
+        try (Stream<Path> files = Files.walk(profile)) {
+            files.filter(path -> SKIPPED.contains(path.getFileName().toString()))
+                .toList()
+                .stream()
+                // A skipped folder may sit inside one already deleted
+                .filter(path -> Files.exists(path, LinkOption.NOFOLLOW_LINKS))
+                .forEach(ProfileTemplate::delete);
+        }
+    }
+
+    private static void linkOrCopy(Path source, Path target) throws IOException {
+        if (REPLACED_BY_RENAME.contains(source.getFileName().toString())) {
+            try {
+                Files.createLink(target, source);
+                return;
+            } catch (IOException | UnsupportedOperationException e) {
+                // Different file system or no hard links: fall through to a copy
+            }
+        }
+        Files.copy(source, target, StandardCopyOption.COPY_ATTRIBUTES);
+    }
+
+    private static String key(ChromeOptions options) {
+        // Capabilities as a sorted map, so the same options always give the same template
+        String canonical = new TreeMap<>(options.asMap()).toString();
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(canonical.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 8);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,243 @@
+package com.saucedemo.session;
+
+import com.saucedemo.trace.CommandCounter;
+import com.saucedemo.trace.SessionEvent;
+import com.saucedemo.trace.TestInvocation;
+import io.github.boykaframework.actions.drivers.WindowActions;
+import io.github.boykaframework.enums.PlatformType;
+import io.github.boykaframework.manager.DriverSession;
+import io.github.boykaframework.manager.ParallelSession;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Creates and clears the browser session for the current test thread
+ * Whatever the mode, actions keep reaching the driver through ParallelSession.getSession()
+ */
+public final class SessionManager {
+
+    private static final Logger LOG = LogManager.getLogger(SessionManager.class);
+    private static final AtomicBoolean STRATEGY_WARNED = new AtomicBoolean();
+    private static final ThreadLocal<String> CONTEXT_ID = new ThreadLocal<>();
+    private static final ThreadLocal<DriverServicePool.Lease> SERVICE_LEASE = new ThreadLocal<>();
+    private static final ThreadLocal<Path> PROFILE_CLONE = new ThreadLocal<>();
+    private static final ThreadLocal<WebDriver> BOUND_DRIVER = new ThreadLocal<>();
+
+    private SessionManager() {
+    }
+
+    /**
+     * Open a browser session for the current thread using the run's {@link SessionMode}
+     * @param configKey the web config key, e.g. "test_web"
+     */
+    public static void createSession(String configKey) {
+        SessionEvent event = begin("createSession", configKey);
+        boolean succeeded = false;
+        try {
+            switch (SessionMode.current()) {
+                case CONTEXT -> createContextSession(WebConfig.forKey(configKey));
+                case SERVICE -> createServiceSession(WebConfig.forKey(configKey));
+                case PROCESS -> {
+                    if (ProfileTemplate.enabled()) {
+                        createTemplateSession(WebConfig.forKey(configKey));
+                    } else {
+                        createBoykaSession(configKey);
+                    }
+                }
+            }
+            countCommands();
+            succeeded = true;
+        } finally {
+            commit(event, succeeded);
+        }
+    }
+
+    /**
+     * Close the current thread's browser session
+     */
+    public static void clearSession() {
+        SessionEvent event = begin("clearSession", null);
+        boolean succeeded = false;
+        String contextId = CONTEXT_ID.get();
+        CONTEXT_ID.remove();
+        DriverServicePool.Lease lease = SERVICE_LEASE.get();
+        SERVICE_LEASE.remove();
+        Path profile = PROFILE_CLONE.get();
+        PROFILE_CLONE.remove();
+        WebDriver bound = BOUND_DRIVER.get();
+        BOUND_DRIVER.remove();
+        NetworkConditions.clear();
+        try {
+            // In context mode this quits only the attached driver; the shared Chrome keeps running
+            // In service mode it quits this test's Chrome; the shared chromedriver keeps running
+            ParallelSession.clearSession();
+            if (contextId != null) {
+                BrowserContextHost.running().disposeContext(contextId);
+            }
+            succeeded = true;
+        } finally {
+            if (bound != null) {
+                // Boyka only knows this session as a re-typed API session; make sure the driver we built is gone
+                quietly(bound);
+            }
+            if (lease != null) {
+                lease.release();
+            }
+            if (profile != null) {
+                ProfileTemplate.delete(profile);
+            }
+            commit(event, succeeded);
+        }
+    }
+
+    // Helper methods
+
+    private static SessionEvent begin(String operation, String configKey) {
+        SessionEvent event = new SessionEvent();
+        event.operation = operation;
+        event.configKey = configKey;
+        event.begin();
+        return event;
+    }
+
+    private static void commit(SessionEvent event, boolean succeeded) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.mode = SessionMode.current().name();
+            event.invocationId = TestInvocation.currentId();
+            event.succeeded = succeeded;
+            event.commit();
+        }
+    }
+
+    private static void createBoykaSession(String configKey) {
+        warnIfStrategyIgnored();
+        ParallelSession.createSession(PlatformType.WEB, configKey);
+        WindowActions.onWindow().maximize();
+        WebDriver driver = ParallelSession.getSession().getDriver();
+        if (emulateDefaultProfile(driver)) {
+            // Boyka has already opened base_url; load it again on the emulated network
+            driver.navigate().refresh();
+        }
+    }
+
+    private static void createContextSession(WebConfig config) {
+        BrowserContextHost host = BrowserContextHost.get(config);
+        String contextId = host.createContext();
+        // Open blank and navigate once the network profile is in place
+        String targetId = host.openTarget(contextId, "about:blank");
+
+        ChromeOptions options = new ChromeOptions();
+        options.setPageLoadStrategy(WebConfig.pageLoadStrategy());
+        WebDriver driver = host.attach(options);
+        driver.switchTo().window(targetId);
+        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(config.getTimeoutSeconds("page_load_timeout", 30)));
+        driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(config.getTimeoutSeconds("script_timeout", 10)));
+        emulateDefaultProfile(driver);
+        driver.get(config.getBaseUrl());
+
+        bindDriver(config.getConfigKey(), driver);
+        CONTEXT_ID.set(contextId);
+    }
+
+    private static void createServiceSession(WebConfig config) {
+        ChromeOptions options = config.toChromeOptions();
+        DriverServicePool pool = DriverServicePool.get(options);
+        if (ProfileTemplate.enabled()) {
+            useProfileClone(options);
+        }
+        DriverServicePool.Lease lease = pool.open(options);
+        SERVICE_LEASE.set(lease);
+        openBaseUrl(config, lease.getDriver());
+    }
+
+    /**
+     * Default mode with -Dchrome.profile.template=true
+     * Boyka reads its Chrome options once from boyka-config.json and has no per-session --user-data-dir,
+     * so this session's Chrome is launched here, on its own chromedriver as Boyka would, and bound to Boyka.
+     */
+    private static void createTemplateSession(WebConfig config) {
+        ChromeOptions options = config.toChromeOptions();
+        useProfileClone(options);
+        WebDriver driver = new ChromeDriver(options);
+        try {
+            openBaseUrl(config, driver);
+        } catch (RuntimeException e) {
+            quietly(driver);
+            throw e;
+        }
+    }
+
+    private static void useProfileClone(ChromeOptions options) {
+        Path profile = ProfileTemplate.forOptions(options).cloneProfile();
+        PROFILE_CLONE.set(profile);
+        options.addArguments("--user-data-dir=" + profile.toAbsolutePath(), "--no-first-run", "--no-default-browser-check");
+    }
+
+    private static void openBaseUrl(WebConfig config, WebDriver driver) {
+        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(config.getTimeoutSeconds("page_load_timeout", 30)));
+        driver.manage().timeouts().scriptTimeout(Duration.ofSeconds(config.getTimeoutSeconds("script_timeout", 10)));
+        driver.manage().window().maximize();
+        emulateDefaultProfile(driver);
+        driver.get(config.getBaseUrl());
+
+        bindDriver(config.getConfigKey(), driver);
+    }
+
+    // -Dnetwork.profile, applied before the session's first page load so the document and bundle are throttled too
+    private static boolean emulateDefaultProfile(WebDriver driver) {
+        if (NetworkConditions.NONE.equals(NetworkConditions.defaultProfile())) {
+            return false;
+        }
+        NetworkConditions.apply(driver, NetworkConditions.defaultProfile());
+        return true;
+    }
+
+    // Boyka builds its own capabilities, so only the modes that launch Chrome themselves honour the strategy
+    private static void warnIfStrategyIgnored() {
+        if (WebConfig.pageLoadStrategy() != PageLoadStrategy.NORMAL && STRATEGY_WARNED.compareAndSet(false, true)) {
+            LOG.warn("page.load.strategy={} needs -Dsession.mode=service or context; default sessions keep normal",
+                WebConfig.pageLoadStrategy());
+        }
+    }
+
+    // Swap in a decorated driver so every command is booked to the running action
+    private static void countCommands() {
+        DriverSession<WebDriver> session = ParallelSession.getSession();
+        session.setDriver(CommandCounter.decorate(session.getDriver()));
+    }
+
+    /**
+     * Register a driver we built ourselves with Boyka, so element actions use it.
+     * An API session holds no browser, so it gives us a DriverSession without launching Chrome.
+     * The swap is checked here, and clearSession quits the driver itself rather than trusting Boyka's API teardown.
+     */
+    private static void bindDriver(String configKey, WebDriver driver) {
+        ParallelSession.createSession(PlatformType.API, configKey);
+        DriverSession<WebDriver> session = ParallelSession.getSession();
+        session.setPlatformType(PlatformType.WEB);
+        session.setConfigKey(configKey);
+        session.setDriver(driver);
+        BOUND_DRIVER.set(driver);
+        if (session.getPlatformType() != PlatformType.WEB || session.getDriver() != driver) {
+            throw new IllegalStateException("Boyka did not accept the " + SessionMode.current() + " session's driver");
+        }
+    }
+
+    // RemoteWebDriver.quit is a no-op once the session has ended, so this is safe after Boyka's own quit
+    private static void quietly(WebDriver driver) {
+        try {
+            driver.quit();
+        } catch (RuntimeException e) {
+            LOG.debug("[session] quit after clearSession: {}", e.getMessage());
+        }
+    }
+}
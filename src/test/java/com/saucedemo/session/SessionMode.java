@@ -0,0 +1,28 @@
+package com.saucedemo.session;
+
+import java.util.Locale;
+
+/**
+ * How a test gets its browser
+ * Selected per run with -Dsession.mode=process|context|service
+ */
+public enum SessionMode {
+
+    /** One Chrome per test, launched by Boyka (default) */
+    PROCESS,
+
+    /** One shared Chrome, one isolated browser context per test */
+    CONTEXT,
+
+    /** One Chrome per test, opened on a shared, long-lived chromedriver service ({@link DriverServicePool}) */
+    SERVICE;
+
+    /**
+     * Resolve the mode for this run
+     * @return the mode from the session.mode system property, PROCESS if unset
+     */
+    public static SessionMode current() {
+        String value = System.getProperty("session.mode", PROCESS.name());
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
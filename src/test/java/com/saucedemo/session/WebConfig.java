@@ -0,0 +1,156 @@
+package com.saucedemo.session;
+
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Read-only view of the web settings in boyka-config.json
+ * Used by the session modes that build the browser themselves instead of through Boyka
+ */
+public class WebConfig {
+
+    private static final String CONFIG_FILE = "boyka-config.json";
+    private static volatile Map<String, Object> root;
+
+    private final String configKey;
+    private final Map<String, Object> web;
+
+    private WebConfig(String configKey, Map<String, Object> web) {
+        this.configKey = configKey;
+        this.web = web;
+    }
+
+    /**
+     * Load the settings for a web config key, e.g. "test_web"
+     * @param configKey the key under ui.web
+     * @return WebConfig for that key
+     */
+    public static WebConfig forKey(String configKey) {
+        Map<String, Object> web = section("ui", "web", configKey);
+        if (web.isEmpty()) {
+            throw new IllegalArgumentException("No ui.web." + configKey + " block in " + CONFIG_FILE);
+        }
+        return new WebConfig(configKey, web);
+    }
+
+    /**
+     * Look up a nested object in boyka-config.json
+     * @param path the keys to descend through
+     * @return the object at that path, or an empty map if any key is missing
+     */
+    @SuppressWarnings("unchecked")
+    public static Map<String, Object> section(String... path) {
+        Map<String, Object> current = root();
+        for (String key : path) {
+            Object next = current.get(key);
+            if (!(next instanceof Map)) {
+                return Collections.emptyMap();
+            }
+            current = (Map<String, Object>) next;
+        }
+        return current;
+    }
+
+    /**
+     * Page-load strategy for the run's sessions, -Dpage.load.strategy=normal|eager|none (default normal)
+     * With eager or none, navigation returns before the load event and actions await the page's readiness probe.
+     * @return the strategy
+     */
+    public static PageLoadStrategy pageLoadStrategy() {
+        String value = System.getProperty("page.load.strategy", "normal");
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(value.trim().toLowerCase(Locale.ROOT));
+        if (strategy == null) {
+            throw new IllegalArgumentException("Unknown page.load.strategy '" + value + "', use normal, eager or none");
+        }
+        return strategy;
+    }
+
+    public String getConfigKey() {
+        return configKey;
+    }
+
+    public String getBaseUrl() {
+        return (String) web.get("base_url");
+    }
+
+    public boolean isHeadless() {
+        return Boolean.parseBoolean(System.getProperty("headless", String.valueOf(web.get("headless"))));
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<String> getBrowserOptions() {
+        Object options = web.get("browser_options");
+        return options instanceof List ? (List<String>) options : Collections.emptyList();
+    }
+
+    @SuppressWarnings("unchecked")
+    public Map<String, Object> getBrowserPrefs() {
+        Object prefs = web.get("browser_prefs");
+        return prefs instanceof Map ? (Map<String, Object>) prefs : Collections.emptyMap();
+    }
+
+    /**
+     * Chrome options for a browser launched outside Boyka: browser_options, headless, browser_prefs
+     * and the run's {@link #pageLoadStrategy()}
+     * With a {@link ProfileTemplate}, --incognito is left out: an incognito window would ignore the cloned profile,
+     * and a fresh clone per session already starts without cookies or storage.
+     * @return new ChromeOptions
+     */
+    public ChromeOptions toChromeOptions() {
+        ChromeOptions options = new ChromeOptions();
+        options.addArguments(ProfileTemplate.enabled()
+            ? getBrowserOptions().stream().filter(option -> !"--incognito".equals(option)).toList()
+            : getBrowserOptions());
+        if (isHeadless()) {
+            options.addArguments("--headless=new");
+        }
+        options.setExperimentalOption("prefs", getBrowserPrefs());
+        options.setPageLoadStrategy(pageLoadStrategy());
+        return options;
+    }
+
+    /**
+     * Get a value from ui.timeout in seconds
+     * @param name the timeout name, e.g. "page_load_timeout"
+     * @param fallback the value to use when the entry is missing
+     * @return the timeout in seconds
+     */
+    public long getTimeoutSeconds(String name, long fallback) {
+        Object value = section("ui", "timeout").get(name);
+        return value instanceof Number ? ((Number) value).longValue() : fallback;
+    }
+
+    // Helper methods
+
+    private static Map<String, Object> root() {
+        if (root == null) {
+            synchronized (WebConfig.class) {
+                if (root == null) {
+                    root = load();
+                }
+            }
+        }
+        return root;
+    }
+
+    private static Map<String, Object> load() {
+        try (InputStream in = WebConfig.class.getClassLoader().getResourceAsStream(CONFIG_FILE)) {
+            if (in == null) {
+                throw new IllegalStateException(CONFIG_FILE + " not found on the test classpath");
+            }
+            return new Json().toType(new String(in.readAllBytes(), StandardCharsets.UTF_8), Json.MAP_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + CONFIG_FILE, e);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.saucedemo.slo;
+
+/**
+ * One step that took longer than its warn or fail threshold
+ */
+public class LatencyBreach {
+
+    /** Which threshold was crossed */
+    public enum Level { WARN, FAIL }
+
+    private final String step;
+    private final String user;
+    private final long elapsedMs;
+    private final LatencyBudget budget;
+    private final Level level;
+
+    public LatencyBreach(String step, String user, long elapsedMs, LatencyBudget budget, Level level) {
+        this.step = step;
+        this.user = user;
+        this.elapsedMs = elapsedMs;
+        this.budget = budget;
+        this.level = level;
+    }
+
+    public String getStep() {
+        return step;
+    }
+
+    public String getUser() {
+        return user;
+    }
+
+    public long getElapsedMs() {
+        return elapsedMs;
+    }
+
+    public LatencyBudget getBudget() {
+        return budget;
+    }
+
+    public Level getLevel() {
+        return level;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %s took %d ms for %s (%s)", level, step, elapsedMs,
+            user == null ? "any user" : user, budget);
+    }
+}
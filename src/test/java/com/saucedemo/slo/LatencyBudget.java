@@ -0,0 +1,47 @@
+package com.saucedemo.slo;
+
+/**
+ * Warn and fail thresholds for one named step, in milliseconds
+ * A step slower than warnMs is reported; slower than failMs it fails the test
+ */
+public class LatencyBudget {
+
+    private final String step;
+    private final long warnMs;
+    private final long failMs;
+
+    public LatencyBudget(String step, long warnMs, long failMs) {
+        if (warnMs > failMs) {
+            throw new IllegalArgumentException(String.format("%s: warn_ms %d is above fail_ms %d", step, warnMs, failMs));
+        }
+        this.step = step;
+        this.warnMs = warnMs;
+        this.failMs = failMs;
+    }
+
+    public String getStep() {
+        return step;
+    }
+
+    public long getWarnMs() {
+        return warnMs;
+    }
+
+    public long getFailMs() {
+        return failMs;
+    }
+
+    /**
+     * Same budget with both thresholds multiplied, e.g. for a slower CI machine
+     * @param factor the multiplier
+     * @return scaled budget
+     */
+    public LatencyBudget scaled(double factor) {
+        return factor == 1.0 ? this : new LatencyBudget(step, Math.round(warnMs * factor), Math.round(failMs * factor));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("warn %d ms / fail %d ms", warnMs, failMs);
+    }
+}
@@ -0,0 +1,23 @@
+package com.saucedemo.slo;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * Fails a test whose steps were functionally fine but slower than their fail threshold
+ * Kept apart from ordinary assertion failures so reports and retries can tell them apart
+ */
+public class LatencyBudgetExceeded extends AssertionError {
+
+    private final transient List<LatencyBreach> breaches;
+
+    public LatencyBudgetExceeded(List<LatencyBreach> breaches) {
+        super("Latency budget exceeded: " + breaches.stream().map(LatencyBreach::toString)
+            .collect(Collectors.joining("; ")));
+        this.breaches = List.copyOf(breaches);
+    }
+
+    public List<LatencyBreach> getBreaches() {
+        return breaches;
+    }
+}
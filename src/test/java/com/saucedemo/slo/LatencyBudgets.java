@@ -0,0 +1,107 @@
+package com.saucedemo.slo;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Latency budgets per step, with per-user and per-network-profile overrides, read from latency-budgets.json on the test classpath
+ * A network profile's entry for a step replaces the user's, which replaces the default entry;
+ * steps without any entry are not checked.
+ * -Dslo.budgets picks another file, -Dslo.scale multiplies every threshold (default 1.0)
+ */
+public final class LatencyBudgets {
+
+    private static final String DEFAULT_SECTION = "default";
+    private static final String USERS_SECTION = "users";
+    private static final String NETWORK_SECTION = "network";
+    private static volatile LatencyBudgets instance;
+
+    private final Map<String, LatencyBudget> defaults;
+    private final Map<String, Map<String, LatencyBudget>> users;
+    private final Map<String, Map<String, LatencyBudget>> networks;
+
+    private LatencyBudgets(Map<String, LatencyBudget> defaults, Map<String, Map<String, LatencyBudget>> users,
+                           Map<String, Map<String, LatencyBudget>> networks) {
+        this.defaults = defaults;
+        this.users = users;
+        this.networks = networks;
+    }
+
+    /**
+     * Get the budgets of this run, loading the file on first use
+     * @return LatencyBudgets
+     */
+    public static LatencyBudgets get() {
+        if (instance == null) {
+            synchronized (LatencyBudgets.class) {
+                if (instance == null) {
+                    instance = load(System.getProperty("slo.budgets", "latency-budgets.json"));
+                }
+            }
+        }
+        return instance;
+    }
+
+    /**
+     * Find the budget for a step
+     * @param step the step name, e.g. "login.inventoryVisible"
+     * @param user the logged-in user, or null
+     * @return the user's budget, else the default one, else null
+     */
+    public LatencyBudget forStep(String step, String user) {
+        LatencyBudget budget = users.getOrDefault(user, Collections.emptyMap()).get(step);
+        return budget != null ? budget : defaults.get(step);
+    }
+
+    /**
+     * Find the budget for a step on an emulated network
+     * @param step the step name
+     * @param user the logged-in user, or null
+     * @param network the network profile, or null when not emulated
+     * @return the profile's budget, else as {@link #forStep(String, String)}
+     */
+    public LatencyBudget forStep(String step, String user, String network) {
+        LatencyBudget budget = network == null ? null : networks.getOrDefault(network, Collections.emptyMap()).get(step);
+        return budget != null ? budget : forStep(step, user);
+    }
+
+    // Helper methods
+
+    @SuppressWarnings("unchecked")
+    private static LatencyBudgets load(String file) {
+        Map<String, Object> root;
+        try (InputStream in = LatencyBudgets.class.getClassLoader().getResourceAsStream(file)) {
+            if (in == null) {
+                throw new IllegalStateException(file + " not found on the test classpath");
+            }
+            root = new Json().toType(new String(in.readAllBytes(), StandardCharsets.UTF_8), Json.MAP_TYPE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + file, e);
+        }
+        double scale = Double.parseDouble(System.getProperty("slo.scale", "1.0"));
+        Map<String, Map<String, LatencyBudget>> users = new HashMap<>();
+        Object userSection = root.getOrDefault(USERS_SECTION, Collections.emptyMap());
+        ((Map<String, Object>) userSection).forEach((user, steps) -> users.put(user, parse(steps, scale)));
+        Map<String, Map<String, LatencyBudget>> networks = new HashMap<>();
+        Object networkSection = root.getOrDefault(NETWORK_SECTION, Collections.emptyMap());
+        ((Map<String, Object>) networkSection).forEach((network, steps) -> networks.put(network, parse(steps, scale)));
+        return new LatencyBudgets(parse(root.get(DEFAULT_SECTION), scale), users, networks);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, LatencyBudget> parse(Object section, double scale) {
+        Map<String, LatencyBudget> budgets = new HashMap<>();
+        if (section instanceof Map) {
+            ((Map<String, Map<String, Number>>) section).forEach((step, limits) -> budgets.put(step,
+                new LatencyBudget(step, limits.get("warn_ms").longValue(), limits.get("fail_ms").longValue()).scaled(scale)));
+        }
+        return budgets;
+    }
+}
@@ -0,0 +1,100 @@
+package com.saucedemo.slo;
+
+import com.saucedemo.session.NetworkConditions;
+import com.saucedemo.trace.TestInvocation;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Latency assertions for actions and tests
+ * Times a step and checks it against its budget in {@link LatencyBudgets} for the logged-in user and network profile:
+ * <pre>
+ * InventoryPageActions inventory = Slo.within("login.inventoryVisible", () -&gt; clickLoginButton());
+ * </pre>
+ * Breaches are collected per test invocation and never thrown from here, so the functional checks
+ * still run; SloListener reports them and fails the test on a fail-threshold breach.
+ */
+public final class Slo {
+
+    private static final Logger LOG = LogManager.getLogger(Slo.class);
+    private static final Map<String, List<LatencyBreach>> BREACHES = new ConcurrentHashMap<>();
+
+    private Slo() {
+    }
+
+    /**
+     * Run a step and check how long it took
+     * @param step the budget name, e.g. "inventory.addToCart"
+     * @param body the step
+     * @return whatever the step returns
+     */
+    public static <T> T within(String step, Supplier<T> body) {
+        if (SloMode.current() == SloMode.OFF) {
+            return body.get();
+        }
+        long start = System.nanoTime();
+        T value = body.get();
+        // Only completed steps are checked; a step that threw is already a functional failure
+        check(step, (System.nanoTime() - start) / 1_000_000);
+        return value;
+    }
+
+    /**
+     * Run a step that returns nothing and check how long it took
+     * @param step the budget name
+     * @param body the step
+     */
+    public static void within(String step, Runnable body) {
+        within(step, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    /**
+     * Check a duration measured elsewhere against the step's budget
+     * @param step the budget name
+     * @param elapsedMs how long the step took
+     * @return the breach, or null if within budget or no budget is defined
+     */
+    public static LatencyBreach check(String step, long elapsedMs) {
+        if (SloMode.current() == SloMode.OFF) {
+            return null;
+        }
+        TestInvocation invocation = TestInvocation.current();
+        String user = invocation == null ? null : invocation.getUser();
+        String network = NetworkConditions.current();
+        LatencyBudget budget = LatencyBudgets.get().forStep(step, user, network);
+        if (budget == null) {
+            LOG.debug("No latency budget for {}", step);
+            return null;
+        }
+        if (elapsedMs <= budget.getWarnMs()) {
+            return null;
+        }
+        LatencyBreach breach = new LatencyBreach(NetworkConditions.keyFor(step), user, elapsedMs, budget,
+            elapsedMs > budget.getFailMs() ? LatencyBreach.Level.FAIL : LatencyBreach.Level.WARN);
+        LOG.warn("[slo] {}", breach);
+        if (invocation != null) {
+            BREACHES.computeIfAbsent(invocation.getId(), id -> Collections.synchronizedList(new ArrayList<>())).add(breach);
+        }
+        return breach;
+    }
+
+    /**
+     * Take the breaches recorded for a test invocation
+     * @param invocationId the invocation id
+     * @return the breaches, empty if none
+     */
+    public static List<LatencyBreach> drain(String invocationId) {
+        List<LatencyBreach> breaches = BREACHES.remove(invocationId);
+        return breaches == null ? Collections.emptyList() : breaches;
+    }
+}
@@ -0,0 +1,28 @@
+package com.saucedemo.slo;
+
+import java.util.Locale;
+
+/**
+ * What happens when a step breaks its latency budget
+ * Selected per run with -Dslo.mode=enforce|report|off
+ */
+public enum SloMode {
+
+    /** Fail-threshold breaches fail the test; warn breaches are reported (default) */
+    ENFORCE,
+
+    /** Every breach is reported, none fails a test */
+    REPORT,
+
+    /** Steps are not timed against budgets */
+    OFF;
+
+    /**
+     * Resolve the mode for this run
+     * @return the mode from the slo.mode system property, ENFORCE if unset
+     */
+    public static SloMode current() {
+        String value = System.getProperty("slo.mode", ENFORCE.name());
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
@@ -0,0 +1,98 @@
+package com.saucedemo.standin;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.util.Map;
+import java.util.concurrent.Executors;
+
+/**
+ * Static local stand-in for saucedemo.com, served from src/test/resources/standin
+ * Pages keep the real site's ids, classes and flow, so the action classes run against it unchanged.
+ * Used for load, benchmark and offline runs: point a config's base_url at http://localhost:&lt;port&gt;/
+ */
+public final class StandInServer {
+
+    private static final Logger LOG = LogManager.getLogger(StandInServer.class);
+    private static final String ROOT = "standin";
+    private static final Map<String, String> CONTENT_TYPES = Map.of(
+        "html", "text/html; charset=utf-8",
+        "js", "application/javascript; charset=utf-8",
+        "css", "text/css; charset=utf-8");
+
+    private static HttpServer server;
+
+    private StandInServer() {
+    }
+
+    /**
+     * Start the stand-in if base_url points at this machine and nothing is serving it yet
+     * @param baseUrl the configured base_url
+     * @return true if the stand-in is (now) running for that url
+     */
+    public static synchronized boolean startIfLocal(String baseUrl) {
+        URI uri = URI.create(baseUrl);
+        String host = uri.getHost();
+        if (!"localhost".equals(host) && !"127.0.0.1".equals(host)) {
+            return false;
+        }
+        if (server != null) {
+            return true;
+        }
+        int port = uri.getPort() > 0 ? uri.getPort() : 80;
+        try {
+            server = HttpServer.create(new InetSocketAddress(host, port), 0);
+        } catch (IOException e) {
+            // Something else already listens there, e.g. a stand-in started by another JVM
+            LOG.info("Port {} already in use, assuming a stand-in is running: {}", port, e.getMessage());
+            return true;
+        }
+        server.createContext("/", StandInServer::serve);
+        server.setExecutor(Executors.newCachedThreadPool(task -> {
+            Thread thread = new Thread(task, "standin-http");
+            thread.setDaemon(true);
+            return thread;
+        }));
+        server.start();
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> server.stop(0), "standin-shutdown"));
+        LOG.info("SauceDemo stand-in serving {}", baseUrl);
+        return true;
+    }
+
+    // Helper methods
+
+    private static void serve(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath();
+        if ("/".equals(path)) {
+            path = "/index.html";
+        }
+        byte[] body = path.contains("..") ? null : resource(ROOT + path);
+        try (OutputStream out = exchange.getResponseBody()) {
+            if (body == null) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            String extension = path.substring(path.lastIndexOf('.') + 1);
+            exchange.getResponseHeaders().set("Content-Type", CONTENT_TYPES.getOrDefault(extension, "application/octet-stream"));
+            exchange.getResponseHeaders().set("Cache-Control", "max-age=3600");
+            exchange.sendResponseHeaders(200, body.length);
+            out.write(body);
+        }
+    }
+
+    private static byte[] resource(String name) {
+        try (InputStream in = StandInServer.class.getClassLoader().getResourceAsStream(name)) {
+            return in == null ? null : in.readAllBytes();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
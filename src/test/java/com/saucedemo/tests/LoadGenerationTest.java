@@ -0,0 +1,38 @@
+package com.saucedemo.tests;
+
+import com.saucedemo.load.LoadMetrics;
+import com.saucedemo.load.LoadProfile;
+import com.saucedemo.load.LoadRunner;
+import org.testng.Reporter;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.testng.Assert.*;
+
+/**
+ * Load-generation entry point, run through load-testng.xml: mvn test -Pload
+ * Drives the checkout journey with virtual users and writes target/load/report.json (-Dload.report)
+ */
+public class LoadGenerationTest {
+
+    @Test(description = "Checkout journey under concurrent virtual users")
+    public void checkoutJourneyUnderLoad() {
+        LoadProfile profile = LoadProfile.fromSystemProperties();
+        LoadMetrics metrics = new LoadRunner(profile).run();
+
+        Path report = Paths.get(System.getProperty("load.report", "target/load/report.json"));
+        try {
+            metrics.write(profile, report);
+        } catch (IOException e) {
+            fail("Could not write load report " + report, e);
+        }
+        Reporter.log(metrics.summary());
+        Reporter.log("Load report: " + report.toAbsolutePath());
+
+        // Measures behaviour under load; only a run that never got a journey through is a failure
+        assertTrue(metrics.getJourneys() > 0, "No journey finished within " + profile.getDurationSeconds() + " s");
+    }
+}
@@ -0,0 +1,37 @@
+package com.saucedemo.tests;
+
+import com.saucedemo.load.PersonaComparison;
+import com.saucedemo.load.PersonaReport;
+import org.testng.Reporter;
+import org.testng.annotations.Test;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import static org.testng.Assert.*;
+
+/**
+ * Persona latency comparison entry point, run through personas-testng.xml: mvn test -Ppersonas
+ * Runs the checkout journey for every persona side by side and writes target/personas/comparison.json and
+ * comparison.md (-Dpersonas.report.dir)
+ */
+public class PersonaLatencyTest {
+
+    @Test(description = "Step latencies of every persona compared with standard_user")
+    public void personaLatencyComparison() {
+        PersonaReport report = PersonaComparison.fromSystemProperties().run();
+
+        Path dir = Paths.get(System.getProperty("personas.report.dir", "target/personas"));
+        try {
+            report.write(dir);
+        } catch (IOException e) {
+            fail("Could not write persona comparison to " + dir, e);
+        }
+        Reporter.log(report.table());
+        Reporter.log("Persona comparison: " + dir.resolve("comparison.md").toAbsolutePath());
+
+        // Characterises the personas; only a baseline that never got through leaves nothing to compare against
+        assertTrue(report.baselineJourneys() > 0, "The baseline persona finished no journey");
+    }
+}
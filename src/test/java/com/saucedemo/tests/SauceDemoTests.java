@@ -1,10 +1,11 @@
 package com.saucedemo.tests;
 
-import io.github.boykaframework.actions.drivers.WindowActions;
+import com.saucedemo.actions.Waits;
+import com.saucedemo.resilience.SiteGuard;
+import com.saucedemo.session.SessionManager;
 import io.github.boykaframework.actions.elements.ClickableActions;
 import io.github.boykaframework.actions.elements.TextBoxActions;
 import io.github.boykaframework.builders.Locator;
-import io.github.boykaframework.enums.PlatformType;
 import org.openqa.selenium.By;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
@@ -12,8 +13,6 @@ import org.testng.annotations.Test;
 
 import static io.github.boykaframework.actions.elements.ElementActions.onElement;
 import io.github.boykaframework.exception.FrameworkError;
-import static io.github.boykaframework.manager.ParallelSession.clearSession;
-import static io.github.boykaframework.manager.ParallelSession.createSession;
 import static io.github.boykaframework.manager.ParallelSession.getSession;
 import org.openqa.selenium.JavascriptExecutor;
 
@@ -116,31 +115,16 @@ public class SauceDemoTests {
 
     @BeforeMethod
     public void setUp() {
-        int attempts = 0;
-        while (true) {
-            try {
-                createSession(PlatformType.WEB, "test_web");
-                WindowActions.onWindow().maximize(); // Window resize also handled via config if set
-                // Basic smoke check: username field should be present quickly
-                waitForIdPresent("user-name", 3000);
-                break;
-            } catch (FrameworkError fe) {
-                String msg = fe.getMessage();
-                if (msg != null && msg.contains("ERR_CONNECTION_RESET") && attempts < 1) {
-                    attempts++;
-                    clearSession();
-                    sleep(1200); // brief pause before retry
-                    continue;
-                }
-                throw fe; // rethrow non-retryable
-            }
-        }
+        // Retries connectivity failures with backoff; skips fast while the site is down
+        SiteGuard.createSession("test_web");
+        // Basic smoke check: username field should be present quickly
+        Waits.forIdPresent("user-name", 3000);
         // Framework already navigates to base_url defined in config; avoid duplicate navigation
     }
 
     @AfterMethod
     public void tearDown() {
-        clearSession();
+        SessionManager.clearSession();
     }
 
     /**
@@ -221,9 +205,9 @@ public class SauceDemoTests {
         
         // Go to cart
         ClickableActions.withMouse(CART_LINK).click();
-        waitForUrlContains("cart" , 4000);
+        Waits.forUrlContains("cart" , 4000);
         // Verify item is in cart using lightweight polling first to avoid long explicit wait
-        if (!waitForCssPresent(".cart_item", 3000)) {
+        if (!Waits.forCssPresent(".cart_item", 3000)) {
             // If not detected quickly, fall back to framework assertion (may throw)
             onElement(CART_ITEM).verifyIsDisplayed().isTrue();
         }
@@ -258,7 +242,7 @@ public class SauceDemoTests {
     // Wait for inventory page to load and ensure add-to-cart button appears for reliability
     onElement(INVENTORY_CONTAINER).verifyIsDisplayed().isTrue();
     // Lightweight quick DOM polling for add button before hard assertion
-    waitForIdPresent("add-to-cart-sauce-labs-backpack", 2000);
+    Waits.forIdPresent("add-to-cart-sauce-labs-backpack", 2000);
     onElement(ADD_TO_CART_BACKPACK).verifyIsDisplayed().isTrue();
     }
 
@@ -267,10 +251,10 @@ public class SauceDemoTests {
         onElement(ADD_TO_CART_BACKPACK).verifyIsDisplayed().isTrue();
         ClickableActions.withMouse(ADD_TO_CART_BACKPACK).click();
         // Lightweight JS polling for button id swap (expected within 2s)
-        if (!waitForIdPresent("remove-sauce-labs-backpack", 2500)) {
+        if (!Waits.forIdPresent("remove-sauce-labs-backpack", 2500)) {
             // Retry once if not flipped quickly
             ClickableActions.withMouse(ADD_TO_CART_BACKPACK).click();
-            waitForIdPresent("remove-sauce-labs-backpack", 4000);
+            Waits.forIdPresent("remove-sauce-labs-backpack", 4000);
         }
         // Final assertion using framework
         onElement(REMOVE_FROM_CART_BACKPACK).verifyIsDisplayed().isTrue();
@@ -283,10 +267,10 @@ public class SauceDemoTests {
         }
         ClickableActions.withMouse(REMOVE_FROM_CART_BACKPACK).click();
         // Wait for id to switch back
-        if (!waitForIdPresent("add-to-cart-sauce-labs-backpack", 3000)) {
+        if (!Waits.forIdPresent("add-to-cart-sauce-labs-backpack", 3000)) {
             if (isRemoveButtonVisible()) { // still remove, retry click once
                 ClickableActions.withMouse(REMOVE_FROM_CART_BACKPACK).click();
-                waitForIdPresent("add-to-cart-sauce-labs-backpack", 4000);
+                Waits.forIdPresent("add-to-cart-sauce-labs-backpack", 4000);
             }
         }
         onElement(ADD_TO_CART_BACKPACK).verifyIsDisplayed().isTrue();
@@ -331,45 +315,7 @@ public class SauceDemoTests {
         } catch (AssertionError | FrameworkError e) { return false; }
     }
 
-    private boolean waitForIdPresent(String id, long timeoutMs) {
-        try {
-            JavascriptExecutor js = (JavascriptExecutor) getSession().getDriver();
-            long start = System.currentTimeMillis();
-            while (System.currentTimeMillis() - start < timeoutMs) {
-                Object exists = js.executeScript("return document.getElementById(arguments[0]) !== null;", id);
-                if (Boolean.TRUE.equals(exists)) return true;
-                sleep(100);
-            }
-        } catch (Exception ignored) { }
-        return false;
-    }
-
-    private boolean waitForCssPresent(String selector, long timeoutMs) {
-        try {
-            JavascriptExecutor js = (JavascriptExecutor) getSession().getDriver();
-            long start = System.currentTimeMillis();
-            while (System.currentTimeMillis() - start < timeoutMs) {
-                Long count = (Long) js.executeScript("return document.querySelectorAll(arguments[0]).length;", selector);
-                if (count != null && count > 0) return true;
-                sleep(100);
-            }
-        } catch (Exception ignored) {}
-        return false;
-    }
-
-    private boolean waitForUrlContains(String fragment, long timeoutMs) {
-        try {
-            long start = System.currentTimeMillis();
-            while (System.currentTimeMillis() - start < timeoutMs) {
-                String url = getSession().getDriver().getCurrentUrl();
-                if (url.contains(fragment)) return true;
-                sleep(100);
-            }
-        } catch (Exception ignored) {}
-        return false;
-    }
-
     private void sleep(long millis) {
-        try { Thread.sleep(millis); } catch (InterruptedException ignored) { }
+        Waits.sleep(millis);
     }
 }
@@ -2,78 +2,59 @@ package com.saucedemo.tests;
 
 import com.saucedemo.actions.*;
 import com.saucedemo.dataproviders.TestDataProvider;
-import com.saucedemo.pages.*;
-import io.github.boykaframework.actions.drivers.WindowActions;
-import io.github.boykaframework.enums.PlatformType;
-import io.github.boykaframework.exception.FrameworkError;
-import org.openqa.selenium.JavascriptExecutor;
+import com.saucedemo.pages.Product;
+import com.saucedemo.slo.Slo;
 import org.testng.annotations.AfterMethod;
 import org.testng.annotations.BeforeMethod;
+import org.testng.annotations.Optional;
+import org.testng.annotations.Parameters;
 import org.testng.annotations.Test;
 
-import static io.github.boykaframework.manager.ParallelSession.*;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
 import static org.testng.Assert.*;
 
 /**
  * SauceDemo UI automation tests using Boyka Framework with Page Object Model
  * This test class implements data-driven testing with separated actions
  * Pages contain only locators, Actions contain all methods
+ * Written against the action interfaces, so -Dactions.backend=model runs the same tests without a browser
  */
 public class SauceDemoTestsRefactored {
 
-    // Action objects - contain all methods
-    private LoginPageActions loginActions;
-    private InventoryPageActions inventoryActions;
-    private CartPageActions cartActions;
-    private CheckoutPageActions checkoutActions;
-    private ConfirmationPageActions confirmationActions;
+    // Login page of this thread's test; the actions it leads to stay local to the test, so parallel
+    // methods never share them (with the model backend each test owns its own ShopModel)
+    private final ThreadLocal<LoginActions> login = new ThreadLocal<>();
 
     @BeforeMethod
-    public void setUp() {
-        int attempts = 0;
-        while (true) {
-            try {
-                createSession(PlatformType.WEB, "test_web");
-                WindowActions.onWindow().maximize();
-                
-                // Wait for page to load
-                waitForIdPresent("user-name", 3000);
-                
-                // Initialize page objects (locators) and action objects (methods)
-                LoginPage loginPage = new LoginPage();
-                loginActions = new LoginPageActions(loginPage);
-                break;
-            } catch (FrameworkError fe) {
-                String msg = fe.getMessage();
-                if (msg != null && msg.contains("ERR_CONNECTION_RESET") && attempts < 1) {
-                    attempts++;
-                    clearSession();
-                    sleep(1200);
-                    continue;
-                }
-                throw fe;
-            }
-        }
+    @Parameters("configKey")
+    public void setUp(@Optional("test_web") String configKey) {
+        // Opens the login page on the run's backend: a browser session, or the in-JVM model
+        login.set(ActionBackend.current().open(configKey));
     }
 
     @AfterMethod
     public void tearDown() {
-        clearSession();
+        login.remove();
+        ActionBackend.current().close();
     }
 
     /**
-     * Test 1: Valid login with data-driven approach - 5 scenarios
+     * Test 1: Valid login with data-driven approach - 2 scenarios
      * Uses data provider to test multiple valid user credentials
      */
     @Test(
         priority = 1, 
-        description = "Valid login test with 5 user credentials",
+        description = "Valid login test with 2 user credentials",
         dataProvider = "validLoginData",
         dataProviderClass = TestDataProvider.class
     )
     public void testValidLoginWithDataProvider(String username, String password) {
+        LoginActions loginActions = login.get();
         // Perform login using actions
-        inventoryActions = loginActions.login(username, password);
+        InventoryActions inventoryActions = loginActions.login(username, password);
         
         // Verify successful login
         assertTrue(inventoryActions.isInventoryDisplayed(), 
@@ -81,16 +62,17 @@ public class SauceDemoTestsRefactored {
     }
 
     /**
-     * Test 2: Invalid login with data-driven approach - 5 scenarios
+     * Test 2: Invalid login with data-driven approach - 1 scenario
      * Uses data provider to test various invalid login scenarios
      */
     @Test(
         priority = 2, 
-        description = "Invalid login test with 5 invalid credentials",
+        description = "Invalid login test with 1 invalid credential",
         dataProvider = "invalidLoginData",
         dataProviderClass = TestDataProvider.class
     )
     public void testInvalidLoginWithDataProvider(String username, String password, String expectedError) {
+        LoginActions loginActions = login.get();
         // Attempt login with invalid credentials
         loginActions.attemptLogin(username, password);
         
@@ -105,18 +87,19 @@ public class SauceDemoTestsRefactored {
     }
 
     /**
-     * Test 3: Add product to cart using standard user - 5 scenarios
+     * Test 3: Add product to cart using standard user - 1 scenario
      * Uses page object methods for cart operations
      */
     @Test(
         priority = 3, 
-        description = "Add product to cart and verify - 5 data sets",
+        description = "Add product to cart and verify - 1 data set",
         dataProvider = "addToCartData",
         dataProviderClass = TestDataProvider.class
     )
     public void testAddProductToCart(String username, String password) {
+        LoginActions loginActions = login.get();
         // Login
-        inventoryActions = loginActions.login(username, password);
+        InventoryActions inventoryActions = loginActions.login(username, password);
         inventoryActions.verifyPageLoaded();
         
         // Add product to cart
@@ -132,18 +115,19 @@ public class SauceDemoTestsRefactored {
     }
 
     /**
-     * Test 4: Remove product from cart - 5 scenarios
+     * Test 4: Remove product from cart - 1 scenario
      * Demonstrates cart management using page objects
      */
     @Test(
         priority = 4, 
-        description = "Remove product from cart and verify - 5 data sets",
+        description = "Remove product from cart and verify - 1 data set",
         dataProvider = "removeFromCartData",
         dataProviderClass = TestDataProvider.class
     )
     public void testRemoveProductFromCart(String username, String password) {
+        LoginActions loginActions = login.get();
         // Login and add item
-        inventoryActions = loginActions.login(username, password);
+        InventoryActions inventoryActions = loginActions.login(username, password);
         inventoryActions.verifyPageLoaded();
         inventoryActions.addBackpackToCart();
         
@@ -160,36 +144,37 @@ public class SauceDemoTestsRefactored {
     }
 
     /**
-     * Test 5: Complete checkout flow with data-driven checkout information - 5 scenarios
+     * Test 5: Complete checkout flow with data-driven checkout information - 1 scenario
      * Uses data provider for checkout details including edge cases (hyphens, apostrophes, international names)
      */
     @Test(
         priority = 5, 
-        description = "Complete checkout flow with 5 diverse checkout data sets (edge cases included)",
+        description = "Complete checkout flow with 1 checkout data set",
         dataProvider = "checkoutData",
         dataProviderClass = TestDataProvider.class
     )
     public void testCompleteCheckoutFlow(String firstName, String lastName, String zipCode) {
+        LoginActions loginActions = login.get();
         // Login with standard user
-        inventoryActions = loginActions.login("standard_user", "secret_sauce");
+        InventoryActions inventoryActions = loginActions.login("standard_user", "secret_sauce");
         inventoryActions.verifyPageLoaded();
         
         // Add product to cart
         inventoryActions.addBackpackToCart();
         
         // Go to cart
-        cartActions = inventoryActions.goToCart();
+        CartActions cartActions = inventoryActions.goToCart();
         cartActions.verifyCartItemPresent();
         
         // Proceed to checkout
-        checkoutActions = cartActions.proceedToCheckout();
-        
-        // Complete checkout with provided data
-        confirmationActions = checkoutActions.completeCheckout(firstName, lastName, zipCode);
+        CheckoutActions checkoutActions = cartActions.proceedToCheckout();
         
-        // Verify order completion
-        assertTrue(confirmationActions.isConfirmationDisplayed(), 
-            "Confirmation page should be displayed");
+        // Complete checkout with provided data, within the checkout latency budget
+        ConfirmationActions confirmationActions = Slo.within("checkout.orderConfirmed", () -> {
+            ConfirmationActions confirmation = checkoutActions.completeCheckout(firstName, lastName, zipCode);
+            assertTrue(confirmation.isConfirmationDisplayed(), "Confirmation page should be displayed");
+            return confirmation;
+        });
         
         String confirmationMsg = confirmationActions.getConfirmationMessage();
         assertTrue(confirmationMsg.contains("Thank you for your order"), 
@@ -197,45 +182,47 @@ public class SauceDemoTestsRefactored {
     }
 
     /**
-     * Test 6: End-to-end checkout with combined data - 5 scenarios
+     * Test 6: End-to-end checkout with combined data - 10 pairwise scenarios
      * Uses full checkout data provider with user credentials and checkout info
      * Tests different users with diverse names (edge cases, special chars, international)
      */
     @Test(
         priority = 6, 
-        description = "End-to-end checkout with 5 combined user and diverse checkout data sets",
+        description = "End-to-end checkout with 10 pairwise user and diverse checkout data sets",
         dataProvider = "fullCheckoutData",
         dataProviderClass = TestDataProvider.class
     )
     public void testEndToEndCheckout(String username, String password, 
                                      String firstName, String lastName, String zipCode) {
+        LoginActions loginActions = login.get();
         // Complete flow using actions
-        inventoryActions = loginActions.login(username, password);
+        InventoryActions inventoryActions = loginActions.login(username, password);
         inventoryActions.verifyPageLoaded();
         inventoryActions.addBackpackToCart();
         
-        cartActions = inventoryActions.goToCart();
+        CartActions cartActions = inventoryActions.goToCart();
         assertTrue(cartActions.hasItems(), "Cart should have items");
         
-        checkoutActions = cartActions.proceedToCheckout();
-        confirmationActions = checkoutActions.completeCheckout(firstName, lastName, zipCode);
+        CheckoutActions checkoutActions = cartActions.proceedToCheckout();
+        ConfirmationActions confirmationActions = checkoutActions.completeCheckout(firstName, lastName, zipCode);
         
         // Verify successful order
         confirmationActions.verifyConfirmationMessage("Thank you for your order!");
     }
 
     /**
-     * Test 7: Verify inventory page elements after login - 5 scenarios
+     * Test 7: Verify inventory page elements after login - 1 scenario
      */
     @Test(
         priority = 7, 
-        description = "Verify inventory page loads correctly - 5 data sets",
+        description = "Verify inventory page loads correctly - 1 data set",
         dataProvider = "inventoryPageData",
         dataProviderClass = TestDataProvider.class
     )
     public void testInventoryPageElements(String username, String password) {
+        LoginActions loginActions = login.get();
         // Login
-        inventoryActions = loginActions.login(username, password);
+        InventoryActions inventoryActions = loginActions.login(username, password);
         
         // Verify page loaded
         inventoryActions.verifyPageLoaded();
@@ -250,17 +237,18 @@ public class SauceDemoTestsRefactored {
     }
 
     /**
-     * Test 8: Test cart badge updates correctly - 5 scenarios
+     * Test 8: Test cart badge updates correctly - 1 scenario
      */
     @Test(
         priority = 8, 
-        description = "Verify cart badge updates when adding items - 5 data sets",
+        description = "Verify cart badge updates when adding items - 1 data set",
         dataProvider = "cartBadgeData",
         dataProviderClass = TestDataProvider.class
     )
     public void testCartBadgeUpdate(String username, String password) {
+        LoginActions loginActions = login.get();
         // Login
-        inventoryActions = loginActions.login(username, password);
+        InventoryActions inventoryActions = loginActions.login(username, password);
         inventoryActions.verifyPageLoaded();
         
         // Initial state - no badge
@@ -280,27 +268,73 @@ public class SauceDemoTestsRefactored {
         inventoryActions.removeBackpackFromCart();
         
         // Badge should disappear
-        sleep(1000); // Give time for badge to disappear
+        Waits.sleep(1000); // Give time for badge to disappear
         assertFalse(inventoryActions.isCartBadgeDisplayed(), 
             "Cart badge should disappear after removing all items");
     }
 
-    // Helper methods
-    
-    private boolean waitForIdPresent(String id, long timeoutMs) {
-        try {
-            JavascriptExecutor js = (JavascriptExecutor) getSession().getDriver();
-            long start = System.currentTimeMillis();
-            while (System.currentTimeMillis() - start < timeoutMs) {
-                Object exists = js.executeScript("return document.getElementById(arguments[0]) !== null;", id);
-                if (Boolean.TRUE.equals(exists)) return true;
-                sleep(100);
-            }
-        } catch (Exception ignored) { }
-        return false;
+    /**
+     * Test 9: Several products bought at once, checked against catalog prices and the order totals
+     * Adds the products in one batched call and reads cart and overview in one call each
+     */
+    @Test(
+        priority = 9,
+        description = "Multi-item cart and checkout totals",
+        dataProvider = "multiItemCartData",
+        dataProviderClass = TestDataProvider.class
+    )
+    public void testMultiItemCartTotals(String username, String password, List<Product> products) {
+        LoginActions loginActions = login.get();
+        InventoryActions inventoryActions = loginActions.login(username, password);
+        inventoryActions.verifyPageLoaded();
+        inventoryActions.addToCart(products);
+        inventoryActions.verifyCartBadge(String.valueOf(products.size()));
+
+        CartActions cartActions = inventoryActions.goToCart();
+        CartContents cart = cartActions.readCart();
+        assertTrue(cart.matches(products), String.format("Cart should hold %s but shows %s", products, cart));
+
+        CheckoutActions checkoutActions = cartActions.proceedToCheckout();
+        checkoutActions.fillCheckoutInformation("John", "Doe", "12345").clickContinue();
+        CartContents overview = checkoutActions.readOverview();
+        assertTrue(overview.matches(products), String.format("Overview should list %s but shows %s", products, overview));
+
+        BigDecimal expectedSubtotal = products.stream().map(Product::getPrice).reduce(BigDecimal.ZERO, BigDecimal::add);
+        BigDecimal expectedTax = expectedSubtotal.multiply(new BigDecimal("0.08")).setScale(2, RoundingMode.HALF_UP);
+        assertEquals(overview.getSubtotal().compareTo(expectedSubtotal), 0, "Item total should be " + expectedSubtotal + ", was " + overview.getSubtotal());
+        assertEquals(overview.getTax().compareTo(expectedTax), 0, "Tax should be " + expectedTax + ", was " + overview.getTax());
+        assertEquals(overview.getTotal().compareTo(expectedSubtotal.add(expectedTax)), 0,
+            "Total should be item total plus tax, was " + overview.getTotal());
     }
-    
-    private void sleep(long millis) {
-        try { Thread.sleep(millis); } catch (InterruptedException ignored) { }
+
+    /**
+     * Test 10: Checkout on an emulated slow or lossy network
+     * Step timings and latency budgets are filed under the profile, so each network gets its own history and thresholds
+     */
+    @Test(
+        priority = 10,
+        description = "Checkout flow under network condition profiles",
+        dataProvider = "networkProfileData",
+        dataProviderClass = TestDataProvider.class
+    )
+    public void testCheckoutUnderNetworkProfile(String profile) {
+        LoginActions loginActions = login.get();
+        ActionBackend.current().emulateNetwork(profile);
+
+        InventoryActions inventoryActions = loginActions.login("standard_user", "secret_sauce");
+        inventoryActions.verifyPageLoaded();
+        inventoryActions.addBackpackToCart();
+
+        CartActions cartActions = inventoryActions.goToCart();
+        cartActions.verifyCartItemPresent();
+        CheckoutActions checkoutActions = cartActions.proceedToCheckout();
+
+        ConfirmationActions confirmationActions = Slo.within("checkout.orderConfirmed", () -> {
+            ConfirmationActions confirmation = checkoutActions.completeCheckout("John", "Doe", "12345");
+            assertTrue(confirmation.isConfirmationDisplayed(), "Confirmation page should be displayed on " + profile);
+            return confirmation;
+        });
+        assertTrue(confirmationActions.getConfirmationMessage().contains("Thank you for your order"),
+            "Expected confirmation message on " + profile);
     }
 }
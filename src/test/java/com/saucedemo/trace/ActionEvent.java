@@ -0,0 +1,41 @@
+package com.saucedemo.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for one call of a method in com.saucedemo.actions
+ */
+@Name("saucedemo.Action")
+@Label("Page Action")
+@Category({"SauceDemo", "Actions"})
+@Description("One action method call, e.g. InventoryPage.addBackpackToCart")
+@StackTrace(false)
+public class ActionEvent extends Event {
+
+    @Label("Page")
+    public String page;
+
+    @Label("Action")
+    public String action;
+
+    @Label("Locator")
+    public String locator;
+
+    @Label("User")
+    public String user;
+
+    @Label("Test Invocation")
+    public String invocationId;
+
+    @Label("Outcome")
+    public String outcome;
+
+    @Label("WebDriver Commands")
+    @Description("Commands issued by the call, including nested actions")
+    public long commands;
+}
@@ -0,0 +1,129 @@
+package com.saucedemo.trace;
+
+import com.saucedemo.concurrent.ConcurrencySignals;
+import com.saucedemo.history.RunTimings;
+import com.saucedemo.session.NetworkConditions;
+import io.github.boykaframework.builders.Locator;
+
+import java.util.Locale;
+import java.util.function.Supplier;
+
+import static io.github.boykaframework.manager.ParallelSession.getSession;
+
+/**
+ * Wraps the body of an action method so every call is timed and recorded in the thread's {@link FlightRecorder},
+ * emitted as an {@link ActionEvent} for JDK Flight Recorder and added to the run's {@link RunTimings}
+ * (under "Page.action@profile" while the session's network is emulated, see {@link NetworkConditions})
+ * Nested calls (e.g. login calling enterUsername) are recorded with their depth.
+ * WebDriver commands issued inside are booked to the call in the {@link CommandLedger} and checked
+ * against {@link CommandBudgets}
+ *
+ * Every step carries the URL of the last page a readiness probe saw (read on the probe's own script call).
+ * Reading the live URL costs one WebDriver call per step, so by default only failed steps pay it:
+ * -Dtrace.url=failed (default), all, or off (no URL at all)
+ */
+public final class ActionStep {
+
+    private static final String CAPTURE_URL = urlMode(System.getProperty("trace.url", "failed"));
+    private static final ThreadLocal<int[]> DEPTH = ThreadLocal.withInitial(() -> new int[1]);
+
+    private ActionStep() {
+    }
+
+    /**
+     * Run an action that returns a value
+     * @param page the page object the action works on
+     * @param action the action method name
+     * @param locator the main element the action touches, or null
+     * @param body the action itself
+     * @return whatever the action returns
+     */
+    public static <T> T call(Object page, String action, Locator locator, Supplier<T> body) {
+        int[] depth = DEPTH.get();
+        int level = depth[0]++;
+        long startMillis = System.currentTimeMillis();
+        long startNanos = System.nanoTime();
+        // Cheap when no JFR recording is running: the event is never committed
+        ActionEvent event = new ActionEvent();
+        event.begin();
+        String pageName = page.getClass().getSimpleName();
+        CommandLedger.Frame commands = CommandLedger.enter(pageName + "." + action);
+        String outcome = "OK";
+        try {
+            T result = body.get();
+            CommandBudgets.check(commands);
+            return result;
+        } catch (RuntimeException | Error e) {
+            outcome = e.getClass().getSimpleName();
+            throw e;
+        } finally {
+            long nanos = System.nanoTime() - startNanos;
+            depth[0]--;
+            CommandLedger.exit(commands);
+            String locatorName = locator == null ? null : locator.getName();
+            TestInvocation invocation = TestInvocation.current();
+            if ("OK".equals(outcome)) {
+                RunTimings.record(invocation, NetworkConditions.keyFor(pageName + "." + action), nanos);
+                ConcurrencySignals.recordStep(nanos);
+            }
+            event.end();
+            if (event.shouldCommit()) {
+                event.page = pageName;
+                event.action = action;
+                event.locator = locatorName;
+                event.user = invocation == null ? null : invocation.getUser();
+                event.invocationId = invocation == null ? null : invocation.getId();
+                event.outcome = outcome;
+                event.commands = commands.getCommands();
+                event.commit();
+            }
+            FlightRecorder recorder = FlightRecorder.current();
+            recorder.record(startMillis, nanos, level, pageName + "." + action, locatorName, outcome, url(recorder, outcome));
+        }
+    }
+
+    /**
+     * Run an action that returns nothing
+     * @param page the page object the action works on
+     * @param action the action method name
+     * @param locator the main element the action touches, or null
+     * @param body the action itself
+     */
+    public static void run(Object page, String action, Locator locator, Runnable body) {
+        call(page, action, locator, () -> {
+            body.run();
+            return null;
+        });
+    }
+
+    // Helper methods
+
+    private static String url(FlightRecorder recorder, String outcome) {
+        if ("off".equals(CAPTURE_URL)) {
+            return null;
+        }
+        if ("all".equals(CAPTURE_URL) || !"OK".equals(outcome)) {
+            return currentUrl();
+        }
+        return recorder.lastUrl();
+    }
+
+    // true and false are kept from when capture was all or nothing
+    private static String urlMode(String value) {
+        String mode = value.trim().toLowerCase(Locale.ROOT);
+        return switch (mode) {
+            case "true" -> "all";
+            case "false" -> "off";
+            default -> mode;
+        };
+    }
+
+    private static String currentUrl() {
+        try {
+            // Tracing's own round-trip, not the action's
+            return CommandLedger.untracked(() -> getSession().getDriver().getCurrentUrl());
+        } catch (Exception e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.saucedemo.trace;
+
+/**
+ * Fails an action call that issued more WebDriver commands than its budget in command-budgets.json
+ * Kept apart from ordinary assertion failures so reports can point at the action to batch
+ */
+public class CommandBudgetExceeded extends AssertionError {
+
+    private final String action;
+    private final long commands;
+    private final long budget;
+
+    public CommandBudgetExceeded(String action, long commands, long budget) {
+        super(String.format("Command budget exceeded: %s issued %d WebDriver command(s), budget %d", action, commands, budget));
+        this.action = action;
+        this.commands = commands;
+        this.budget = budget;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public long getCommands() {
+        return commands;
+    }
+
+    public long getBudget() {
+        return budget;
+    }
+}
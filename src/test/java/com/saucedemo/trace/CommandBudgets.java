@@ -0,0 +1,65 @@
+package com.saucedemo.trace;
+
+import org.openqa.selenium.json.Json;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Most WebDriver commands an action call may issue, read from command-budgets.json on the test classpath
+ * Keys are "Page.action" as recorded by {@link ActionStep}, e.g. "InventoryPage.verifyCartBadge"; the count
+ * includes the actions it calls. Actions without an entry are not checked. -Dcommands.budgets picks another file.
+ */
+public final class CommandBudgets {
+
+    private static volatile Map<String, Long> budgets;
+
+    private CommandBudgets() {
+    }
+
+    /**
+     * Fail an action call that went over its budget
+     * @param frame the finished call
+     * @throws CommandBudgetExceeded if the call issued more commands than allowed
+     */
+    public static void check(CommandLedger.Frame frame) {
+        Long budget = budgets().get(frame.getAction());
+        if (budget != null && frame.getCommands() > budget) {
+            throw new CommandBudgetExceeded(frame.getAction(), frame.getCommands(), budget);
+        }
+    }
+
+    // Helper methods
+
+    private static Map<String, Long> budgets() {
+        if (budgets == null) {
+            synchronized (CommandBudgets.class) {
+                if (budgets == null) {
+                    budgets = load(System.getProperty("commands.budgets", "command-budgets.json"));
+                }
+            }
+        }
+        return budgets;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<String, Long> load(String file) {
+        try (InputStream in = CommandBudgets.class.getClassLoader().getResourceAsStream(file)) {
+            if (in == null) {
+                return Collections.emptyMap();
+            }
+            Map<String, Object> root = new Json().toType(new String(in.readAllBytes(), StandardCharsets.UTF_8), Json.MAP_TYPE);
+            Map<String, Long> parsed = new HashMap<>();
+            ((Map<String, Object>) root.getOrDefault("actions", Collections.emptyMap()))
+                .forEach((action, budget) -> parsed.put(action, ((Number) budget).longValue()));
+            return parsed;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not read " + file, e);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package com.saucedemo.trace;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.events.EventFiringDecorator;
+import org.openqa.selenium.support.events.WebDriverListener;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Set;
+
+/**
+ * WebDriver decorator listener that reports every command round-trip to the {@link CommandLedger}
+ * Covers calls on the driver, its elements, navigation, alerts and window handles. Calls answered locally
+ * (manage(), switchTo(), toString() ...) are not round-trips and are skipped. -Dcommands.count=false turns it off.
+ */
+public class CommandCounter implements WebDriverListener {
+
+    private static final boolean ENABLED = Boolean.parseBoolean(System.getProperty("commands.count", "true"));
+    private static final Set<String> LOCAL_CALLS = Set.of(
+        "manage", "navigate", "switchTo", "timeouts", "window", "logs", "getWrappedDriver", "getWrappedElement",
+        "getCapabilities", "getSessionId", "getId", "toString", "hashCode", "equals");
+    private static final ThreadLocal<Deque<Long>> STARTS = ThreadLocal.withInitial(ArrayDeque::new);
+
+    /**
+     * Wrap a driver so its commands are counted
+     * @param driver the session's driver
+     * @return the decorated driver, or the same driver when counting is off
+     */
+    public static WebDriver decorate(WebDriver driver) {
+        if (!ENABLED) {
+            return driver;
+        }
+        return new EventFiringDecorator<>(new CommandCounter()).decorate(driver);
+    }
+
+    @Override
+    public void beforeAnyCall(Object target, Method method, Object[] args) {
+        if (!LOCAL_CALLS.contains(method.getName())) {
+            STARTS.get().push(System.nanoTime());
+        }
+    }
+
+    @Override
+    public void afterAnyCall(Object target, Method method, Object[] args, Object result) {
+        finish(method);
+    }
+
+    @Override
+    public void onError(Object target, Method method, Object[] args, InvocationTargetException e) {
+        finish(method);
+    }
+
+    // Helper methods
+
+    private static void finish(Method method) {
+        Deque<Long> starts = STARTS.get();
+        if (LOCAL_CALLS.contains(method.getName()) || starts.isEmpty()) {
+            return;
+        }
+        CommandLedger.record(method.getName(), System.nanoTime() - starts.pop());
+    }
+}
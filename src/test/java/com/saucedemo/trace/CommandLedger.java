@@ -0,0 +1,178 @@
+package com.saucedemo.trace;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Books every WebDriver command and its wire time to the action and test invocation that issued it
+ * {@link ActionStep} opens a frame per action call; {@link CommandCounter} reports each command.
+ * A command counts once as "self" for the innermost action and towards the total of every enclosing action,
+ * so budgets cover everything an action does. Commands outside any action are booked to {@link #OUTSIDE}.
+ */
+public final class CommandLedger {
+
+    public static final String OUTSIDE = "(outside action)";
+
+    private static final ThreadLocal<Deque<Frame>> FRAMES = ThreadLocal.withInitial(ArrayDeque::new);
+    private static final ThreadLocal<boolean[]> PAUSED = ThreadLocal.withInitial(() -> new boolean[1]);
+    private static final Map<String, ActionTotals> ACTIONS = new ConcurrentHashMap<>();
+    private static final Map<String, long[]> INVOCATIONS = new ConcurrentHashMap<>();
+
+    private CommandLedger() {
+    }
+
+    /**
+     * One action call in progress; counters are shared with sub-steps forked from it
+     */
+    public static final class Frame {
+        private final String action;
+        private final AtomicLong commands = new AtomicLong();
+        private final AtomicLong wireNanos = new AtomicLong();
+
+        private Frame(String action) {
+            this.action = action;
+        }
+
+        public String getAction() {
+            return action;
+        }
+
+        /** Commands issued by this call and everything it called */
+        public long getCommands() {
+            return commands.get();
+        }
+
+        public long getWireNanos() {
+            return wireNanos.get();
+        }
+    }
+
+    /**
+     * Run-wide totals of one action, counting only the commands it issued itself
+     */
+    public static final class ActionTotals {
+        private final LongAdder calls = new LongAdder();
+        private final LongAdder commands = new LongAdder();
+        private final LongAdder wireNanos = new LongAdder();
+
+        public long getCalls() {
+            return calls.sum();
+        }
+
+        public long getCommands() {
+            return commands.sum();
+        }
+
+        public long getWireNanos() {
+            return wireNanos.sum();
+        }
+    }
+
+    /**
+     * Open a frame for an action call on this thread
+     * @param action e.g. "InventoryPage.verifyCartBadge"
+     * @return the frame, to pass to {@link #exit}
+     */
+    public static Frame enter(String action) {
+        Frame frame = new Frame(action);
+        FRAMES.get().push(frame);
+        ACTIONS.computeIfAbsent(action, key -> new ActionTotals()).calls.increment();
+        return frame;
+    }
+
+    /**
+     * Close the innermost frame of this thread
+     * @param frame the frame returned by {@link #enter}
+     */
+    public static void exit(Frame frame) {
+        FRAMES.get().remove(frame);
+    }
+
+    /**
+     * Book one command issued on this thread
+     * @param command the WebDriver method, e.g. "findElement"
+     * @param nanos time spent on the call
+     */
+    public static void record(String command, long nanos) {
+        if (PAUSED.get()[0]) {
+            return;
+        }
+        Deque<Frame> frames = FRAMES.get();
+        String action = frames.isEmpty() ? OUTSIDE : frames.peek().action;
+        ActionTotals totals = ACTIONS.computeIfAbsent(action, key -> new ActionTotals());
+        totals.commands.increment();
+        totals.wireNanos.add(nanos);
+        for (Frame frame : frames) {
+            frame.commands.incrementAndGet();
+            frame.wireNanos.addAndGet(nanos);
+        }
+        String invocationId = TestInvocation.currentId();
+        if (invocationId != null) {
+            long[] counts = INVOCATIONS.computeIfAbsent(invocationId, key -> new long[2]);
+            synchronized (counts) {
+                counts[0]++;
+                counts[1] += nanos;
+            }
+        }
+    }
+
+    /**
+     * Run something without booking its commands, e.g. tracing's own URL capture
+     * @param body the work
+     * @return what it returns
+     */
+    public static <T> T untracked(Supplier<T> body) {
+        boolean[] paused = PAUSED.get();
+        boolean was = paused[0];
+        paused[0] = true;
+        try {
+            return body.get();
+        } finally {
+            paused[0] = was;
+        }
+    }
+
+    /**
+     * Snapshot of this thread's open frames, to hand to a forked sub-step
+     * @return the frames, outermost last
+     */
+    public static List<Frame> currentFrames() {
+        return new ArrayList<>(FRAMES.get());
+    }
+
+    /**
+     * Make a forked thread book its commands to the caller's frames
+     * @param frames from {@link #currentFrames()}, or null to clear them
+     */
+    public static void bind(List<Frame> frames) {
+        Deque<Frame> own = FRAMES.get();
+        own.clear();
+        if (frames != null) {
+            own.addAll(frames);
+        }
+    }
+
+    /**
+     * Commands and wire time of an invocation so far, removing them from the ledger
+     * @param invocationId the invocation
+     * @return {commands, wire nanos}
+     */
+    public static long[] drainInvocation(String invocationId) {
+        long[] counts = INVOCATIONS.remove(invocationId);
+        return counts == null ? new long[2] : counts;
+    }
+
+    /**
+     * Run-wide totals per action
+     */
+    public static Map<String, ActionTotals> actions() {
+        return Map.copyOf(ACTIONS);
+    }
+}
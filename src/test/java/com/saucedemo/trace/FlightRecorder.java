@@ -0,0 +1,114 @@
+package com.saucedemo.trace;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Fixed-size in-memory ring buffer of the action steps run on one test thread
+ * Nothing is written unless {@link #dump(Path, String)} is called, which the listener only does for failed or retried tests
+ *
+ * Capacity per thread: -Dtrace.capacity (default 256 steps)
+ */
+public final class FlightRecorder {
+
+    private static final int CAPACITY = Integer.getInteger("trace.capacity", 256);
+    private static final ThreadLocal<FlightRecorder> CURRENT = ThreadLocal.withInitial(FlightRecorder::new);
+
+    // Parallel arrays so recording a step allocates nothing
+    private final long[] startMillis = new long[CAPACITY];
+    private final long[] durationNanos = new long[CAPACITY];
+    private final int[] depth = new int[CAPACITY];
+    private final String[] action = new String[CAPACITY];
+    private final String[] locator = new String[CAPACITY];
+    private final String[] outcome = new String[CAPACITY];
+    private final String[] url = new String[CAPACITY];
+    private long count;
+    private String lastUrl;
+
+    private FlightRecorder() {
+    }
+
+    /**
+     * Get the recorder of the current thread
+     * @return the thread's recorder
+     */
+    public static FlightRecorder current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Record one finished step, overwriting the oldest entry when full
+     */
+    public void record(long start, long nanos, int level, String actionName, String locatorName, String result, String pageUrl) {
+        int slot = (int) (count++ % CAPACITY);
+        startMillis[slot] = start;
+        durationNanos[slot] = nanos;
+        depth[slot] = level;
+        action[slot] = actionName;
+        locator[slot] = locatorName;
+        outcome[slot] = result;
+        url[slot] = pageUrl;
+    }
+
+    /**
+     * Note the URL of a page that just became ready, so later steps can be placed without a WebDriver call
+     * @param pageUrl location.href as read by the page's readiness probe
+     */
+    public void pageReached(String pageUrl) {
+        lastUrl = pageUrl;
+    }
+
+    /**
+     * URL of the last page that became ready on this thread
+     * @return the URL, or null before the first readiness probe of the test
+     */
+    public String lastUrl() {
+        return lastUrl;
+    }
+
+    /**
+     * Forget everything recorded so far
+     */
+    public void clear() {
+        count = 0;
+        lastUrl = null;
+    }
+
+    /**
+     * Write the buffered steps, oldest first, to a trace file
+     * @param file where to write
+     * @param header first line of the file, e.g. the test name and parameters
+     */
+    public void dump(Path file, String header) {
+        int size = (int) Math.min(count, CAPACITY);
+        int first = (int) (count - size);
+        long origin = size > 0 ? startMillis[first % CAPACITY] : 0;
+        try {
+            Files.createDirectories(file.getParent());
+            try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                out.write(header);
+                out.write(System.lineSeparator());
+                if (count > size) {
+                    out.write(String.format("(%d older step(s) dropped)%n", count - size));
+                }
+                for (int i = 0; i < size; i++) {
+                    int slot = (first + i) % CAPACITY;
+                    out.write(String.format("+%8.3fs %7.1fms %s%s [%s] %s %s%n",
+                        (startMillis[slot] - origin) / 1000.0,
+                        durationNanos[slot] / 1_000_000.0,
+                        "  ".repeat(depth[slot]),
+                        action[slot],
+                        locator[slot] == null ? "-" : locator[slot],
+                        outcome[slot],
+                        url[slot] == null ? "" : url[slot]));
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write trace " + file, e);
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.saucedemo.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for creating or clearing a browser session
+ */
+@Name("saucedemo.Session")
+@Label("Browser Session")
+@Category({"SauceDemo", "Session"})
+@Description("SessionManager.createSession or clearSession")
+@StackTrace(false)
+public class SessionEvent extends Event {
+
+    @Label("Operation")
+    public String operation;
+
+    @Label("Session Mode")
+    public String mode;
+
+    @Label("Config Key")
+    public String configKey;
+
+    @Label("Test Invocation")
+    public String invocationId;
+
+    @Label("Succeeded")
+    public boolean succeeded;
+}
@@ -0,0 +1,131 @@
+package com.saucedemo.trace;
+
+import org.testng.ITestResult;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Identity of one test invocation (method + data row + attempt), shared by all listeners
+ * The first listener to see a result creates it; the others get the same instance back
+ */
+public final class TestInvocation {
+
+    private static final String ATTRIBUTE = "testInvocation";
+    private static final AtomicLong SEQUENCE = new AtomicLong();
+    private static final ThreadLocal<TestInvocation> CURRENT = new ThreadLocal<>();
+
+    private final String id;
+    private final String testName;
+    private final String dataRow;
+    private volatile String user;
+
+    private TestInvocation(String id, String testName, String dataRow) {
+        this.id = id;
+        this.testName = testName;
+        this.dataRow = dataRow;
+    }
+
+    /**
+     * Get or create the invocation for a test result and make it current on this thread, from onTestStart
+     * @param result the TestNG result
+     * @return the invocation
+     */
+    public static TestInvocation start(ITestResult result) {
+        TestInvocation invocation = of(result);
+        CURRENT.set(invocation);
+        return invocation;
+    }
+
+    /**
+     * Get the invocation for a finished test result and stop running this thread as part of it,
+     * from onTestSuccess, onTestFailure and onTestSkipped, so the next setUp is not booked to it
+     * @param result the TestNG result
+     * @return the invocation
+     */
+    public static TestInvocation finish(ITestResult result) {
+        TestInvocation invocation = of(result);
+        if (CURRENT.get() == invocation) {
+            CURRENT.remove();
+        }
+        return invocation;
+    }
+
+    /**
+     * Get or create the invocation for a test result, without changing the thread's current invocation
+     * @param result the TestNG result
+     * @return the invocation
+     */
+    public static synchronized TestInvocation of(ITestResult result) {
+        TestInvocation invocation = (TestInvocation) result.getAttribute(ATTRIBUTE);
+        if (invocation == null) {
+            String testName = result.getTestClass().getRealClass().getSimpleName() + "." + result.getMethod().getMethodName();
+            invocation = new TestInvocation(
+                String.format("%06d-%s", SEQUENCE.incrementAndGet(), testName),
+                testName,
+                Arrays.deepToString(result.getParameters()));
+            result.setAttribute(ATTRIBUTE, invocation);
+        }
+        return invocation;
+    }
+
+    /**
+     * Run this thread as part of an invocation, e.g. a sub-step forked from the test thread
+     * @param invocation the invocation, or null to clear it
+     */
+    public static void bind(TestInvocation invocation) {
+        if (invocation == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(invocation);
+        }
+    }
+
+    /**
+     * Get the invocation running on this thread
+     * @return the invocation, or null outside of a test
+     */
+    public static TestInvocation current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Id of the invocation running on this thread
+     * @return the id, or null outside of a test
+     */
+    public static String currentId() {
+        TestInvocation invocation = CURRENT.get();
+        return invocation == null ? null : invocation.id;
+    }
+
+    /**
+     * Remember which user logged in during the current invocation
+     * @param user the username
+     */
+    public static void recordUser(String user) {
+        TestInvocation invocation = CURRENT.get();
+        if (invocation != null) {
+            invocation.user = user;
+        }
+    }
+
+    /** Unique per run, e.g. "000042-SauceDemoTestsRefactored.testEndToEndCheckout" */
+    public String getId() {
+        return id;
+    }
+
+    /** Test class and method, e.g. "SauceDemoTestsRefactored.testEndToEndCheckout" */
+    public String getTestName() {
+        return testName;
+    }
+
+    /** The data provider row, e.g. "[standard_user, secret_sauce]" */
+    public String getDataRow() {
+        return dataRow;
+    }
+
+    /** The user that logged in during this invocation, or null before login */
+    public String getUser() {
+        return user;
+    }
+}
@@ -0,0 +1,34 @@
+package com.saucedemo.trace;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * JFR event for a single iteration of a polling wait
+ */
+@Name("saucedemo.WaitPoll")
+@Label("Wait Poll")
+@Category({"SauceDemo", "Waits"})
+@Description("One check of a polling wait in com.saucedemo.actions.Waits")
+@StackTrace(false)
+public class WaitEvent extends Event {
+
+    @Label("Condition")
+    public String condition;
+
+    @Label("Target")
+    public String target;
+
+    @Label("Iteration")
+    public int iteration;
+
+    @Label("Satisfied")
+    public boolean satisfied;
+
+    @Label("Test Invocation")
+    public String invocationId;
+}
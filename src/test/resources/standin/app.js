@@ -0,0 +1,175 @@
+// Local stand-in for https://www.saucedemo.com
+// Same ids, classes and page flow as the real site, with state kept in localStorage like the original app.
+(function () {
+    'use strict';
+
+    var PASSWORD = 'secret_sauce';
+    var USERS = ['standard_user', 'locked_out_user', 'problem_user', 'performance_glitch_user', 'error_user', 'visual_user'];
+    var GLITCH_MS = 2500;
+    var TAX_RATE = 0.08;
+    var PRODUCTS = [
+        { id: 4, slug: 'sauce-labs-backpack', name: 'Sauce Labs Backpack', price: 29.99 },
+        { id: 0, slug: 'sauce-labs-bike-light', name: 'Sauce Labs Bike Light', price: 9.99 },
+        { id: 1, slug: 'sauce-labs-bolt-t-shirt', name: 'Sauce Labs Bolt T-Shirt', price: 15.99 },
+        { id: 5, slug: 'sauce-labs-fleece-jacket', name: 'Sauce Labs Fleece Jacket', price: 49.99 },
+        { id: 2, slug: 'sauce-labs-onesie', name: 'Sauce Labs Onesie', price: 7.99 },
+        { id: 3, slug: 'test.allthethings()-t-shirt-(red)', name: 'Test.allTheThings() T-Shirt (Red)', price: 15.99 }
+    ];
+
+    function user() { return localStorage.getItem('session-username'); }
+    function cart() { return JSON.parse(localStorage.getItem('cart-contents') || '[]'); }
+    function saveCart(ids) { localStorage.setItem('cart-contents', JSON.stringify(ids)); }
+    function product(id) { return PRODUCTS.filter(function (p) { return p.id === id; })[0]; }
+    function $(selector) { return document.querySelector(selector); }
+    function go(page) { window.location.href = page; }
+    function money(value) { return '$' + value.toFixed(2); }
+
+    function showError(message) {
+        $('.error-message-container').innerHTML = '<h3 data-test="error">' + message + '</h3>';
+    }
+
+    function renderBadge() {
+        var link = $('.shopping_cart_link');
+        var count = cart().length;
+        link.innerHTML = count > 0 ? '<span class="shopping_cart_badge">' + count + '</span>' : '';
+    }
+
+    function cartRows(container, withRemove) {
+        container.innerHTML = cart().map(function (id) {
+            var p = product(id);
+            return '<div class="cart_item">'
+                + '<div class="cart_quantity">1</div>'
+                + '<div class="inventory_item_name">' + p.name + '</div>'
+                + '<div class="inventory_item_price">' + money(p.price) + '</div>'
+                + (withRemove ? '<button id="remove-' + p.slug + '" data-id="' + p.id + '">Remove</button>' : '')
+                + '</div>';
+        }).join('');
+    }
+
+    function login() {
+        $('#login-form').addEventListener('submit', function (event) {
+            event.preventDefault();
+            var name = $('#user-name').value;
+            var password = $('#password').value;
+            if (!name) { return showError('Epic sadface: Username is required'); }
+            if (!password) { return showError('Epic sadface: Password is required'); }
+            if (USERS.indexOf(name) < 0 || password !== PASSWORD) {
+                return showError('Epic sadface: Username and password do not match any user in this service');
+            }
+            if (name === 'locked_out_user') {
+                return showError('Epic sadface: Sorry, this user has been locked out.');
+            }
+            localStorage.setItem('session-username', name);
+            saveCart([]);
+            go('inventory.html');
+        });
+    }
+
+    function inventory() {
+        var list = $('.inventory_list');
+        function render() {
+            var inCart = cart();
+            list.innerHTML = PRODUCTS.map(function (p) {
+                var added = inCart.indexOf(p.id) >= 0;
+                return '<div class="inventory_item">'
+                    + '<div class="inventory_item_name">' + p.name + '</div>'
+                    + '<div class="inventory_item_price">' + money(p.price) + '</div>'
+                    + '<button id="' + (added ? 'remove-' : 'add-to-cart-') + p.slug + '" data-id="' + p.id + '">'
+                    + (added ? 'Remove' : 'Add to cart') + '</button>'
+                    + '</div>';
+            }).join('');
+            renderBadge();
+        }
+        list.addEventListener('click', function (event) {
+            if (event.target.tagName !== 'BUTTON') { return; }
+            var id = Number(event.target.getAttribute('data-id'));
+            var ids = cart();
+            var index = ids.indexOf(id);
+            if (index >= 0) {
+                // problem_user cannot take items back out of the cart
+                if (user() !== 'problem_user') { ids.splice(index, 1); }
+            } else {
+                ids.push(id);
+            }
+            saveCart(ids);
+            render();
+        });
+        if (user() === 'performance_glitch_user') {
+            setTimeout(render, GLITCH_MS);
+        } else {
+            render();
+        }
+    }
+
+    function cartPage() {
+        function render() {
+            cartRows($('.cart_list'), true);
+            renderBadge();
+        }
+        $('.cart_list').addEventListener('click', function (event) {
+            if (event.target.tagName !== 'BUTTON') { return; }
+            var id = Number(event.target.getAttribute('data-id'));
+            saveCart(cart().filter(function (other) { return other !== id; }));
+            render();
+        });
+        $('#continue-shopping').onclick = function () { go('inventory.html'); };
+        $('#checkout').onclick = function () { go('checkout-step-one.html'); };
+        render();
+    }
+
+    function checkoutStepOne() {
+        renderBadge();
+        if (user() === 'problem_user') {
+            // Same bug as the real site: typing a last name overwrites the first name
+            $('#last-name').addEventListener('input', function (event) {
+                $('#first-name').value = event.target.value.slice(-1);
+                event.target.value = '';
+            });
+        }
+        $('#cancel').onclick = function () { go('cart.html'); };
+        $('#checkout-form').addEventListener('submit', function (event) {
+            event.preventDefault();
+            if (!$('#first-name').value) { return showError('Error: First Name is required'); }
+            if (!$('#last-name').value) { return showError('Error: Last Name is required'); }
+            if (!$('#postal-code').value) { return showError('Error: Postal Code is required'); }
+            go('checkout-step-two.html');
+        });
+    }
+
+    function checkoutStepTwo() {
+        renderBadge();
+        cartRows($('.cart_list'), false);
+        var subtotal = cart().reduce(function (sum, id) { return sum + product(id).price; }, 0);
+        var tax = Math.round(subtotal * TAX_RATE * 100) / 100;
+        $('.summary_subtotal_label').textContent = 'Item total: ' + money(subtotal);
+        $('.summary_tax_label').textContent = 'Tax: ' + money(tax);
+        $('.summary_total_label').textContent = 'Total: ' + money(subtotal + tax);
+        $('#cancel').onclick = function () { go('inventory.html'); };
+        $('#finish').onclick = function () {
+            if (user() === 'error_user') {
+                return showError('Error: something went wrong finishing your order');
+            }
+            saveCart([]);
+            go('checkout-complete.html');
+        };
+    }
+
+    function checkoutComplete() {
+        renderBadge();
+        $('#back-to-products').onclick = function () { go('inventory.html'); };
+    }
+
+    var page = document.body.getAttribute('data-page');
+    if (page !== 'login' && !user()) {
+        // Real site sends anonymous visitors back to the login page
+        return go('index.html');
+    }
+    ({
+        'login': login,
+        'inventory': inventory,
+        'cart': cartPage,
+        'checkout-step-one': checkoutStepOne,
+        'checkout-step-two': checkoutStepTwo,
+        'checkout-complete': checkoutComplete
+    })[page]();
+})();